@@ -21,7 +21,6 @@ import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionError;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.convert.value.ConvertibleValues;
-import io.micronaut.core.io.IOUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.MediaType;
@@ -33,16 +32,15 @@ import io.micronaut.http.codec.MediaTypeCodec;
 import io.micronaut.http.codec.MediaTypeCodecRegistry;
 import io.micronaut.json.codec.MapperMediaTypeCodec;
 import io.micronaut.json.tree.JsonNode;
+import io.micronaut.servlet.http.body.TextBodyDecoder;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.lang.reflect.Array;
 import java.util.Collections;
 import java.util.List;
@@ -126,9 +124,9 @@ final class PojaBodyBinder<T> implements AnnotatedRequestArgumentBinder<Body, T>
     private BindingResult<CharSequence> bindCharSequence(PojaHttpRequest<?, ?, ?> pojaHttpRequest, HttpRequest<?> source) {
         return pojaHttpRequest.consumeBody(inputStream -> {
             try {
-                String content = IOUtils.readText(new BufferedReader(new InputStreamReader(
-                    inputStream, source.getCharacterEncoding()
-                )));
+                String content = TextBodyDecoder.readText(
+                    inputStream, source.getContentLength(), source.getCharacterEncoding()
+                );
                 LOG.trace("Read content of length {} from function body", content.length());
                 return () -> Optional.of(content);
             } catch (IOException e) {
@@ -23,7 +23,6 @@ import io.micronaut.core.convert.value.ConvertibleMultiValuesMap;
 import io.micronaut.core.convert.value.ConvertibleValues;
 import io.micronaut.core.convert.value.MutableConvertibleValues;
 import io.micronaut.core.convert.value.MutableConvertibleValuesMap;
-import io.micronaut.core.io.IOUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.MediaType;
@@ -38,6 +37,7 @@ import io.micronaut.http.poja.util.QueryStringDecoder;
 import io.micronaut.servlet.http.ServletExchange;
 import io.micronaut.servlet.http.ServletHttpRequest;
 import io.micronaut.servlet.http.ServletHttpResponse;
+import io.micronaut.servlet.http.body.TextBodyDecoder;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -143,9 +143,7 @@ public abstract class PojaHttpRequest<B, REQ, RES>
     protected ConvertibleMultiValues<CharSequence> getFormData() {
         return consumeBody(inputStream -> {
             try {
-                String content = IOUtils.readText(new BufferedReader(new InputStreamReader(
-                    inputStream, getCharacterEncoding()
-                )));
+                String content = TextBodyDecoder.readText(inputStream, getContentLength(), getCharacterEncoding());
                 return parseFormData(content);
             } catch (IOException e) {
                 throw new RuntimeException("Unable to parse body", e);
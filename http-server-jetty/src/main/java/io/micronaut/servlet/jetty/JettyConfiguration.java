@@ -33,6 +33,7 @@ import io.micronaut.core.annotation.Nullable;
 import org.eclipse.jetty.server.RequestLogWriter;
 import org.eclipse.jetty.server.SecureRequestCustomizer;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
@@ -47,12 +48,22 @@ import java.util.Optional;
 @Replaces(HttpServerConfiguration.class)
 public class JettyConfiguration extends HttpServerConfiguration {
 
+    /**
+     * The default value for the native handler.
+     *
+     * @since 4.12.0
+     */
+    public static final boolean DEFAULT_NATIVE_HANDLER = false;
+
     @ConfigurationBuilder
     protected HttpConfiguration httpConfiguration = new HttpConfiguration();
     private final JettyRequestLog requestLog;
 
     private final MultipartConfiguration multipartConfiguration;
+    private final JettyConnectorConfiguration connectorConfiguration;
+    private final JettyByteBufferPoolConfiguration byteBufferPoolConfiguration;
     private Map<String, String> initParameters;
+    private boolean nativeHandler = DEFAULT_NATIVE_HANDLER;
 
     /**
      * Default constructor.
@@ -65,11 +76,29 @@ public class JettyConfiguration extends HttpServerConfiguration {
     /**
      * Default constructor.
      * @param multipartConfiguration The multipart configuration.
+     * @param requestLog The request log configuration.
      */
-    @Inject
     public JettyConfiguration(@Nullable MultipartConfiguration multipartConfiguration, @Nullable JettyRequestLog requestLog) {
+        this(multipartConfiguration, requestLog, null, null);
+    }
+
+    /**
+     * Default constructor.
+     * @param multipartConfiguration The multipart configuration.
+     * @param requestLog The request log configuration.
+     * @param connectorConfiguration The connector configuration.
+     * @param byteBufferPoolConfiguration The byte buffer pool configuration.
+     * @since 4.12.0
+     */
+    @Inject
+    public JettyConfiguration(@Nullable MultipartConfiguration multipartConfiguration,
+                              @Nullable JettyRequestLog requestLog,
+                              @Nullable JettyConnectorConfiguration connectorConfiguration,
+                              @Nullable JettyByteBufferPoolConfiguration byteBufferPoolConfiguration) {
         this.multipartConfiguration = multipartConfiguration;
         this.requestLog = requestLog;
+        this.connectorConfiguration = connectorConfiguration != null ? connectorConfiguration : new JettyConnectorConfiguration();
+        this.byteBufferPoolConfiguration = byteBufferPoolConfiguration != null ? byteBufferPoolConfiguration : new JettyByteBufferPoolConfiguration();
     }
 
     /**
@@ -93,6 +122,22 @@ public class JettyConfiguration extends HttpServerConfiguration {
         return Optional.ofNullable(requestLog);
     }
 
+    /**
+     * @return The configuration applied to every server connector
+     * @since 4.12.0
+     */
+    public @NonNull JettyConnectorConfiguration getConnector() {
+        return connectorConfiguration;
+    }
+
+    /**
+     * @return The configuration of the byte buffer pool shared by the connectors
+     * @since 4.12.0
+     */
+    public @NonNull JettyByteBufferPoolConfiguration getByteBufferPool() {
+        return byteBufferPoolConfiguration;
+    }
+
     /**
      * @return The servlet init parameters
      */
@@ -116,6 +161,26 @@ public class JettyConfiguration extends HttpServerConfiguration {
         }
     }
 
+    /**
+     * @return Whether Micronaut requests are handled without going through the servlet mapping and filter chain
+     * @since 4.12.0
+     */
+    public boolean isNativeHandler() {
+        return nativeHandler;
+    }
+
+    /**
+     * Whether to handle Micronaut requests with a Jetty handler that runs inside the servlet context, skipping
+     * servlet mapping, the filter chain and the servlet holder. Requests for servlets and filters registered by
+     * the application, and multipart requests, still go through the servlet handler. Default value ({@value #DEFAULT_NATIVE_HANDLER}).
+     *
+     * @param nativeHandler True to enable the native handler
+     * @since 4.12.0
+     */
+    public void setNativeHandler(boolean nativeHandler) {
+        this.nativeHandler = nativeHandler;
+    }
+
     /**
      * The default connection pool configuration.
      */
@@ -170,4 +235,284 @@ public class JettyConfiguration extends HttpServerConfiguration {
             this.pattern = pattern;
         }
     }
+
+    /**
+     * Configuration applied to every Jetty server connector. Unset values keep the Jetty defaults.
+     *
+     * @since 4.12.0
+     */
+    @ConfigurationProperties("connector")
+    public static class JettyConnectorConfiguration {
+
+        private int acceptors = -1;
+        private int selectors = -1;
+        private int acceptQueueSize;
+        private boolean reuseAddress = true;
+        private boolean reusePort;
+        private boolean tcpNoDelay = true;
+        private int receiveBufferSize = -1;
+        private int sendBufferSize = -1;
+        private Duration idleTimeout;
+
+        /**
+         * @return The number of acceptor threads
+         */
+        public int getAcceptors() {
+            return acceptors;
+        }
+
+        /**
+         * The number of acceptor threads. Defaults to {@code -1}, which lets Jetty pick a number based on the available processors.
+         *
+         * @param acceptors The number of acceptors
+         */
+        public void setAcceptors(int acceptors) {
+            this.acceptors = acceptors;
+        }
+
+        /**
+         * @return The number of selector threads
+         */
+        public int getSelectors() {
+            return selectors;
+        }
+
+        /**
+         * The number of selector threads. Defaults to {@code -1}, which lets Jetty pick a number based on the available processors.
+         *
+         * @param selectors The number of selectors
+         */
+        public void setSelectors(int selectors) {
+            this.selectors = selectors;
+        }
+
+        /**
+         * @return The size of the accept queue
+         */
+        public int getAcceptQueueSize() {
+            return acceptQueueSize;
+        }
+
+        /**
+         * The size of the queue of connections waiting to be accepted. Defaults to {@code 0}, which uses the operating system default.
+         *
+         * @param acceptQueueSize The accept queue size
+         */
+        public void setAcceptQueueSize(int acceptQueueSize) {
+            this.acceptQueueSize = acceptQueueSize;
+        }
+
+        /**
+         * @return Whether the server socket sets {@code SO_REUSEADDR}
+         */
+        public boolean isReuseAddress() {
+            return reuseAddress;
+        }
+
+        /**
+         * Whether the server socket sets {@code SO_REUSEADDR} (defaults to {@code true}).
+         *
+         * @param reuseAddress True if it does
+         */
+        public void setReuseAddress(boolean reuseAddress) {
+            this.reuseAddress = reuseAddress;
+        }
+
+        /**
+         * @return Whether the server socket sets {@code SO_REUSEPORT}
+         */
+        public boolean isReusePort() {
+            return reusePort;
+        }
+
+        /**
+         * Whether the server socket sets {@code SO_REUSEPORT} (defaults to {@code false}).
+         *
+         * @param reusePort True if it does
+         */
+        public void setReusePort(boolean reusePort) {
+            this.reusePort = reusePort;
+        }
+
+        /**
+         * @return Whether accepted connections set {@code TCP_NODELAY}
+         */
+        public boolean isTcpNoDelay() {
+            return tcpNoDelay;
+        }
+
+        /**
+         * Whether accepted connections set {@code TCP_NODELAY} (defaults to {@code true}).
+         *
+         * @param tcpNoDelay True if they do
+         */
+        public void setTcpNoDelay(boolean tcpNoDelay) {
+            this.tcpNoDelay = tcpNoDelay;
+        }
+
+        /**
+         * @return The {@code SO_RCVBUF} size of accepted connections
+         */
+        public int getReceiveBufferSize() {
+            return receiveBufferSize;
+        }
+
+        /**
+         * The {@code SO_RCVBUF} size of accepted connections. Defaults to {@code -1}, which uses the operating system default.
+         *
+         * @param receiveBufferSize The receive buffer size
+         */
+        public void setReceiveBufferSize(int receiveBufferSize) {
+            this.receiveBufferSize = receiveBufferSize;
+        }
+
+        /**
+         * @return The {@code SO_SNDBUF} size of accepted connections
+         */
+        public int getSendBufferSize() {
+            return sendBufferSize;
+        }
+
+        /**
+         * The {@code SO_SNDBUF} size of accepted connections. Defaults to {@code -1}, which uses the operating system default.
+         *
+         * @param sendBufferSize The send buffer size
+         */
+        public void setSendBufferSize(int sendBufferSize) {
+            this.sendBufferSize = sendBufferSize;
+        }
+
+        /**
+         * @return The idle timeout of connections
+         */
+        public Optional<Duration> getIdleTimeout() {
+            return Optional.ofNullable(idleTimeout);
+        }
+
+        /**
+         * The time a connection may be idle before it is closed. Defaults to the Jetty default of 30 seconds.
+         *
+         * @param idleTimeout The idle timeout
+         */
+        public void setIdleTimeout(@Nullable Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+    }
+
+    /**
+     * Configuration of the {@link org.eclipse.jetty.io.ArrayByteBufferPool} shared by all connectors. Whether heap or direct
+     * buffers are used is configured with {@code use-input-direct-byte-buffers} and {@code use-output-direct-byte-buffers}
+     * of the HTTP configuration.
+     *
+     * @since 4.12.0
+     */
+    @ConfigurationProperties("byte-buffer-pool")
+    public static class JettyByteBufferPoolConfiguration {
+
+        private int minCapacity;
+        private int factor = -1;
+        private int maxCapacity = -1;
+        private int maxBucketSize = -1;
+        private long maxHeapMemory;
+        private long maxDirectMemory;
+
+        /**
+         * @return The minimum capacity of a pooled buffer
+         */
+        public int getMinCapacity() {
+            return minCapacity;
+        }
+
+        /**
+         * The minimum capacity of a pooled buffer in bytes (defaults to {@code 0}).
+         *
+         * @param minCapacity The minimum capacity
+         */
+        public void setMinCapacity(int minCapacity) {
+            this.minCapacity = minCapacity;
+        }
+
+        /**
+         * @return The capacity step between buckets
+         */
+        public int getFactor() {
+            return factor;
+        }
+
+        /**
+         * The capacity step between buckets in bytes. Defaults to {@code -1}, which uses the Jetty default of 4KB.
+         *
+         * @param factor The factor
+         */
+        public void setFactor(int factor) {
+            this.factor = factor;
+        }
+
+        /**
+         * @return The maximum capacity of a pooled buffer
+         */
+        public int getMaxCapacity() {
+            return maxCapacity;
+        }
+
+        /**
+         * The maximum capacity of a pooled buffer in bytes. Larger buffers are not pooled. Defaults to {@code -1}, which
+         * uses the Jetty default of 64KB.
+         *
+         * @param maxCapacity The maximum capacity
+         */
+        public void setMaxCapacity(int maxCapacity) {
+            this.maxCapacity = maxCapacity;
+        }
+
+        /**
+         * @return The maximum number of buffers in each bucket
+         */
+        public int getMaxBucketSize() {
+            return maxBucketSize;
+        }
+
+        /**
+         * The maximum number of buffers in each bucket. Defaults to {@code -1}, which does not limit them.
+         *
+         * @param maxBucketSize The maximum bucket size
+         */
+        public void setMaxBucketSize(int maxBucketSize) {
+            this.maxBucketSize = maxBucketSize;
+        }
+
+        /**
+         * @return The maximum memory retained by pooled heap buffers
+         */
+        public long getMaxHeapMemory() {
+            return maxHeapMemory;
+        }
+
+        /**
+         * The maximum memory in bytes retained by pooled heap buffers. Defaults to {@code 0}, which uses a quarter of the
+         * maximum heap size, {@code -1} does not limit it.
+         *
+         * @param maxHeapMemory The maximum heap memory
+         */
+        public void setMaxHeapMemory(long maxHeapMemory) {
+            this.maxHeapMemory = maxHeapMemory;
+        }
+
+        /**
+         * @return The maximum memory retained by pooled direct buffers
+         */
+        public long getMaxDirectMemory() {
+            return maxDirectMemory;
+        }
+
+        /**
+         * The maximum memory in bytes retained by pooled direct buffers. Defaults to {@code 0}, which uses a quarter of the
+         * maximum direct memory size, {@code -1} does not limit it.
+         *
+         * @param maxDirectMemory The maximum direct memory
+         */
+        public void setMaxDirectMemory(long maxDirectMemory) {
+            this.maxDirectMemory = maxDirectMemory;
+        }
+    }
 }
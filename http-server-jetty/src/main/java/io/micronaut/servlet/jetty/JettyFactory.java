@@ -32,22 +32,31 @@ import io.micronaut.http.ssl.SslConfiguration;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.scheduling.LoomSupport;
 import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.servlet.engine.BoundedVirtualThreadExecutor;
 import io.micronaut.servlet.engine.MicronautServletConfiguration;
+import io.micronaut.servlet.engine.server.ServletHttp2Configuration;
+import io.micronaut.servlet.engine.server.ServletPortExecutorConfiguration;
 import io.micronaut.servlet.engine.server.ServletServerFactory;
 import io.micronaut.servlet.engine.server.ServletStaticResourceConfiguration;
+import io.micronaut.servlet.engine.server.ServletTlsConfiguration;
 import io.micronaut.web.router.Router;
 import jakarta.inject.Singleton;
 import jakarta.servlet.ServletContainerInitializer;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
 import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.http2.server.AbstractHTTP2ServerConnectionFactory;
 import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
 import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
+import org.eclipse.jetty.io.ArrayByteBufferPool;
+import org.eclipse.jetty.io.ByteBufferPool;
 import org.eclipse.jetty.server.ConnectionFactory;
 import org.eclipse.jetty.server.CustomRequestLog;
 import org.eclipse.jetty.server.HttpConfiguration;
@@ -58,9 +67,12 @@ import org.eclipse.jetty.server.SslConnectionFactory;
 import org.eclipse.jetty.server.handler.ContextHandler;
 import org.eclipse.jetty.server.handler.HandlerList;
 import org.eclipse.jetty.server.handler.ResourceHandler;
+import org.eclipse.jetty.server.handler.StatisticsHandler;
 import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.util.BlockingArrayQueue;
 import org.eclipse.jetty.util.resource.Resource;
 import org.eclipse.jetty.util.resource.ResourceCollection;
+import org.eclipse.jetty.unixdomain.server.UnixDomainServerConnector;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
 
@@ -75,6 +87,9 @@ public class JettyFactory extends ServletServerFactory {
 
     public static final String RESOURCE_BASE = "resourceBase";
 
+    private static final int PORT_CONNECTOR_THREADS = 2;
+    private static final int PORT_THREAD_IDLE_TIMEOUT = 60000;
+
     private final JettyConfiguration jettyConfiguration;
     private final Router router;
 
@@ -159,6 +174,15 @@ public class JettyFactory extends ServletServerFactory {
 
         final ServletContextHandler contextHandler = newJettyContext(server, contextPath);
         configureServletInitializer(server, contextHandler, servletContainerInitializers);
+        if (configuration.getShutdownTimeout().isPresent()) {
+            // counts every request, including static resources and other servlets, for the graceful stop
+            StatisticsHandler statisticsHandler = new StatisticsHandler();
+            statisticsHandler.setHandler(server.getHandler());
+            server.setHandler(statisticsHandler);
+        }
+        if (jettyConfiguration.isNativeHandler()) {
+            contextHandler.insertHandler(new JettyNativeHandler(applicationContext));
+        }
 
         final SslConfiguration sslConfiguration = getSslConfiguration();
         ServerConnector https = null;
@@ -168,6 +192,9 @@ public class JettyFactory extends ServletServerFactory {
         }
         final ServerConnector http = newHttpConnector(server, host, port);
         configureConnectors(server, http, https);
+        getUnixSocketConfiguration().ifPresent(unixSocket ->
+            server.addConnector(newUnixDomainConnector(server, unixSocket.getPath()))
+        );
 
         return server;
     }
@@ -185,10 +212,10 @@ public class JettyFactory extends ServletServerFactory {
         HttpServerConfiguration serverConfiguration = getServerConfiguration();
         final ServerConnector http;
         if (serverConfiguration.getHttpVersion() == io.micronaut.http.HttpVersion.HTTP_2_0) {
-            HTTP2CServerConnectionFactory h2c = new HTTP2CServerConnectionFactory(httpConfig);
-            http = new ServerConnector(server, http11, h2c);
+            HTTP2CServerConnectionFactory h2c = configureHttp2(new HTTP2CServerConnectionFactory(httpConfig));
+            http = newServerConnector(server, http11, h2c);
         } else {
-            http = new ServerConnector(server, http11);
+            http = newServerConnector(server, http11);
         }
 
         http.setPort(port);
@@ -196,6 +223,99 @@ public class JettyFactory extends ServletServerFactory {
         return http;
     }
 
+    /**
+     * Create the connector that listens on a Unix domain socket. It is added after the TCP connectors,
+     * which keep determining the server URI.
+     *
+     * @param server The server
+     * @param path   The path of the socket file
+     * @return The Unix domain socket connector
+     * @since 4.12.0
+     */
+    protected @NonNull UnixDomainServerConnector newUnixDomainConnector(@NonNull Server server, @NonNull Path path) {
+        HttpConfiguration httpConfig = jettyConfiguration.getHttpConfiguration();
+        HttpConnectionFactory http11 = new HttpConnectionFactory(httpConfig);
+        ConnectionFactory[] factories;
+        if (getServerConfiguration().getHttpVersion() == io.micronaut.http.HttpVersion.HTTP_2_0) {
+            factories = new ConnectionFactory[] {http11, configureHttp2(new HTTP2CServerConnectionFactory(httpConfig))};
+        } else {
+            factories = new ConnectionFactory[] {http11};
+        }
+        JettyConfiguration.JettyConnectorConfiguration config = jettyConfiguration.getConnector();
+        UnixDomainServerConnector connector = new UnixDomainServerConnector(server, config.getAcceptors(), config.getSelectors(), factories);
+        connector.setUnixDomainPath(path);
+        connector.setAcceptQueueSize(config.getAcceptQueueSize());
+        connector.setAcceptedReceiveBufferSize(config.getReceiveBufferSize());
+        connector.setAcceptedSendBufferSize(config.getSendBufferSize());
+        config.getIdleTimeout().ifPresent(idleTimeout -> connector.setIdleTimeout(idleTimeout.toMillis()));
+        return connector;
+    }
+
+    /**
+     * Apply the HTTP/2 configuration to an HTTP/2 connection factory.
+     *
+     * @param factory The connection factory
+     * @param <T>     The type of the connection factory
+     * @return The connection factory
+     * @since 4.12.0
+     */
+    protected <T extends AbstractHTTP2ServerConnectionFactory> T configureHttp2(@NonNull T factory) {
+        ServletHttp2Configuration http2 = getHttp2Configuration();
+        http2.getMaxConcurrentStreams().ifPresent(factory::setMaxConcurrentStreams);
+        http2.getInitialStreamWindowSize().ifPresent(factory::setInitialStreamRecvWindow);
+        http2.getInitialConnectionWindowSize().ifPresent(factory::setInitialSessionRecvWindow);
+        http2.getMaxFrameSize().ifPresent(factory::setMaxFrameLength);
+        http2.getHeaderTableSize().ifPresent(factory::setMaxDynamicTableSize);
+        http2.getStreamIdleTimeout().ifPresent(timeout -> factory.setStreamIdleTimeout(timeout.toMillis()));
+        return factory;
+    }
+
+    /**
+     * Create a server connector with the configured acceptors, selectors and socket options.
+     *
+     * @param server    The server
+     * @param factories The connection factories
+     * @return The server connector
+     * @since 4.12.0
+     */
+    protected @NonNull ServerConnector newServerConnector(@NonNull Server server, @NonNull ConnectionFactory... factories) {
+        JettyConfiguration.JettyConnectorConfiguration config = jettyConfiguration.getConnector();
+        return newServerConnector(server, null, config.getAcceptors(), config.getSelectors(), factories);
+    }
+
+    private ServerConnector newServerConnector(Server server, @Nullable Executor executor, int acceptors, int selectors, ConnectionFactory... factories) {
+        JettyConfiguration.JettyConnectorConfiguration config = jettyConfiguration.getConnector();
+        ServerConnector connector = new ServerConnector(server, executor, null, null, acceptors, selectors, factories);
+        connector.setAcceptQueueSize(config.getAcceptQueueSize());
+        connector.setReuseAddress(config.isReuseAddress());
+        connector.setReusePort(config.isReusePort());
+        connector.setAcceptedTcpNoDelay(config.isTcpNoDelay());
+        connector.setAcceptedReceiveBufferSize(config.getReceiveBufferSize());
+        connector.setAcceptedSendBufferSize(config.getSendBufferSize());
+        config.getIdleTimeout().ifPresent(idleTimeout -> connector.setIdleTimeout(idleTimeout.toMillis()));
+        return connector;
+    }
+
+    /**
+     * The byte buffer pool shared by all connectors. Its {@code heapMemory} and {@code directMemory}
+     * report how much memory the pool retains.
+     *
+     * @return The byte buffer pool
+     * @since 4.12.0
+     */
+    @Singleton
+    protected ArrayByteBufferPool jettyByteBufferPool() {
+        JettyConfiguration.JettyByteBufferPoolConfiguration config = jettyConfiguration.getByteBufferPool();
+        return new ArrayByteBufferPool(
+            config.getMinCapacity(),
+            config.getFactor(),
+            config.getMaxCapacity(),
+            config.getMaxBucketSize(),
+            config.getMaxHeapMemory(),
+            config.getMaxDirectMemory()
+        );
+    }
+
     /**
      * Create the HTTPS connector.
      *
@@ -256,6 +376,13 @@ public class JettyFactory extends ServletServerFactory {
         });
         trustStore.getProvider().ifPresent(sslContextFactory::setTrustStoreProvider);
 
+        configureSessionTickets();
+        ServletTlsConfiguration tls = getTlsConfiguration();
+        tls.getSessionCacheSize().ifPresent(sslContextFactory::setSslSessionCacheSize);
+        tls.getSessionTimeout().ifPresent(timeout -> sslContextFactory.setSslSessionTimeout((int) timeout.toSeconds()));
+        // swaps the SSLContext, connections that are open keep their session
+        watchKeyStores(() -> sslContextFactory.reload(factory -> { }));
+
         HttpConfiguration httpsConfig = new HttpConfiguration(httpConfig);
         httpsConfig.addCustomizer(jettySslConfiguration);
 
@@ -264,7 +391,7 @@ public class JettyFactory extends ServletServerFactory {
 
         if (getServerConfiguration().getHttpVersion() == io.micronaut.http.HttpVersion.HTTP_2_0) {
             // The ConnectionFactory for HTTP/2.
-            HTTP2ServerConnectionFactory h2 = new HTTP2ServerConnectionFactory(httpConfig);
+            HTTP2ServerConnectionFactory h2 = configureHttp2(new HTTP2ServerConnectionFactory(httpConfig));
             // The ALPN ConnectionFactory.
             ALPNServerConnectionFactory alpn = new ALPNServerConnectionFactory();
             // The default protocol to use in case there is no negotiation.
@@ -272,10 +399,10 @@ public class JettyFactory extends ServletServerFactory {
             // The ConnectionFactory for TLS.
             SslConnectionFactory tls = new SslConnectionFactory(sslContextFactory, alpn.getProtocol());
             // The ServerConnector instance.
-            https = new ServerConnector(server, tls, alpn, h2, http11);
+            https = newServerConnector(server, tls, alpn, h2, http11);
         } else {
             SslConnectionFactory sslConnectionFactory = new SslConnectionFactory(sslContextFactory, HttpVersion.HTTP_1_1.asString());
-            https = new ServerConnector(server,
+            https = newServerConnector(server,
                 sslConnectionFactory,
                 http11
             );
@@ -344,8 +471,12 @@ public class JettyFactory extends ServletServerFactory {
             if (CollectionUtils.isNotEmpty(exposedPorts)) {
                 for (Integer exposedPort : exposedPorts) {
                     if (!exposedPort.equals(serverConnector.getLocalPort())) {
-                        ServerConnector connector = new ServerConnector(
+                        // a single acceptor and selector run on the pool of the port, next to the request handling threads
+                        ServerConnector connector = newServerConnector(
                             server,
+                            newPortThreadPool(getPortExecutorConfiguration(exposedPort)),
+                            1,
+                            1,
                             serverConnector.getConnectionFactories().toArray(ConnectionFactory[]::new)
                         );
                         connector.setPort(exposedPort);
@@ -357,6 +488,30 @@ public class JettyFactory extends ServletServerFactory {
         }
     }
 
+    /**
+     * Create the thread pool of an additional port, so that requests to the port are not starved when the pool
+     * of the main connector is saturated. Requests that do not fit in the queue are rejected.
+     *
+     * @param configuration The thread pool configuration of the port
+     * @return The thread pool
+     * @since 4.12.0
+     */
+    protected @NonNull QueuedThreadPool newPortThreadPool(@NonNull ServletPortExecutorConfiguration configuration) {
+        QueuedThreadPool threadPool = new QueuedThreadPool(
+            configuration.getMaxThreads() + PORT_CONNECTOR_THREADS,
+            configuration.getMinThreads() + PORT_CONNECTOR_THREADS,
+            PORT_THREAD_IDLE_TIMEOUT,
+            new BlockingArrayQueue<>(Math.max(1, configuration.getQueueSize()))
+        );
+        threadPool.setName("jetty-port-" + configuration.getPort());
+        threadPool.setReservedThreads(0);
+        Executor virtualThreadExecutor = newPortVirtualThreadExecutor(configuration);
+        if (virtualThreadExecutor != null) {
+            threadPool.setVirtualThreadsExecutor(virtualThreadExecutor);
+        }
+        return threadPool;
+    }
+
     /**
      * Create a new server instance.
      *
@@ -378,10 +533,15 @@ public class JettyFactory extends ServletServerFactory {
 
         if (configuration.isEnableVirtualThreads() && LoomSupport.isSupported()) {
             threadPool.setVirtualThreadsExecutor(
-                applicationContext.getBean(ExecutorService.class, Qualifiers.byName(TaskExecutors.BLOCKING))
+                applicationContext.findBean(BoundedVirtualThreadExecutor.class)
+                    .<Executor>map(executor -> executor)
+                    .orElseGet(() -> applicationContext.getBean(ExecutorService.class, Qualifiers.byName(TaskExecutors.BLOCKING)))
             );
         }
-        return new Server(threadPool);
+        Server server = new Server(threadPool);
+        // connectors use the pool that is a bean of the server
+        applicationContext.findBean(ByteBufferPool.class).ifPresent(server::addBean);
+        return server;
     }
 
     /**
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.jetty;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.servlet.http.ServletExchange;
+import io.micronaut.servlet.http.ServletFileSender;
+import jakarta.inject.Singleton;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.server.HttpOutput;
+import org.eclipse.jetty.util.Callback;
+import org.reactivestreams.Publisher;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends files through {@link HttpOutput#sendContent}, which writes them asynchronously from pooled direct buffers
+ * or, for a shared mapping, straight from the memory mapping. A region of a file is read through the same pooled
+ * buffers rather than mapped for every request; regions of files that fit the mapped file cache never reach this
+ * sender because they are sent from the shared mapping.
+ *
+ * @since 4.12.0
+ */
+@Singleton
+class JettyFileSender implements ServletFileSender {
+
+    @Override
+    public Publisher<MutableHttpResponse<?>> sendFile(@NonNull ServletExchange<?, ?> exchange,
+                                                      @NonNull File file,
+                                                      long position,
+                                                      long count) throws IOException {
+        if (!(exchange.getResponse().getNativeResponse() instanceof HttpServletResponse response)
+            || !(response.getOutputStream() instanceof HttpOutput output)) {
+            return null;
+        }
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        boolean wholeFile = position == 0 && count == channel.size();
+        CompletableFuture<MutableHttpResponse<?>> future = new CompletableFuture<>();
+        Callback callback = Callback.from(
+            () -> future.complete(exchange.getResponse()),
+            future::completeExceptionally
+        );
+        // the channel is closed by Jetty once it has been read
+        if (wholeFile) {
+            output.sendContent(channel, callback);
+        } else {
+            try {
+                channel.position(position);
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+            output.sendContent(new RegionChannel(channel, count), callback);
+        }
+        return Publishers.fromCompletableFuture(future);
+    }
+
+    @Override
+    public boolean canSendBuffer(@NonNull ServletExchange<?, ?> exchange) throws IOException {
+        return exchange.getResponse().getNativeResponse() instanceof HttpServletResponse response
+            && response.getOutputStream() instanceof HttpOutput;
+    }
+
+    @Override
+    public Publisher<MutableHttpResponse<?>> sendBuffer(@NonNull ServletExchange<?, ?> exchange,
+                                                        @NonNull ByteBuffer buffer) throws IOException {
+        if (!(exchange.getResponse().getNativeResponse() instanceof HttpServletResponse response)
+            || !(response.getOutputStream() instanceof HttpOutput output)) {
+            return null;
+        }
+        CompletableFuture<MutableHttpResponse<?>> future = new CompletableFuture<>();
+        output.sendContent(buffer, Callback.from(
+            () -> future.complete(exchange.getResponse()),
+            future::completeExceptionally
+        ));
+        return Publishers.fromCompletableFuture(future);
+    }
+
+    /**
+     * Reads at most a given number of bytes from a positioned file channel.
+     */
+    private static final class RegionChannel implements ReadableByteChannel {
+
+        private final FileChannel channel;
+        private long remaining;
+
+        RegionChannel(FileChannel channel, long count) {
+            this.channel = channel;
+            this.remaining = count;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int limit = dst.limit();
+            if (dst.remaining() > remaining) {
+                dst.limit(dst.position() + (int) remaining);
+            }
+            try {
+                int read = channel.read(dst);
+                if (read > 0) {
+                    remaining -= read;
+                }
+                return read;
+            } finally {
+                dst.limit(limit);
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.jetty;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.MediaType;
+import io.micronaut.servlet.api.ServletAttributes;
+import io.micronaut.servlet.engine.DefaultMicronautServlet;
+import io.micronaut.servlet.engine.DefaultServletHttpHandler;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.Servlet;
+import jakarta.servlet.ServletConfig;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http.pathmap.ServletPathSpec;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+import org.eclipse.jetty.servlet.FilterMapping;
+import org.eclipse.jetty.servlet.ServletHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A handler that runs inside the scope of the servlet context and passes Micronaut requests straight to the
+ * {@link DefaultServletHttpHandler}, skipping servlet mapping, the filter chain and the servlet holder.
+ * Everything else is passed on to the {@link ServletHandler}.
+ *
+ * <p>A request goes to the servlet handler when its path is not mapped to the Micronaut servlet, when it is
+ * mapped to a filter registered by the application, when it is a multipart request, since the multipart
+ * configuration is applied by the servlet holder, or when it is not an initial request dispatch.</p>
+ *
+ * @since 4.12.0
+ */
+@Internal
+final class JettyNativeHandler extends HandlerWrapper {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JettyNativeHandler.class);
+
+    private final ApplicationContext applicationContext;
+    private final List<ServletPathSpec> filterPathSpecs = new ArrayList<>();
+    private volatile boolean initialized;
+    private DefaultServletHttpHandler handler;
+    private ServletConfig servletConfig;
+    private boolean servletOnly;
+
+    /**
+     * @param applicationContext The application context
+     */
+    JettyNativeHandler(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException, ServletException {
+        if (isServletRequest(target, baseRequest)) {
+            super.handle(target, baseRequest, request, response);
+        } else {
+            baseRequest.setHandled(true);
+            request.setAttribute(ServletAttributes.SERVLET_CONFIG.toString(), servletConfig);
+            request.setAttribute(ServletAttributes.SERVLET_CONTEXT.toString(), servletConfig.getServletContext());
+            handler.service(request, response);
+        }
+    }
+
+    private boolean isServletRequest(String target, Request baseRequest) {
+        if (baseRequest.getDispatcherType() != DispatcherType.REQUEST || !initialize()) {
+            return true;
+        }
+        if (servletOnly || isMultipart(baseRequest.getContentType())) {
+            return true;
+        }
+        for (ServletPathSpec pathSpec : filterPathSpecs) {
+            if (pathSpec.matches(target)) {
+                return true;
+            }
+        }
+        ServletHandler.MappedServlet mappedServlet = servletHandler().getMappedServlet(target);
+        return mappedServlet == null || !DefaultMicronautServlet.NAME.equals(mappedServlet.getServletHolder().getName());
+    }
+
+    private static boolean isMultipart(String contentType) {
+        return contentType != null
+            && contentType.regionMatches(true, 0, MediaType.MULTIPART_FORM_DATA, 0, MediaType.MULTIPART_FORM_DATA.length());
+    }
+
+    /**
+     * Resolves the Micronaut servlet and the filter mappings once the servlet context has been initialized.
+     *
+     * @return Whether the Micronaut servlet is available
+     */
+    private boolean initialize() {
+        if (initialized) {
+            return true;
+        }
+        synchronized (this) {
+            if (initialized) {
+                return true;
+            }
+            ServletHandler servletHandler = servletHandler();
+            ServletHolder holder = servletHandler.getServlet(DefaultMicronautServlet.NAME);
+            Servlet servlet = holder != null ? holder.getServletInstance() : null;
+            if (servlet == null) {
+                return false;
+            }
+            FilterMapping[] filterMappings = servletHandler.getFilterMappings();
+            if (filterMappings != null) {
+                for (FilterMapping filterMapping : filterMappings) {
+                    String[] servletNames = filterMapping.getServletNames();
+                    if (servletNames != null) {
+                        for (String servletName : servletNames) {
+                            if ("*".equals(servletName) || DefaultMicronautServlet.NAME.equals(servletName)) {
+                                servletOnly = true;
+                            }
+                        }
+                    }
+                    String[] pathSpecs = filterMapping.getPathSpecs();
+                    if (pathSpecs != null) {
+                        for (String pathSpec : pathSpecs) {
+                            if ("/*".equals(pathSpec) || "/".equals(pathSpec)) {
+                                servletOnly = true;
+                            } else {
+                                filterPathSpecs.add(new ServletPathSpec(pathSpec));
+                            }
+                        }
+                    }
+                }
+            }
+            if (servletOnly && LOG.isInfoEnabled()) {
+                LOG.info("A servlet filter applies to all Micronaut requests, all requests are handled by the servlet handler");
+            }
+            servletConfig = servlet.getServletConfig();
+            handler = applicationContext.getBean(DefaultServletHttpHandler.class);
+            initialized = true;
+            return true;
+        }
+    }
+
+    private ServletHandler servletHandler() {
+        return getChildHandlerByClass(ServletHandler.class);
+    }
+}
@@ -23,7 +23,13 @@ import jakarta.inject.Singleton;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.handler.StatisticsHandler;
+import org.eclipse.jetty.util.component.Graceful;
 
 /**
  * An implementation of the {@link io.micronaut.runtime.server.EmbeddedServer} interface for Jetty.
@@ -54,6 +60,37 @@ public class JettyServer extends AbstractServletServer<Server> {
         server.start();
     }
 
+    @Override
+    protected void stopAccepting() {
+        for (Connector connector : getServer().getConnectors()) {
+            if (connector instanceof Graceful graceful) {
+                graceful.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Waits for the graceful shutdown of the server, which completes once the statistics handler installed
+     * with a shutdown timeout has no active request left. Without that handler only the requests of the
+     * Micronaut servlet are waited for.
+     *
+     * @param timeout The maximum time to wait
+     * @return Whether all requests completed in time
+     * @throws Exception when an error occurred
+     */
+    @Override
+    protected boolean awaitRequests(Duration timeout) throws Exception {
+        if (getServer().getChildHandlerByClass(StatisticsHandler.class) == null) {
+            return super.awaitRequests(timeout);
+        }
+        try {
+            Graceful.shutdown(getServer()).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
     @Override
     protected void stopServer() throws Exception {
         getServer().stop();
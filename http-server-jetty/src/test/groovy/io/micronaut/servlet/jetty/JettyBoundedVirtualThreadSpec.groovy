@@ -0,0 +1,31 @@
+package io.micronaut.servlet.jetty
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.servlet.engine.BoundedVirtualThreadExecutor
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import org.eclipse.jetty.server.Server
+import org.eclipse.jetty.util.thread.QueuedThreadPool
+import spock.lang.Requires
+import spock.lang.Specification
+
+@MicronautTest
+@Requires({ jvm.java21 })
+@Property(name = "micronaut.servlet.virtual-thread-concurrency-limit", value = "100")
+@Property(name = "micronaut.servlet.virtual-thread-queue-size", value = "10")
+class JettyBoundedVirtualThreadSpec extends Specification {
+
+    @Inject
+    Server server
+
+    @Inject
+    BoundedVirtualThreadExecutor executor
+
+    void "test the bounded executor runs requests"() {
+        expect:
+        server.threadPool instanceof QueuedThreadPool
+        server.threadPool.virtualThreadsExecutor.is(executor)
+        executor.concurrencyLimit == 100
+        executor.queueSize == 10
+    }
+}
@@ -0,0 +1,156 @@
+package io.micronaut.servlet.jetty
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Produces
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.http.server.types.files.StreamedFile
+import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.servlet.http.ConcurrencyLimiter
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+@MicronautTest
+@Property(name = "spec.name", value = "JettyConcurrencyLimitSpec")
+@Property(name = "micronaut.servlet.concurrency-limit.enabled", value = "true")
+@Property(name = "micronaut.servlet.concurrency-limit.initial-limit", value = "1")
+@Property(name = "micronaut.servlet.concurrency-limit.min-limit", value = "1")
+@Property(name = "micronaut.servlet.concurrency-limit.max-limit", value = "1")
+@Property(name = "micronaut.servlet.concurrency-limit.retry-after", value = "5s")
+@Property(name = "micronaut.servlet.concurrency-limit.exempt-paths", value = "/limited/exempt")
+class JettyConcurrencyLimitSpec extends Specification {
+
+    @Inject
+    @Client("/")
+    HttpClient client
+
+    @Inject
+    ConcurrencyLimiter limiter
+
+    @Inject
+    SlowController controller
+
+    @Inject
+    EmbeddedServer embeddedServer
+
+    void "requests above the limit are rejected with 503"() {
+        given:
+        def first = Mono.from(client.exchange(HttpRequest.GET('/limited/slow'), String)).toFuture()
+        new PollingConditions(timeout: 5).eventually {
+            assert limiter.inFlight == 1
+        }
+
+        when:
+        client.toBlocking().exchange(HttpRequest.GET('/limited/slow'), String)
+
+        then:
+        def e = thrown(HttpClientResponseException)
+        e.status == HttpStatus.SERVICE_UNAVAILABLE
+        e.response.header(HttpHeaders.RETRY_AFTER) == '5'
+        limiter.rejectedCount == 1
+
+        when:
+        def exempt = client.toBlocking().exchange(HttpRequest.GET('/limited/exempt'), String)
+
+        then:
+        exempt.status == HttpStatus.OK
+
+        when:
+        controller.latch.countDown()
+
+        then:
+        first.get(10, TimeUnit.SECONDS).body() == 'slow'
+        new PollingConditions(timeout: 5).eventually {
+            assert limiter.inFlight == 0
+        }
+    }
+
+    void "downloads aborted by the client release their permit"() {
+        when:
+        3.times {
+            Socket socket = new Socket(embeddedServer.host, embeddedServer.port)
+            socket.outputStream.write("GET /limited/download HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(StandardCharsets.US_ASCII))
+            socket.outputStream.flush()
+            assert socket.inputStream.read(new byte[8192]) > 0
+            socket.setSoLinger(true, 0)
+            socket.close()
+            new PollingConditions(timeout: 10).eventually {
+                assert limiter.inFlight == 0
+            }
+        }
+
+        then:
+        client.toBlocking().exchange(HttpRequest.GET('/limited/exempt'), String).status == HttpStatus.OK
+        client.toBlocking().exchange(HttpRequest.GET('/limited/small'), String).body() == 'small'
+    }
+
+    @Requires(property = "spec.name", value = "JettyConcurrencyLimitSpec")
+    @Controller("/limited")
+    static class SlowController {
+
+        final CountDownLatch latch = new CountDownLatch(1)
+
+        @Get("/slow")
+        @Produces(MediaType.TEXT_PLAIN)
+        String slow() {
+            latch.await(10, TimeUnit.SECONDS)
+            "slow"
+        }
+
+        @Get("/download")
+        StreamedFile download() {
+            new StreamedFile(new ZeroInputStream(1L << 30), MediaType.APPLICATION_OCTET_STREAM_TYPE)
+        }
+
+        @Get("/small")
+        @Produces(MediaType.TEXT_PLAIN)
+        String small() {
+            "small"
+        }
+
+        @Get("/exempt")
+        @Produces(MediaType.TEXT_PLAIN)
+        String exempt() {
+            "exempt"
+        }
+    }
+
+    static class ZeroInputStream extends InputStream {
+        private long remaining
+
+        ZeroInputStream(long size) {
+            remaining = size
+        }
+
+        @Override
+        int read() {
+            remaining-- > 0 ? 0 : -1
+        }
+
+        @Override
+        int read(byte[] b, int off, int len) {
+            if (remaining <= 0) {
+                return -1
+            }
+            int n = (int) Math.min(len, remaining)
+            Arrays.fill(b, off, off + n, (byte) 0)
+            remaining -= n
+            n
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.micronaut.servlet.jetty
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import org.eclipse.jetty.io.ArrayByteBufferPool
+import org.eclipse.jetty.server.Server
+import org.eclipse.jetty.server.ServerConnector
+import spock.lang.Specification
+
+@MicronautTest
+@Property(name = "micronaut.server.jetty.connector.acceptors", value = "2")
+@Property(name = "micronaut.server.jetty.connector.selectors", value = "3")
+@Property(name = "micronaut.server.jetty.connector.accept-queue-size", value = "256")
+@Property(name = "micronaut.server.jetty.connector.tcp-no-delay", value = "false")
+@Property(name = "micronaut.server.jetty.connector.idle-timeout", value = "45s")
+@Property(name = "micronaut.server.jetty.byte-buffer-pool.max-bucket-size", value = "64")
+@Property(name = "micronaut.server.jetty.byte-buffer-pool.max-heap-memory", value = "1048576")
+class JettyConnectorConfigurationSpec extends Specification {
+
+    @Inject
+    Server jetty
+
+    @Inject
+    JettyConfiguration configuration
+
+    @Inject
+    ArrayByteBufferPool byteBufferPool
+
+    void "connectors are configured"() {
+        given:
+        ServerConnector connector = (ServerConnector) jetty.connectors[0]
+
+        expect:
+        connector.acceptors == 2
+        connector.selectorManager.selectorCount == 3
+        connector.acceptQueueSize == 256
+        !connector.acceptedTcpNoDelay
+        connector.idleTimeout == 45_000
+        connector.byteBufferPool.is(byteBufferPool)
+    }
+
+    void "byte buffer pool is configured"() {
+        expect:
+        configuration.byteBufferPool.maxBucketSize == 64
+        configuration.byteBufferPool.maxHeapMemory == 1048576
+        byteBufferPool.heapMemory >= 0
+    }
+}
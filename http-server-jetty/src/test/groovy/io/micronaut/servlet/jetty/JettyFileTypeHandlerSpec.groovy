@@ -31,11 +31,14 @@ class JettyFileTypeHandlerSpec extends Specification {
 
     private static File tempFile
     private static String tempFileContents = "<html><head></head><body>HTML Page</body></html>"
+    private static File largeFile
+    private static byte[] largeFileContents = (0..<(3 * 1024 * 1024)).collect { (byte) (it % 251) } as byte[]
 
     static {
         tempFile = File.createTempFile("fileTypeHandlerSpec", ".html")
         tempFile.write(tempFileContents)
-        tempFile
+        largeFile = File.createTempFile("fileTypeHandlerSpec", ".bin")
+        largeFile.bytes = largeFileContents
     }
 
     @Inject
@@ -67,6 +70,30 @@ class JettyFileTypeHandlerSpec extends Specification {
         response.header(DATE)
     }
 
+    void "test an ETag is returned and revalidated"() {
+        when:
+        def response = rxClient.toBlocking().exchange('/test-system/download', String)
+        def etag = response.header(ETAG)
+
+        then:
+        etag == "\"${Long.toHexString(tempFile.length())}-${Long.toHexString(tempFile.lastModified())}\""
+
+        when:
+        response = rxClient.toBlocking().exchange(HttpRequest.GET('/test-system/download').header(IF_NONE_MATCH, etag), String)
+
+        then:
+        response.code() == HttpStatus.NOT_MODIFIED.code
+        response.header(ETAG) == etag
+        response.header(CACHE_CONTROL) == "private, max-age=60"
+
+        when:
+        response = rxClient.toBlocking().exchange(HttpRequest.GET('/test-system/download').header(IF_NONE_MATCH, 'W/"other"'), String)
+
+        then:
+        response.code() == HttpStatus.OK.code
+        response.body() == tempFileContents
+    }
+
     void "test cache control can be overridden"() {
         when:
         MutableHttpRequest<?> request = HttpRequest.GET('/test/custom-cache-control')
@@ -122,6 +149,106 @@ class JettyFileTypeHandlerSpec extends Specification {
         response.body() == tempFileContents
     }
 
+    void "test a large system file is sent in full"() {
+        when:
+        def response = rxClient.toBlocking().exchange('/test-system/large', byte[])
+
+        then:
+        response.code() == HttpStatus.OK.code
+        response.header(CONTENT_LENGTH) == String.valueOf(largeFileContents.length)
+        response.body() == largeFileContents
+    }
+
+    void "test a single byte range of a #type is returned"() {
+        when:
+        def response = rxClient.toBlocking().exchange(HttpRequest.GET(uri).header(RANGE, 'bytes=6-11'), String)
+
+        then:
+        response.code() == HttpStatus.PARTIAL_CONTENT.code
+        response.header(ACCEPT_RANGES) == 'bytes'
+        response.header(CONTENT_RANGE) == "bytes 6-11/${tempFileContents.length()}"
+        response.header(CONTENT_LENGTH) == '6'
+        response.body() == tempFileContents.substring(6, 12)
+
+        where:
+        type           | uri
+        'system file'  | '/test-system/download'
+        'file'         | '/test/html'
+    }
+
+    void "test a suffix byte range is returned"() {
+        when:
+        def response = rxClient.toBlocking().exchange(HttpRequest.GET('/test-system/download').header(RANGE, 'bytes=-7'), String)
+
+        then:
+        response.code() == HttpStatus.PARTIAL_CONTENT.code
+        response.header(CONTENT_RANGE) == "bytes ${tempFileContents.length() - 7}-${tempFileContents.length() - 1}/${tempFileContents.length()}"
+        response.body() == '</html>'
+    }
+
+    void "test multiple byte ranges are returned as multipart"() {
+        when:
+        def response = rxClient.toBlocking().exchange(HttpRequest.GET('/test-system/download').header(RANGE, 'bytes=0-5, 12-17'), String)
+
+        then:
+        response.code() == HttpStatus.PARTIAL_CONTENT.code
+        response.header(CONTENT_TYPE).startsWith('multipart/byteranges; boundary=')
+        Integer.parseInt(response.header(CONTENT_LENGTH)) == response.body().length()
+
+        when:
+        def boundary = response.header(CONTENT_TYPE).substring('multipart/byteranges; boundary='.length())
+
+        then:
+        response.body() == "\r\n--$boundary\r\nContent-Type: text/html\r\nContent-Range: bytes 0-5/${tempFileContents.length()}\r\n\r\n<html>" +
+                "\r\n--$boundary\r\nContent-Type: text/html\r\nContent-Range: bytes 12-17/${tempFileContents.length()}\r\n\r\n${tempFileContents.substring(12, 18)}" +
+                "\r\n--$boundary--\r\n"
+    }
+
+    void "test byte ranges of a streamed file are returned"() {
+        when:
+        def response = rxClient.toBlocking().exchange(HttpRequest.GET('/test-stream/with-length').header(RANGE, 'bytes=6-11'), String)
+
+        then:
+        response.code() == HttpStatus.PARTIAL_CONTENT.code
+        response.header(CONTENT_RANGE) == "bytes 6-11/${tempFileContents.length()}"
+        response.body() == tempFileContents.substring(6, 12)
+    }
+
+    void "test an unsatisfiable byte range"() {
+        when:
+        rxClient.toBlocking().exchange(HttpRequest.GET('/test-system/download').header(RANGE, "bytes=${tempFileContents.length()}-"), String)
+
+        then:
+        def e = thrown(HttpClientResponseException)
+        e.response.code() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.code
+        e.response.header(CONTENT_RANGE) == "bytes */${tempFileContents.length()}"
+    }
+
+    void "test a byte range is returned if If-Range echoes the ETag"() {
+        given:
+        def etag = rxClient.toBlocking().exchange('/test-system/download', String).header(ETAG)
+
+        when:
+        def response = rxClient.toBlocking().exchange(HttpRequest.GET('/test-system/download')
+                .header(RANGE, 'bytes=0-5')
+                .header(IF_RANGE, etag), String)
+
+        then:
+        response.code() == HttpStatus.PARTIAL_CONTENT.code
+        response.body() == '<html>'
+    }
+
+    void "test the full file is returned if If-Range does not match"() {
+        when:
+        def response = rxClient.toBlocking().exchange(HttpRequest.GET('/test-system/download')
+                .header(RANGE, 'bytes=0-5')
+                .header(IF_RANGE, 'Wed, 21 Oct 2015 07:28:00 GMT'), String)
+
+        then:
+        response.code() == HttpStatus.OK.code
+        response.body() == tempFileContents
+    }
+
     void "test when a system file is returned with a name"() {
         when:
         def response = rxClient.toBlocking().exchange('/test-system/different-name', String)
@@ -208,6 +335,11 @@ class JettyFileTypeHandlerSpec extends Specification {
             new SystemFile(tempFile).attach()
         }
 
+        @Get('/large')
+        SystemFile large() {
+            new SystemFile(largeFile, MediaType.APPLICATION_OCTET_STREAM_TYPE)
+        }
+
         @Get('/different-name')
         SystemFile differentName() {
             new SystemFile(tempFile).attach("abc.xyz")
@@ -240,6 +372,11 @@ class JettyFileTypeHandlerSpec extends Specification {
             HttpResponse.ok(file).contentType(MediaType.TEXT_PLAIN_TYPE)
         }
 
+        @Get('/with-length')
+        StreamedFile withLength() {
+            new StreamedFile(Files.newInputStream(tempFile.toPath()), MediaType.TEXT_HTML_TYPE, tempFile.lastModified(), tempFile.length())
+        }
+
         @Get('/piped-stream')
         StreamedFile pipedStream() {
             def output = new PipedOutputStream()
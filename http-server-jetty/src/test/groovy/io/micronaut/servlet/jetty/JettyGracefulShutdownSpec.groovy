@@ -0,0 +1,143 @@
+package io.micronaut.servlet.jetty
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.server.types.files.StreamedFile
+import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.scheduling.TaskExecutors
+import io.micronaut.scheduling.annotation.ExecuteOn
+import io.micronaut.servlet.engine.DefaultServletHttpHandler
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class JettyGracefulShutdownSpec extends Specification {
+
+    void "test requests in flight complete when the server stops"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'spec.name': 'JettyGracefulShutdownSpec',
+                'micronaut.servlet.shutdown-timeout': '5s'
+        ])
+        DefaultServletHttpHandler handler = embeddedServer.applicationContext.getBean(DefaultServletHttpHandler)
+        HttpClient client = HttpClient.create(embeddedServer.URL)
+
+        when:
+        CompletableFuture<HttpResponse<String>> response = Mono.from(client.exchange(HttpRequest.GET('/graceful-shutdown'), String)).toFuture()
+        SlowController.entered.await(5, TimeUnit.SECONDS)
+        CompletableFuture<Void> stopped = CompletableFuture.runAsync(() -> embeddedServer.stop())
+        Thread.sleep(200)
+
+        then:
+        !stopped.done
+        handler.inFlightCount == 1
+
+        when:
+        SlowController.release.countDown()
+        HttpResponse<String> result = response.get(5, TimeUnit.SECONDS)
+        stopped.get(5, TimeUnit.SECONDS)
+
+        then:
+        result.status() == HttpStatus.OK
+        result.body() == 'done'
+        result.header(HttpHeaders.CONNECTION) == 'close'
+        handler.inFlightCount == 0
+        !embeddedServer.running
+
+        cleanup:
+        client.close()
+        embeddedServer.applicationContext.close()
+    }
+
+    void "test downloads aborted by the client do not delay the shutdown"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'spec.name': 'JettyGracefulShutdownSpec',
+                'micronaut.servlet.shutdown-timeout': '30s'
+        ])
+        DefaultServletHttpHandler handler = embeddedServer.applicationContext.getBean(DefaultServletHttpHandler)
+
+        when:
+        Socket socket = new Socket(embeddedServer.host, embeddedServer.port)
+        socket.outputStream.write("GET /graceful-shutdown/download HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(StandardCharsets.US_ASCII))
+        socket.outputStream.flush()
+        int read = socket.inputStream.read(new byte[8192])
+        socket.setSoLinger(true, 0)
+        socket.close()
+
+        then:
+        read > 0
+        new PollingConditions(timeout: 10).eventually {
+            assert handler.inFlightCount == 0
+        }
+
+        when:
+        long start = System.nanoTime()
+        embeddedServer.stop()
+
+        then:
+        TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 10
+        !embeddedServer.running
+
+        cleanup:
+        embeddedServer.applicationContext.close()
+    }
+
+    @Requires(property = 'spec.name', value = 'JettyGracefulShutdownSpec')
+    @Controller('/graceful-shutdown')
+    static class SlowController {
+
+        static CountDownLatch entered = new CountDownLatch(1)
+        static CountDownLatch release = new CountDownLatch(1)
+
+        @Get
+        @ExecuteOn(TaskExecutors.BLOCKING)
+        String index() {
+            entered.countDown()
+            release.await(10, TimeUnit.SECONDS)
+            'done'
+        }
+
+        @Get('/download')
+        StreamedFile download() {
+            new StreamedFile(new ZeroInputStream(1L << 30), MediaType.APPLICATION_OCTET_STREAM_TYPE)
+        }
+    }
+
+    static class ZeroInputStream extends InputStream {
+        private long remaining
+
+        ZeroInputStream(long size) {
+            remaining = size
+        }
+
+        @Override
+        int read() {
+            remaining-- > 0 ? 0 : -1
+        }
+
+        @Override
+        int read(byte[] b, int off, int len) {
+            if (remaining <= 0) {
+                return -1
+            }
+            int n = (int) Math.min(len, remaining)
+            Arrays.fill(b, off, off + n, (byte) 0)
+            remaining -= n
+            n
+        }
+    }
+}
@@ -20,6 +20,9 @@ import java.nio.file.Files
 import java.nio.file.Path
 import java.security.KeyStore
 import java.security.cert.Certificate
+import org.eclipse.jetty.server.Server
+import org.eclipse.jetty.server.ServerConnector
+import org.eclipse.jetty.util.thread.QueuedThreadPool
 
 @Issue("https://github.com/micronaut-projects/micronaut-servlet/issues/616")
 class JettyManagementPortSpec extends Specification {
@@ -126,6 +129,32 @@ class JettyManagementPortSpec extends Specification {
         server.stop()
     }
 
+    def 'management port gets a thread pool of its own'() {
+        given:
+        def port = SocketUtils.findAvailableTcpPort()
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+                'spec.name'                                           : 'JettyManagementPortSpec',
+                'endpoints.all.enabled'                               : true,
+                'endpoints.all.port'                                  : port,
+                ("micronaut.server.port-executors.${port}.max-threads".toString()): 4,
+                ("micronaut.server.port-executors.${port}.queue-size".toString()) : 10,
+        ])
+        BlockingHttpClient managementClient = server.getApplicationContext().createBean(HttpClient, URI.create("http://localhost:$port/")).toBlocking()
+        Server jetty = ((JettyServer) server).server
+        ServerConnector connector = jetty.connectors.find { ((ServerConnector) it).port == port } as ServerConnector
+
+        expect:
+        connector.executor instanceof QueuedThreadPool
+        connector.executor != jetty.threadPool
+        ((QueuedThreadPool) connector.executor).name == "jetty-port-$port"
+        ((QueuedThreadPool) connector.executor).maxThreads == 6
+        managementClient.exchange('/health', String).body() == '{"status":"UP"}'
+
+        cleanup:
+        managementClient.close()
+        server.stop()
+    }
+
     @Controller("/management-port")
     @Requires(property = "spec.name", value = "JettyManagementPortSpec")
     static class TestController {
@@ -0,0 +1,126 @@
+package io.micronaut.servlet.jetty
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.Introspected
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Body
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.annotation.QueryValue
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.http.client.multipart.MultipartBody
+import io.micronaut.http.annotation.Part
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.servlet.http.HttpServletRequest
+import org.eclipse.jetty.server.Server
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+
+@MicronautTest
+@Property(name = 'spec.name', value = 'JettyNativeHandlerSpec')
+@Property(name = 'micronaut.server.jetty.native-handler', value = 'true')
+class JettyNativeHandlerSpec extends Specification {
+
+    @Inject
+    @Client('/')
+    HttpClient client
+
+    @Inject
+    Server server
+
+    void 'test the native handler is installed'() {
+        expect:
+        server.getChildHandlerByClass(JettyNativeHandler) != null
+    }
+
+    void 'test requests are handled natively'() {
+        when:
+        HttpResponse<String> response = client.toBlocking().exchange(HttpRequest.GET('/jetty-native/info?name=Fred'), String)
+
+        then:
+        response.status() == HttpStatus.OK
+        response.body() == 'GET Fred'
+    }
+
+    void 'test servlet api binding'() {
+        expect:
+        client.toBlocking().retrieve(HttpRequest.GET('/jetty-native/servlet'), String) == '/jetty-native/servlet'
+    }
+
+    void 'test request body binding'() {
+        expect:
+        client.toBlocking().retrieve(HttpRequest.POST('/jetty-native/echo', [title: 'The Stand']), String) == 'The Stand'
+    }
+
+    void 'test streaming response'() {
+        expect:
+        client.toBlocking().retrieve(HttpRequest.GET('/jetty-native/stream'), String) == '["one","two","three"]'
+    }
+
+    void 'test multipart requests are handled by the servlet handler'() {
+        given:
+        def body = MultipartBody.builder().addPart('name', 'Bob').build()
+
+        expect:
+        client.toBlocking().retrieve(HttpRequest.POST('/jetty-native/multipart', body)
+                .contentType(MediaType.MULTIPART_FORM_DATA_TYPE), String) == 'Bob'
+    }
+
+    void 'test errors'() {
+        when:
+        client.toBlocking().exchange(HttpRequest.GET('/jetty-native/missing'), String)
+
+        then:
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.NOT_FOUND
+    }
+
+    void 'test registered servlets and filters still apply'() {
+        expect:
+        client.toBlocking().retrieve('/extra-servlet', String) == 'My Servlet!'
+        client.toBlocking().retrieve('/extra-filter', String) == 'My Filter!'
+    }
+
+    @Requires(property = 'spec.name', value = 'JettyNativeHandlerSpec')
+    @Controller('/jetty-native')
+    static class NativeController {
+
+        @Get(value = '/info', produces = MediaType.TEXT_PLAIN)
+        String info(HttpRequest<?> request, @QueryValue String name) {
+            "${request.methodName} $name".toString()
+        }
+
+        @Get(value = '/servlet', produces = MediaType.TEXT_PLAIN)
+        String servlet(HttpServletRequest request) {
+            request.requestURI
+        }
+
+        @Post(value = '/echo', produces = MediaType.TEXT_PLAIN)
+        String echo(@Body Book book) {
+            book.title
+        }
+
+        @Get('/stream')
+        Flux<String> stream() {
+            Flux.just('one', 'two', 'three')
+        }
+
+        @Post(value = '/multipart', consumes = MediaType.MULTIPART_FORM_DATA, produces = MediaType.TEXT_PLAIN)
+        String multipart(@Part String name) {
+            name
+        }
+    }
+
+    @Introspected
+    static class Book {
+        String title
+    }
+}
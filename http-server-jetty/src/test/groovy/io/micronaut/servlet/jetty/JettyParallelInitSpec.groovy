@@ -0,0 +1,80 @@
+package io.micronaut.servlet.jetty
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Produces
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import spock.lang.Specification
+
+import java.lang.annotation.Retention
+import java.lang.annotation.RetentionPolicy
+
+@MicronautTest
+@Property(name = "spec.name", value = "JettyParallelInitSpec")
+@Property(name = "micronaut.servlet.parallel-init", value = "true")
+@Property(name = "micronaut.servlet.parallel-init-threads", value = "2")
+@Property(name = "micronaut.servlet.parallel-init-stereotypes", value = "io.micronaut.servlet.jetty.ParallelInitWarmUp")
+class JettyParallelInitSpec extends Specification {
+
+    @Inject
+    @Client("/")
+    HttpClient client
+
+    void "singletons are created in parallel when the servlet is initialized"() {
+        expect:
+        UnusedSingleton.createdOn?.startsWith('micronaut-servlet-init-')
+
+        and:
+        client.toBlocking().retrieve('/parallel-init') == 'ok'
+    }
+
+    void "singletons without an eager stereotype are not created"() {
+        expect:
+        client.toBlocking().retrieve('/parallel-init') == 'ok'
+        LazySingleton.attempts == 0
+    }
+
+    @Requires(property = "spec.name", value = "JettyParallelInitSpec")
+    @Singleton
+    @ParallelInitWarmUp
+    static class UnusedSingleton {
+        static volatile String createdOn
+
+        UnusedSingleton() {
+            createdOn = Thread.currentThread().name
+        }
+    }
+
+    @Requires(property = "spec.name", value = "JettyParallelInitSpec")
+    @Singleton
+    static class LazySingleton {
+        static volatile int attempts
+
+        LazySingleton() {
+            attempts++
+            throw new IllegalStateException("Not meant to be created")
+        }
+    }
+
+    @Requires(property = "spec.name", value = "JettyParallelInitSpec")
+    @Controller("/parallel-init")
+    static class ParallelInitController {
+
+        @Get
+        @Produces(MediaType.TEXT_PLAIN)
+        String index() {
+            'ok'
+        }
+    }
+}
+
+@Retention(RetentionPolicy.RUNTIME)
+@interface ParallelInitWarmUp {
+}
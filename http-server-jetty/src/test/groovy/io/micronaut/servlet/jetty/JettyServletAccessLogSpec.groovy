@@ -0,0 +1,59 @@
+package io.micronaut.servlet.jetty
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.HttpClient
+import io.micronaut.runtime.server.EmbeddedServer
+import spock.lang.Specification
+import spock.lang.TempDir
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class JettyServletAccessLogSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void "test completed requests are written to the access log"() {
+        given:
+        Path file = tempDir.resolve('access.log')
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'spec.name': 'JettyServletAccessLogSpec',
+                'micronaut.servlet.access-log.enabled': true,
+                'micronaut.servlet.access-log.file': file.toString(),
+                'micronaut.servlet.access-log.pattern': '%a "%r" %s %b %{X-Client}i',
+                'micronaut.servlet.access-log.flush-interval': '10ms'
+        ])
+        HttpClient client = HttpClient.create(embeddedServer.URL)
+
+        when:
+        client.toBlocking().exchange(HttpRequest.GET('/servlet-access-log?name=Fred').header('X-Client', 'spec'), String)
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            List<String> lines = Files.readAllLines(file)
+            assert lines.size() == 1
+            assert lines[0] ==~ /\S+ "GET \/servlet-access-log\?name=Fred HTTP\/1.1" 200 \S+ spec/
+        }
+
+        cleanup:
+        client.close()
+        embeddedServer.close()
+    }
+
+    @Requires(property = 'spec.name', value = 'JettyServletAccessLogSpec')
+    @Controller('/servlet-access-log')
+    static class AccessLogController {
+
+        @Get(produces = MediaType.TEXT_PLAIN)
+        String index(String name) {
+            "Hello $name".toString()
+        }
+    }
+}
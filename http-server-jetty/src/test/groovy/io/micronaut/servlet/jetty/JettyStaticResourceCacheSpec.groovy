@@ -0,0 +1,121 @@
+package io.micronaut.servlet.jetty
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.server.types.files.FileCustomizableResponseType
+import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.servlet.http.encoders.StaticResourceCache
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.util.jar.JarEntry
+import java.util.jar.JarOutputStream
+import java.util.zip.GZIPInputStream
+
+@MicronautTest
+@Property(name = "spec.name", value = "JettyStaticResourceCacheSpec")
+@Property(name = "micronaut.servlet.static-resource-cache.enabled", value = "true")
+@Property(name = "micronaut.servlet.static-resource-cache.gzip-enabled", value = "true")
+class JettyStaticResourceCacheSpec extends Specification {
+
+    static String script = 'console.log("hello");\n' * 200
+    static URL resource
+
+    static {
+        def jar = File.createTempFile("staticResourceCacheSpec", ".jar")
+        jar.deleteOnExit()
+        new JarOutputStream(new FileOutputStream(jar)).withCloseable { out ->
+            out.putNextEntry(new JarEntry('app.js'))
+            out.write(script.bytes)
+            out.closeEntry()
+        }
+        resource = new URL("jar:${jar.toURI()}!/app.js")
+    }
+
+    @Inject
+    EmbeddedServer embeddedServer
+
+    HttpClient client = HttpClient.newHttpClient()
+
+    void "the gzip variant has an ETag of its own"() {
+        when:
+        def gzip = send(HttpHeaders.ACCEPT_ENCODING, 'gzip')
+        def identity = send()
+
+        then:
+        gzip.statusCode() == 200
+        gzip.headers().firstValue(HttpHeaders.CONTENT_ENCODING).get() == 'gzip'
+        gzip.headers().firstValue(HttpHeaders.VARY).get() == HttpHeaders.ACCEPT_ENCODING
+        new GZIPInputStream(new ByteArrayInputStream(gzip.body())).text == script
+
+        identity.statusCode() == 200
+        !identity.headers().firstValue(HttpHeaders.CONTENT_ENCODING).present
+        new String(identity.body()) == script
+
+        def gzipEtag = gzip.headers().firstValue(HttpHeaders.ETAG).get()
+        def identityEtag = identity.headers().firstValue(HttpHeaders.ETAG).get()
+        gzipEtag.endsWith('-gzip"')
+        gzipEtag != identityEtag
+        !identityEtag.startsWith('W/')
+    }
+
+    void "a not modified response varies on the accepted encoding"() {
+        given:
+        def etag = send(HttpHeaders.ACCEPT_ENCODING, 'gzip').headers().firstValue(HttpHeaders.ETAG).get()
+
+        when:
+        def notModified = send(HttpHeaders.ACCEPT_ENCODING, 'gzip', HttpHeaders.IF_NONE_MATCH, etag)
+        def identity = send(HttpHeaders.IF_NONE_MATCH, etag)
+
+        then:
+        notModified.statusCode() == 304
+        notModified.headers().firstValue(HttpHeaders.VARY).get() == HttpHeaders.ACCEPT_ENCODING
+        notModified.headers().firstValue(HttpHeaders.ETAG).get() == etag
+
+        identity.statusCode() == 200
+        new String(identity.body()) == script
+    }
+
+    void "an If-Range with the gzip ETag does not return a range of the identity content"() {
+        given:
+        def etag = send(HttpHeaders.ACCEPT_ENCODING, 'gzip').headers().firstValue(HttpHeaders.ETAG).get()
+
+        when:
+        def response = send(HttpHeaders.RANGE, 'bytes=0-9', HttpHeaders.IF_RANGE, etag)
+
+        then:
+        response.statusCode() == 200
+        new String(response.body()) == script
+    }
+
+    private HttpResponse<byte[]> send(String... headers) {
+        def builder = HttpRequest.newBuilder(embeddedServer.URI.resolve('/cached-resource'))
+        if (headers) {
+            builder.headers(headers)
+        }
+        client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray())
+    }
+
+    @Requires(property = "spec.name", value = "JettyStaticResourceCacheSpec")
+    @Controller("/cached-resource")
+    static class CachedResourceController {
+
+        private final StaticResourceCache cache
+
+        CachedResourceController(StaticResourceCache cache) {
+            this.cache = cache
+        }
+
+        @Get
+        FileCustomizableResponseType resource() {
+            cache.resolve(resource)
+        }
+    }
+}
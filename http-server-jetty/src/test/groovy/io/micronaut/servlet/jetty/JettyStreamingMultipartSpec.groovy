@@ -0,0 +1,162 @@
+package io.micronaut.servlet.jetty
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Body
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Part
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.http.client.multipart.MultipartBody
+import io.micronaut.http.multipart.PartData
+import io.micronaut.http.multipart.StreamingFileUpload
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+@MicronautTest
+@Property(name = 'spec.name', value = 'JettyStreamingMultipartSpec')
+class JettyStreamingMultipartSpec extends Specification {
+
+    @Inject
+    @Client("/")
+    HttpClient client
+
+    void "test streaming file upload"() {
+        given:
+        def content = 'abcdefghij' * 10_000
+        def body = MultipartBody.builder()
+                .addPart("title", "Some title")
+                .addPart("file", "data.txt", MediaType.TEXT_PLAIN_TYPE, content.getBytes(StandardCharsets.UTF_8))
+                .build()
+
+        when:
+        def request = HttpRequest.POST('/streaming-multipart/upload', body)
+                .contentType(MediaType.MULTIPART_FORM_DATA_TYPE)
+        def response = client.toBlocking().retrieve(request)
+
+        then:
+        response == 'data.txt text/plain 100000'
+    }
+
+    void "test streaming part data publisher"() {
+        given:
+        def body = MultipartBody.builder()
+                .addPart("file", "data.txt", MediaType.TEXT_PLAIN_TYPE, 'hello'.getBytes(StandardCharsets.UTF_8))
+                .build()
+
+        when:
+        def request = HttpRequest.POST('/streaming-multipart/data', body)
+                .contentType(MediaType.MULTIPART_FORM_DATA_TYPE)
+        def response = client.toBlocking().retrieve(request)
+
+        then:
+        response == 'hello'
+    }
+
+    void "test streaming all parts"() {
+        given:
+        def body = MultipartBody.builder()
+                .addPart("one", "one.txt", MediaType.TEXT_PLAIN_TYPE, 'first'.getBytes(StandardCharsets.UTF_8))
+                .addPart("two", "two.txt", MediaType.TEXT_PLAIN_TYPE, 'second'.getBytes(StandardCharsets.UTF_8))
+                .build()
+
+        when:
+        def request = HttpRequest.POST('/streaming-multipart/all', body)
+                .contentType(MediaType.MULTIPART_FORM_DATA_TYPE)
+        def response = client.toBlocking().retrieve(request)
+
+        then:
+        response == 'one=first,two=second'
+    }
+
+    void "test streaming file upload with form fields"() {
+        given:
+        def body = MultipartBody.builder()
+                .addPart("title", "Some title")
+                .addPart("file", "data.txt", MediaType.TEXT_PLAIN_TYPE, 'hello'.getBytes(StandardCharsets.UTF_8))
+                .addPart("description", "After the file")
+                .build()
+
+        when:
+        def request = HttpRequest.POST('/streaming-multipart/mixed', body)
+                .contentType(MediaType.MULTIPART_FORM_DATA_TYPE)
+        def response = client.toBlocking().retrieve(request)
+
+        then:
+        response == 'Some title|After the file|data.txt=hello'
+    }
+
+    void "test streaming uploads bound out of request order"() {
+        given:
+        def body = MultipartBody.builder()
+                .addPart("one", "one.txt", MediaType.TEXT_PLAIN_TYPE, 'first'.getBytes(StandardCharsets.UTF_8))
+                .addPart("two", "two.txt", MediaType.TEXT_PLAIN_TYPE, 'second'.getBytes(StandardCharsets.UTF_8))
+                .build()
+
+        when:
+        def request = HttpRequest.POST('/streaming-multipart/reversed', body)
+                .contentType(MediaType.MULTIPART_FORM_DATA_TYPE)
+        def response = client.toBlocking().retrieve(request)
+
+        then:
+        response == 'two=second,one=first'
+    }
+
+    @Requires(property = 'spec.name', value = 'JettyStreamingMultipartSpec')
+    @Controller("/streaming-multipart")
+    static class StreamingController {
+
+        @Post(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA, produces = MediaType.TEXT_PLAIN)
+        Publisher<String> upload(@Part("file") StreamingFileUpload file) {
+            Flux.from(file)
+                    .map(data -> data.bytes.length)
+                    .reduce(0, Integer::sum)
+                    .map(size -> "${file.filename} ${file.contentType.get()} $size".toString())
+        }
+
+        @Post(value = "/data", consumes = MediaType.MULTIPART_FORM_DATA, produces = MediaType.TEXT_PLAIN)
+        Publisher<String> data(@Part("file") Publisher<PartData> file) {
+            Flux.from(file)
+                    .map(data -> new String(data.bytes, StandardCharsets.UTF_8))
+                    .reduce('', String::concat)
+        }
+
+        @Post(value = "/mixed", consumes = MediaType.MULTIPART_FORM_DATA, produces = MediaType.TEXT_PLAIN)
+        Publisher<String> mixed(@Part("title") String title,
+                                @Part("file") StreamingFileUpload file,
+                                @Part("description") String description) {
+            text(file).map(content -> "$title|$description|${file.filename}=$content".toString())
+        }
+
+        @Post(value = "/reversed", consumes = MediaType.MULTIPART_FORM_DATA, produces = MediaType.TEXT_PLAIN)
+        Publisher<String> reversed(@Part("two") StreamingFileUpload two, @Part("one") StreamingFileUpload one) {
+            text(two).zipWith(text(one), (second, first) -> "two=$second,one=$first".toString())
+        }
+
+        private static Mono<String> text(StreamingFileUpload upload) {
+            Flux.from(upload)
+                    .map(data -> new String(data.bytes, StandardCharsets.UTF_8))
+                    .reduce('', String::concat)
+        }
+
+        @Post(value = "/all", consumes = MediaType.MULTIPART_FORM_DATA, produces = MediaType.TEXT_PLAIN)
+        Publisher<String> all(@Body Publisher<StreamingFileUpload> uploads) {
+            Flux.from(uploads)
+                    .concatMap(upload -> Flux.from(upload)
+                            .map(data -> new String(data.bytes, StandardCharsets.UTF_8))
+                            .reduce('', String::concat)
+                            .map(text -> upload.name + '=' + text))
+                    .collectList()
+                    .map(list -> list.join(','))
+        }
+    }
+}
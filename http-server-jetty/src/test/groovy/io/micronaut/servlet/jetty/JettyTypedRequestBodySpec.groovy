@@ -0,0 +1,88 @@
+package io.micronaut.servlet.jetty
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.json.tree.JsonNode
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest
+@Property(name = 'spec.name', value = 'JettyTypedRequestBodySpec')
+class JettyTypedRequestBodySpec extends Specification {
+
+    @Inject
+    @Client("/")
+    HttpClient client
+
+    void "test the body is decoded into the first requested type"() {
+        when:
+        def request = HttpRequest.POST('/typed-body/person', '{"name":"Fred","age":30}')
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+        def response = client.toBlocking().retrieve(request)
+
+        then:
+        response == 'Person Fred 30 tree Fred'
+    }
+
+    void "test the body can be read as two different types"() {
+        when:
+        def request = HttpRequest.POST("/typed-body/$path", '{"name":"Fred","age":30}')
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+        def response = client.toBlocking().retrieve(request)
+
+        then:
+        response == 'Fred 30 Fred 30'
+
+        where:
+        path << ['person-then-map', 'map-then-person']
+    }
+
+    void "test the tree is built when requested"() {
+        when:
+        def request = HttpRequest.POST('/typed-body/tree', '{"name":"Fred","age":30}')
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+        def response = client.toBlocking().retrieve(request)
+
+        then:
+        response == 'Fred'
+    }
+
+    @Requires(property = 'spec.name', value = 'JettyTypedRequestBodySpec')
+    @Controller("/typed-body")
+    static class TypedBodyController {
+
+        @Post(value = "/person", consumes = MediaType.APPLICATION_JSON)
+        String person(HttpRequest<?> request) {
+            Person person = request.getBody(Person).orElseThrow()
+            Object body = request.body.orElseThrow()
+            "Person ${person.name} ${person.age} ${body instanceof JsonNode ? 'tree ' + body.get('name').stringValue : body.class.simpleName}"
+        }
+
+        @Post(value = "/person-then-map", consumes = MediaType.APPLICATION_JSON)
+        String personThenMap(HttpRequest<?> request) {
+            Person person = request.getBody(Person).orElseThrow()
+            Map map = request.getBody(Map).orElseThrow()
+            "${person.name} ${person.age} ${map.name} ${map.age}"
+        }
+
+        @Post(value = "/map-then-person", consumes = MediaType.APPLICATION_JSON)
+        String mapThenPerson(HttpRequest<?> request) {
+            Map map = request.getBody(Map).orElseThrow()
+            Person person = request.getBody(Person).orElseThrow()
+            "${map.name} ${map.age} ${person.name} ${person.age}"
+        }
+
+        @Post(value = "/tree", consumes = MediaType.APPLICATION_JSON)
+        String tree(HttpRequest<?> request) {
+            JsonNode node = request.getBody(JsonNode).orElseThrow()
+            node.get("name").getStringValue()
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.micronaut.servlet.jetty
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.HttpClient
+import io.micronaut.runtime.server.EmbeddedServer
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.net.StandardProtocolFamily
+import java.net.UnixDomainSocketAddress
+import java.nio.ByteBuffer
+import java.nio.channels.SocketChannel
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+
+class JettyUnixSocketSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void "test the server listens on a unix domain socket and tcp"() {
+        given:
+        Path socket = tempDir.resolve('jetty.sock')
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'spec.name': 'JettyUnixSocketSpec',
+                'micronaut.server.unix-socket.path': socket.toString()
+        ])
+        HttpClient client = HttpClient.create(embeddedServer.URL)
+
+        expect:
+        Files.exists(socket)
+        client.toBlocking().retrieve('/unix-socket') == 'hello'
+        request(socket, '/unix-socket').endsWith('hello')
+        request(socket, '/unix-socket').startsWith('HTTP/1.1 200')
+
+        cleanup:
+        client.close()
+        embeddedServer.close()
+    }
+
+    private static String request(Path socket, String path) {
+        SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)
+        try {
+            channel.connect(UnixDomainSocketAddress.of(socket))
+            channel.write(StandardCharsets.US_ASCII.encode("GET $path HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n"))
+            ByteArrayOutputStream out = new ByteArrayOutputStream()
+            ByteBuffer buffer = ByteBuffer.allocate(1024)
+            while (channel.read(buffer) != -1) {
+                out.write(buffer.array(), 0, buffer.position())
+                buffer.clear()
+            }
+            return out.toString(StandardCharsets.US_ASCII)
+        } finally {
+            channel.close()
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'JettyUnixSocketSpec')
+    @Controller('/unix-socket')
+    static class UnixSocketController {
+
+        @Get(produces = MediaType.TEXT_PLAIN)
+        String index() {
+            'hello'
+        }
+    }
+}
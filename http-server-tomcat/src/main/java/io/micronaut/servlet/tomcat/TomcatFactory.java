@@ -27,6 +27,7 @@ import jakarta.inject.Named;
 import io.micronaut.servlet.engine.initializer.MicronautServletInitializer;
 import jakarta.servlet.ServletContainerInitializer;
 import java.io.File;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 
@@ -39,10 +40,14 @@ import io.micronaut.http.ssl.ClientAuthentication;
 import io.micronaut.http.ssl.SslConfiguration;
 import io.micronaut.servlet.engine.DefaultMicronautServlet;
 import io.micronaut.servlet.engine.MicronautServletConfiguration;
+import io.micronaut.servlet.engine.server.ServletHttp2Configuration;
+import io.micronaut.servlet.engine.server.ServletPortExecutorConfiguration;
 import io.micronaut.servlet.engine.server.ServletServerFactory;
 import io.micronaut.servlet.engine.server.ServletStaticResourceConfiguration;
+import io.micronaut.servlet.engine.server.ServletTlsConfiguration;
 import jakarta.inject.Singleton;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import org.apache.catalina.Container;
 import org.apache.catalina.Context;
 import org.apache.catalina.connector.Connector;
@@ -50,6 +55,7 @@ import org.apache.catalina.core.ContainerBase;
 import org.apache.catalina.core.StandardThreadExecutor;
 import org.apache.catalina.startup.Tomcat;
 import org.apache.coyote.ProtocolHandler;
+import org.apache.coyote.http11.AbstractHttp11Protocol;
 import org.apache.coyote.http2.Http2Protocol;
 import org.apache.tomcat.util.net.SSLHostConfig;
 import org.apache.tomcat.util.net.SSLHostConfigCertificate;
@@ -122,8 +128,6 @@ public class TomcatFactory extends ServletServerFactory {
         @Named(HTTPS) @Nullable Connector httpsConnector,
         MicronautServletConfiguration configuration,
         Collection<ServletContainerInitializer> servletInitializers) {
-        configuration.setAsyncFileServingEnabled(false);
-
         Tomcat tomcat = newTomcat();
         if (configuration.getMaxThreads() != null) {
             StandardThreadExecutor executor = new StandardThreadExecutor();
@@ -144,6 +148,9 @@ public class TomcatFactory extends ServletServerFactory {
 
         configureServletInitializer(context, servletInitializers);
         configureConnectors(tomcat, connector, httpsConnector);
+        if (httpsConnector != null) {
+            watchKeyStores(() -> reloadSslHostConfigs(tomcat));
+        }
 
         TomcatConfiguration serverConfiguration = getServerConfiguration();
         serverConfiguration.getAccessLogConfiguration().ifPresent(accessValve -> {
@@ -160,6 +167,20 @@ public class TomcatFactory extends ServletServerFactory {
         return tomcat;
     }
 
+    /**
+     * Reload the certificates of all HTTPS connectors, including those of additional ports. Connections that are
+     * open keep their session.
+     *
+     * @param tomcat The tomcat instance
+     */
+    private static void reloadSslHostConfigs(Tomcat tomcat) {
+        for (Connector connector : tomcat.getService().findConnectors()) {
+            if (connector.getProtocolHandler() instanceof AbstractHttp11Protocol<?> protocol && protocol.findSslHostConfigs().length > 0) {
+                protocol.reloadSslHostConfigs();
+            }
+        }
+    }
+
     /**
      * Configure the Micronaut servlet initializer.
      *
@@ -194,7 +215,10 @@ public class TomcatFactory extends ServletServerFactory {
         TomcatConfiguration serverConfiguration = getServerConfiguration();
         HttpVersion httpVersion = getServerConfiguration().getHttpVersion();
         if (httpVersion == HttpVersion.HTTP_2_0) {
-            httpConnector.addUpgradeProtocol(new Http2Protocol());
+            httpConnector.addUpgradeProtocol(newHttp2Protocol());
+            if (httpsConnector != null) {
+                httpsConnector.addUpgradeProtocol(newHttp2Protocol());
+            }
         }
         if (httpsConnector != null) {
             tomcat.getService().addConnector(httpsConnector);
@@ -206,6 +230,73 @@ public class TomcatFactory extends ServletServerFactory {
             tomcat.setConnector(httpConnector);
             applyAdditionalPorts(tomcat, httpConnector);
         }
+        getUnixSocketConfiguration().ifPresent(unixSocket ->
+            tomcat.getService().addConnector(newUnixDomainConnector(httpConnector, unixSocket.getPath()))
+        );
+    }
+
+    /**
+     * Create a connector that listens on a Unix domain socket, with the settings of the HTTP connector.
+     * Unix domain sockets require the NIO connector.
+     *
+     * @param httpConnector The HTTP connector
+     * @param path          The path of the socket file
+     * @return The Unix domain socket connector
+     * @since 4.12.0
+     */
+    protected @NonNull Connector newUnixDomainConnector(@NonNull Connector httpConnector, @NonNull Path path) {
+        Connector connector = cloneConnectorSettings(httpConnector);
+        connector.setProperty("unixDomainSocketPath", path.toString());
+        if (httpConnector.getProtocolHandler().getExecutor() != null) {
+            connector.getProtocolHandler().setExecutor(httpConnector.getProtocolHandler().getExecutor());
+        }
+        if (getServerConfiguration().getHttpVersion() == HttpVersion.HTTP_2_0) {
+            connector.addUpgradeProtocol(newHttp2Protocol());
+        }
+        return connector;
+    }
+
+    /**
+     * Create the HTTP/2 upgrade protocol, for h2c and for ALPN on HTTPS connectors, with the HTTP/2 configuration applied.
+     *
+     * @return The HTTP/2 protocol
+     * @since 4.12.0
+     */
+    protected @NonNull Http2Protocol newHttp2Protocol() {
+        Http2Protocol http2Protocol = new Http2Protocol();
+        ServletHttp2Configuration http2 = getHttp2Configuration();
+        http2.getMaxConcurrentStreams().ifPresent(http2Protocol::setMaxConcurrentStreams);
+        http2.getInitialStreamWindowSize().ifPresent(http2Protocol::setInitialWindowSize);
+        http2.getIdleTimeout().ifPresent(timeout -> http2Protocol.setKeepAliveTimeout(timeout.toMillis()));
+        http2.getStreamIdleTimeout().ifPresent(timeout -> {
+            http2Protocol.setStreamReadTimeout(timeout.toMillis());
+            http2Protocol.setStreamWriteTimeout(timeout.toMillis());
+        });
+        return http2Protocol;
+    }
+
+    /**
+     * Create the executor of an additional port, so that requests to the port are not starved when the executor
+     * of the main connector is saturated. Requests that do not fit in the queue are rejected.
+     *
+     * @param tomcat        The tomcat instance, whose service manages the lifecycle of the executor
+     * @param configuration The thread pool configuration of the port
+     * @return The executor
+     * @since 4.12.0
+     */
+    protected @NonNull Executor newPortExecutor(@NonNull Tomcat tomcat, @NonNull ServletPortExecutorConfiguration configuration) {
+        Executor virtualThreadExecutor = newPortVirtualThreadExecutor(configuration);
+        if (virtualThreadExecutor != null) {
+            return virtualThreadExecutor;
+        }
+        StandardThreadExecutor executor = new StandardThreadExecutor();
+        executor.setName("tomcatThreadPool-" + configuration.getPort());
+        executor.setNamePrefix("tomcat-port-" + configuration.getPort() + "-");
+        executor.setMaxThreads(configuration.getMaxThreads());
+        executor.setMinSpareThreads(configuration.getMinThreads());
+        executor.setMaxQueueSize(Math.max(1, configuration.getQueueSize()));
+        tomcat.getService().addExecutor(executor);
+        return executor;
     }
 
     private void applyAdditionalPorts(Tomcat server, Connector serverConnector) {
@@ -216,6 +307,10 @@ public class TomcatFactory extends ServletServerFactory {
                     if (!exposedPort.equals(serverConnector.getLocalPort())) {
                         Connector newConnector = cloneConnectorSettings(serverConnector);
                         newConnector.setPort(exposedPort);
+                        newConnector.getProtocolHandler().setExecutor(newPortExecutor(server, getPortExecutorConfiguration(exposedPort)));
+                        if (getServerConfiguration().getHttpVersion() == HttpVersion.HTTP_2_0) {
+                            newConnector.addUpgradeProtocol(newHttp2Protocol());
+                        }
                         server.getService().addConnector(newConnector);
                     }
                 }
@@ -344,6 +439,11 @@ public class TomcatFactory extends ServletServerFactory {
         SslConfiguration.KeyConfiguration keyConfig = sslConfiguration.getKey();
         keyConfig.getAlias().ifPresent(certificate::setCertificateKeyAlias);
         keyConfig.getPassword().ifPresent(certificate::setCertificateKeyPassword);
+
+        configureSessionTickets();
+        ServletTlsConfiguration tls = getTlsConfiguration();
+        tls.getSessionCacheSize().ifPresent(sslHostConfig::setSessionCacheSize);
+        tls.getSessionTimeout().ifPresent(timeout -> sslHostConfig.setSessionTimeout((int) timeout.toSeconds()));
         return httpsConnector;
     }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.tomcat;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.servlet.http.ServletExchange;
+import io.micronaut.servlet.http.ServletFileSender;
+import jakarta.inject.Singleton;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.catalina.Globals;
+import org.reactivestreams.Publisher;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Hands files over to the sendfile support of the Tomcat connector, which writes them to the socket once
+ * the response is committed.
+ *
+ * @since 4.12.0
+ */
+@Singleton
+class TomcatFileSender implements ServletFileSender {
+
+    @Override
+    public Publisher<MutableHttpResponse<?>> sendFile(@NonNull ServletExchange<?, ?> exchange,
+                                                      @NonNull File file,
+                                                      long position,
+                                                      long count) throws IOException {
+        if (!(exchange.getRequest().getNativeRequest() instanceof HttpServletRequest request)
+            || !Boolean.TRUE.equals(request.getAttribute(Globals.SENDFILE_SUPPORTED_ATTR))) {
+            return null;
+        }
+        request.setAttribute(Globals.SENDFILE_FILENAME_ATTR, file.getCanonicalPath());
+        request.setAttribute(Globals.SENDFILE_FILE_START_ATTR, position);
+        request.setAttribute(Globals.SENDFILE_FILE_END_ATTR, position + count);
+        return Publishers.just(exchange.getResponse());
+    }
+}
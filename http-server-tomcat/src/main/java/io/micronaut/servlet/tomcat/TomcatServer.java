@@ -18,6 +18,7 @@ package io.micronaut.servlet.tomcat;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.http.server.exceptions.InternalServerException;
 import io.micronaut.runtime.ApplicationConfiguration;
+import io.micronaut.servlet.engine.BoundedVirtualThreadExecutor;
 import io.micronaut.servlet.engine.server.AbstractServletServer;
 import org.apache.catalina.connector.Connector;
 import org.apache.catalina.startup.Tomcat;
@@ -26,7 +27,10 @@ import jakarta.inject.Singleton;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -38,6 +42,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 @Singleton
 public class TomcatServer extends AbstractServletServer<Tomcat> {
 
+    private static final long POLL_MILLIS = 50;
+
     private final AtomicBoolean running = new AtomicBoolean(false);
 
     /**
@@ -62,6 +68,55 @@ public class TomcatServer extends AbstractServletServer<Tomcat> {
         }
     }
 
+    @Override
+    protected void stopAccepting() {
+        for (Connector connector : getServer().getService().findConnectors()) {
+            connector.getProtocolHandler().closeServerSocketGraceful();
+            connector.pause();
+        }
+    }
+
+    /**
+     * Waits until the asynchronous requests of the Micronaut servlet have completed and the request threads of
+     * the paused connectors are idle, which also covers requests to other servlets and static resources.
+     * Executors without an active count, such as unbounded virtual threads, are not waited for.
+     *
+     * @param timeout The maximum time to wait
+     * @return Whether all requests completed in time
+     * @throws Exception when an error occurred
+     */
+    @Override
+    protected boolean awaitRequests(Duration timeout) throws Exception {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        if (!super.awaitRequests(timeout)) {
+            return false;
+        }
+        while (activeCount() > 0) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            Thread.sleep(POLL_MILLIS);
+        }
+        return true;
+    }
+
+    private int activeCount() {
+        int active = 0;
+        for (Connector connector : getServer().getService().findConnectors()) {
+            Executor executor = connector.getProtocolHandler().getExecutor();
+            if (executor instanceof org.apache.tomcat.util.threads.ThreadPoolExecutor pool) {
+                active += pool.getActiveCount();
+            } else if (executor instanceof org.apache.catalina.core.StandardThreadExecutor pool) {
+                active += pool.getActiveCount();
+            } else if (executor instanceof ThreadPoolExecutor pool) {
+                active += pool.getActiveCount();
+            } else if (executor instanceof BoundedVirtualThreadExecutor bounded) {
+                active += bounded.getActiveCount();
+            }
+        }
+        return active;
+    }
+
     @Override
     protected void stopServer() throws Exception {
         if (running.compareAndSet(true, false)) {
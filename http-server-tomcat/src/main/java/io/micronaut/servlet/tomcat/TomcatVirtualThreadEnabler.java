@@ -19,6 +19,8 @@ import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.event.BeanCreatedEvent;
 import io.micronaut.context.event.BeanCreatedEventListener;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.servlet.engine.BoundedVirtualThreadExecutor;
 import io.micronaut.servlet.http.ServletConfiguration;
 import jakarta.inject.Singleton;
 import org.apache.catalina.connector.Connector;
@@ -26,15 +28,19 @@ import org.apache.coyote.ProtocolHandler;
 import org.apache.tomcat.util.threads.VirtualThreadExecutor;
 
 /**
- * Enables virtual thread configuration if enabled.
+ * Enables virtual thread configuration if enabled. Requests run on the {@link BoundedVirtualThreadExecutor}
+ * when a concurrency limit is configured.
  */
 @Requires(sdk = Requires.Sdk.JAVA, version = "21")
 @Singleton
 class TomcatVirtualThreadEnabler implements BeanCreatedEventListener<Connector> {
     private final ServletConfiguration servletConfiguration;
+    private final BoundedVirtualThreadExecutor boundedExecutor;
 
-    public TomcatVirtualThreadEnabler(ServletConfiguration servletConfiguration) {
+    public TomcatVirtualThreadEnabler(ServletConfiguration servletConfiguration,
+                                      @Nullable BoundedVirtualThreadExecutor boundedExecutor) {
         this.servletConfiguration = servletConfiguration;
+        this.boundedExecutor = boundedExecutor;
     }
 
     @Override
@@ -42,7 +48,11 @@ class TomcatVirtualThreadEnabler implements BeanCreatedEventListener<Connector>
         Connector connector = event.getBean();
         if (servletConfiguration.isEnableVirtualThreads()) {
             ProtocolHandler protocolHandler = connector.getProtocolHandler();
-            protocolHandler.setExecutor(new VirtualThreadExecutor("tomcat-handler-"));
+            if (boundedExecutor != null) {
+                protocolHandler.setExecutor(boundedExecutor);
+            } else {
+                protocolHandler.setExecutor(new VirtualThreadExecutor("tomcat-handler-"));
+            }
         }
         return connector;
     }
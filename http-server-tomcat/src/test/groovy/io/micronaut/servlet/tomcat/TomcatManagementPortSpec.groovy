@@ -20,6 +20,9 @@ import java.nio.file.Files
 import java.nio.file.Path
 import java.security.KeyStore
 import java.security.cert.Certificate
+import org.apache.catalina.connector.Connector
+import org.apache.catalina.core.StandardThreadExecutor
+import org.apache.catalina.startup.Tomcat
 
 @Issue("https://github.com/micronaut-projects/micronaut-servlet/issues/616")
 class TomcatManagementPortSpec extends Specification {
@@ -125,6 +128,32 @@ class TomcatManagementPortSpec extends Specification {
         server.stop()
     }
 
+    def 'management port gets a thread pool of its own'() {
+        given:
+        def port = SocketUtils.findAvailableTcpPort()
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+                'spec.name'                                           : 'TomcatManagementPortSpec',
+                'endpoints.all.enabled'                               : true,
+                'endpoints.all.port'                                  : port,
+                ("micronaut.server.port-executors.${port}.max-threads".toString()): 4,
+                ("micronaut.server.port-executors.${port}.queue-size".toString()) : 10,
+        ])
+        BlockingHttpClient managementClient = server.getApplicationContext().createBean(HttpClient, URI.create("http://localhost:$port/")).toBlocking()
+        Tomcat tomcat = ((TomcatServer) server).server
+        Connector connector = tomcat.service.findConnectors().find { it.port == port }
+
+        expect:
+        connector.protocolHandler.executor instanceof StandardThreadExecutor
+        ((StandardThreadExecutor) connector.protocolHandler.executor).name == "tomcatThreadPool-$port"
+        ((StandardThreadExecutor) connector.protocolHandler.executor).maxThreads == 4
+        ((StandardThreadExecutor) connector.protocolHandler.executor).maxQueueSize == 10
+        managementClient.exchange('/health', String).body() == '{"status":"UP"}'
+
+        cleanup:
+        managementClient.close()
+        server.stop()
+    }
+
     @Controller("/management-port")
     @Requires(property = "spec.name", value = "TomcatManagementPortSpec")
     static class TestController {
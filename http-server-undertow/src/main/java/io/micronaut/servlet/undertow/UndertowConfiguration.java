@@ -20,7 +20,6 @@ import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.Replaces;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.Nullable;
-import io.micronaut.core.annotation.TypeHint;
 import io.micronaut.core.convert.format.MapFormat;
 import io.micronaut.core.naming.conventions.StringConvention;
 import io.micronaut.core.util.StringUtils;
@@ -28,7 +27,6 @@ import io.micronaut.core.util.Toggleable;
 import io.micronaut.http.server.HttpServerConfiguration;
 import io.micronaut.scheduling.TaskExecutors;
 import io.undertow.Undertow;
-import io.undertow.UndertowOptions;
 import io.undertow.server.handlers.accesslog.DefaultAccessLogReceiver;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -44,13 +42,23 @@ import java.util.concurrent.ExecutorService;
  * @since 1.0.0
  */
 @ConfigurationProperties("undertow")
-@TypeHint(
-    value = {UndertowOptions.class, org.xnio.Option.class},
-    accessType = TypeHint.AccessType.ALL_DECLARED_FIELDS
-)
 @Replaces(HttpServerConfiguration.class)
 public class UndertowConfiguration extends HttpServerConfiguration {
 
+    /**
+     * The property that enables the {@link #isNativeHandler() native handler}.
+     *
+     * @since 4.12.0
+     */
+    public static final String NATIVE_HANDLER_PROPERTY = HttpServerConfiguration.PREFIX + ".undertow.native-handler";
+
+    /**
+     * The default value for the native handler.
+     *
+     * @since 4.12.0
+     */
+    public static final boolean DEFAULT_NATIVE_HANDLER = false;
+
     @ConfigurationBuilder
     protected Undertow.Builder undertowBuilder = Undertow.builder();
 
@@ -59,6 +67,7 @@ public class UndertowConfiguration extends HttpServerConfiguration {
     private Map<String, String> workerOptions = new HashMap<>(5);
     private Map<String, String> socketOptions = new HashMap<>(5);
     private Map<String, String> serverOptions = new HashMap<>(5);
+    private boolean nativeHandler;
 
     /**
      * Default constructor.
@@ -143,6 +152,29 @@ public class UndertowConfiguration extends HttpServerConfiguration {
         }
     }
 
+    /**
+     * @return Whether Micronaut requests are handled by a native Undertow handler instead of the servlet deployment
+     * @since 4.12.0
+     */
+    public boolean isNativeHandler() {
+        return nativeHandler;
+    }
+
+    /**
+     * Whether to handle Micronaut requests with a native Undertow handler, skipping the servlet request
+     * wrappers, filter chain and session lookup. Requests for servlets and filters registered by the application,
+     * and form submissions, are still handled by the servlet deployment. Default value ({@value #DEFAULT_NATIVE_HANDLER}).
+     *
+     * <p>Arguments that bind to the Servlet API, such as {@code HttpServletRequest}, are not available
+     * to requests handled natively.</p>
+     *
+     * @param nativeHandler True to enable the native handler
+     * @since 4.12.0
+     */
+    public void setNativeHandler(boolean nativeHandler) {
+        this.nativeHandler = nativeHandler;
+    }
+
     /**
      * @return The server options.
      */
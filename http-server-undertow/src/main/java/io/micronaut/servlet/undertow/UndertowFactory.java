@@ -19,21 +19,28 @@ import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Primary;
 import io.micronaut.context.env.Environment;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.io.ResourceResolver;
-import io.micronaut.core.reflect.ReflectionUtils;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.http.HttpVersion;
 import io.micronaut.http.server.exceptions.ServerStartupException;
 import io.micronaut.http.ssl.SslConfiguration;
+import io.micronaut.servlet.engine.BoundedVirtualThreadExecutor;
 import io.micronaut.servlet.engine.MicronautServletConfiguration;
 import io.micronaut.servlet.engine.initializer.MicronautServletInitializer;
+import io.micronaut.servlet.engine.server.ServletHttp2Configuration;
+import io.micronaut.servlet.engine.server.ServletPortExecutorConfiguration;
 import io.micronaut.servlet.engine.server.ServletServerFactory;
 import io.micronaut.servlet.engine.server.ServletStaticResourceConfiguration;
+import io.micronaut.servlet.engine.server.ServletUnixSocketConfiguration;
 import io.micronaut.web.router.Router;
 import io.undertow.Handlers;
 import io.undertow.Undertow;
 import io.undertow.UndertowOptions;
 import io.undertow.server.HttpHandler;
+import io.undertow.server.handlers.GracefulShutdownHandler;
 import io.undertow.server.handlers.accesslog.AccessLogHandler;
 import io.undertow.servlet.Servlets;
 import io.undertow.servlet.api.DeploymentInfo;
@@ -43,11 +50,15 @@ import io.undertow.servlet.api.ServletContainerInitializerInfo;
 import jakarta.inject.Singleton;
 import jakarta.servlet.ServletContainerInitializer;
 import jakarta.servlet.ServletException;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.net.ssl.SSLContext;
+import org.jboss.threads.EnhancedQueueExecutor;
 import org.xnio.Option;
 import org.xnio.Options;
 
@@ -60,8 +71,12 @@ import org.xnio.Options;
 @Factory
 public class UndertowFactory extends ServletServerFactory {
 
+    private static final Duration PORT_THREAD_KEEP_ALIVE = Duration.ofMinutes(1);
+    private static final String HTTPS_PROTOCOL = "https";
+
     private final UndertowConfiguration configuration;
     private final Router router;
+    private GracefulShutdownHandler gracefulShutdownHandler;
 
     /**
      * Default constructor.
@@ -83,6 +98,15 @@ public class UndertowFactory extends ServletServerFactory {
         this.router = applicationContext.findBean(Router.class).orElse(null);
     }
 
+    /**
+     * @return The handler that tracks the requests for the graceful stop, or {@code null} if no shutdown timeout
+     * is configured
+     */
+    @Nullable
+    GracefulShutdownHandler getGracefulShutdownHandler() {
+        return gracefulShutdownHandler;
+    }
+
     @Override
     public UndertowConfiguration getServerConfiguration() {
         return (UndertowConfiguration) super.getServerConfiguration();
@@ -101,7 +125,10 @@ public class UndertowFactory extends ServletServerFactory {
         final Undertow.Builder builder = configuration.getUndertowBuilder();
         int port = getConfiguredPort();
         String host = getConfiguredHost();
-
+        if (getUnixSocketConfiguration().isPresent()) {
+            // XNIO, the transport of Undertow, can only bind TCP and UDP sockets
+            throw new ConfigurationException("Unix domain sockets are not supported by Undertow, remove the [" + ServletUnixSocketConfiguration.PATH_PROPERTY + "] property or use Jetty or Tomcat");
+        }
 
         final String cp = getContextPath();
         final DeploymentManager deploymentManager = Servlets.defaultContainer().addDeployment(deploymentInfo);
@@ -109,8 +136,9 @@ public class UndertowFactory extends ServletServerFactory {
                 .deploy();
         HttpHandler httpHandler;
         try {
+            HttpHandler servletHandler = deploymentManager.start();
             httpHandler = Handlers.path(Handlers.redirect(cp))
-                    .addPrefixPath(cp, deploymentManager.start());
+                    .addPrefixPath(cp, micronautHandler(servletHandler, deploymentManager));
         } catch (ServletException e) {
             throw new ServerStartupException("Error starting Undertow server: " + e.getMessage(), e);
         }
@@ -124,6 +152,11 @@ public class UndertowFactory extends ServletServerFactory {
                 getApplicationContext().getClassLoader()
             );
         }
+        if (servletConfiguration.getShutdownTimeout().isPresent()) {
+            // counts every request, including static resources and other servlets, for the graceful stop
+            gracefulShutdownHandler = Handlers.gracefulShutdown(httpHandler);
+            httpHandler = gracefulShutdownHandler;
+        }
         builder.setHandler(httpHandler);
 
         final SslConfiguration sslConfiguration = getSslConfiguration();
@@ -146,13 +179,13 @@ public class UndertowFactory extends ServletServerFactory {
                         host
                     );
                 }
-                applyAdditionalPorts(builder, host, port, sslContext);
+                applyAdditionalPorts(builder, host, port, sslContext, httpHandler);
             } else {
                 builder.addHttpListener(
                     port,
                     host
                 );
-                applyAdditionalPorts(builder, host, port, null);
+                applyAdditionalPorts(builder, host, port, null, httpHandler);
             }
 
         } else {
@@ -160,7 +193,7 @@ public class UndertowFactory extends ServletServerFactory {
                 port,
                 host
             );
-            applyAdditionalPorts(builder, host, port, null);
+            applyAdditionalPorts(builder, host, port, null, httpHandler);
         }
 
         if (servletConfiguration.getMaxThreads() != null) {
@@ -169,19 +202,14 @@ public class UndertowFactory extends ServletServerFactory {
                 builder.setServerOption(Options.WORKER_TASK_CORE_THREADS, servletConfiguration.getMinThreads());
             }
         }
+        if (configuration.getHttpVersion() == HttpVersion.HTTP_2_0) {
+            configureHttp2(builder);
+        }
         Map<String, String> serverOptions = configuration.getServerOptions();
         serverOptions.forEach((key, value) -> {
-            Object opt = ReflectionUtils.findDeclaredField(UndertowOptions.class, key)
-                    .map(field -> {
-                        field.setAccessible(true);
-                        try {
-                            return field.get(UndertowOptions.class);
-                        } catch (IllegalAccessException e) {
-                            return null;
-                        }
-                    }).orElse(null);
+            Option<?> opt = UndertowOptionLookup.serverOption(key);
 
-            if (opt instanceof Option) {
+            if (opt != null) {
                 //noinspection unchecked
                 builder.setServerOption((Option<Object>) opt, value);
             } else {
@@ -190,9 +218,9 @@ public class UndertowFactory extends ServletServerFactory {
         });
         Map<String, String> workerOptions = configuration.getWorkerOptions();
         workerOptions.forEach((key, value) -> {
-            Object opt = getOptionValue(key);
+            Option<?> opt = UndertowOptionLookup.xnioOption(key);
 
-            if (opt instanceof Option) {
+            if (opt != null) {
                 //noinspection unchecked
                 builder.setWorkerOption((Option<Object>) opt, value);
             } else {
@@ -201,9 +229,9 @@ public class UndertowFactory extends ServletServerFactory {
         });
         Map<String, String> socketOptions = configuration.getSocketOptions();
         socketOptions.forEach((key, value) -> {
-            Object opt = getOptionValue(key);
+            Option<?> opt = UndertowOptionLookup.xnioOption(key);
 
-            if (opt instanceof Option) {
+            if (opt != null) {
                 //noinspection unchecked
                 builder.setSocketOption((Option<Object>) opt, value);
             } else {
@@ -213,37 +241,93 @@ public class UndertowFactory extends ServletServerFactory {
         return builder;
     }
 
-    private void applyAdditionalPorts(Undertow.Builder builder, String host, int serverPort, @Nullable SSLContext sslContext) {
+    /**
+     * The handler for requests under the context path. With the native handler enabled, Micronaut requests
+     * skip the servlet deployment.
+     *
+     * @param servletHandler    The handler of the started servlet deployment
+     * @param deploymentManager The deployment manager
+     * @return The handler
+     */
+    /**
+     * Enable HTTP/2, with ALPN on HTTPS listeners and h2c on HTTP listeners, and apply the HTTP/2 configuration.
+     * Options set with {@code micronaut.server.undertow.server-options} take precedence.
+     *
+     * @param builder The builder
+     * @since 4.12.0
+     */
+    protected void configureHttp2(@NonNull Undertow.Builder builder) {
+        builder.setServerOption(UndertowOptions.ENABLE_HTTP2, true);
+        ServletHttp2Configuration http2 = getHttp2Configuration();
+        http2.getMaxConcurrentStreams().ifPresent(value -> builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_CONCURRENT_STREAMS, value));
+        http2.getInitialStreamWindowSize().ifPresent(value -> builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_INITIAL_WINDOW_SIZE, value));
+        http2.getMaxFrameSize().ifPresent(value -> builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_FRAME_SIZE, value));
+        http2.getHeaderTableSize().ifPresent(value -> builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_HEADER_TABLE_SIZE, value));
+        http2.getIdleTimeout().ifPresent(timeout -> builder.setServerOption(UndertowOptions.NO_REQUEST_TIMEOUT, (int) timeout.toMillis()));
+    }
+
+    private HttpHandler micronautHandler(HttpHandler servletHandler, DeploymentManager deploymentManager) {
+        if (configuration.isNativeHandler()) {
+            UndertowHttpHandler nativeHandler = getApplicationContext().findBean(UndertowHttpHandler.class).orElse(null);
+            if (nativeHandler != null) {
+                DeploymentInfo deploymentInfo = deploymentManager.getDeployment().getDeploymentInfo();
+                return new UndertowNativeHandler(nativeHandler, servletHandler, deploymentInfo, deploymentInfo.getExecutor());
+            }
+        }
+        return servletHandler;
+    }
+
+    private void applyAdditionalPorts(Undertow.Builder builder, String host, int serverPort, @Nullable SSLContext sslContext, HttpHandler httpHandler) {
         if (router != null) {
             Set<Integer> exposedPorts = router.getExposedPorts();
             if (CollectionUtils.isNotEmpty(exposedPorts)) {
+                UndertowPortExecutors portExecutors = getApplicationContext().getBean(UndertowPortExecutors.class);
                 for (Integer exposedPort : exposedPorts) {
                     if (!exposedPort.equals(serverPort)) {
-                        addListener(builder, host, sslContext, exposedPort);
+                        Executor executor = portExecutors.manage(newPortExecutor(getPortExecutorConfiguration(exposedPort)));
+                        addListener(builder, host, sslContext, exposedPort, new UndertowPortHandler(executor, httpHandler));
                     }
                 }
             }
         }
     }
 
-    private static void addListener(Undertow.Builder builder, String host, SSLContext sslContext, Integer exposedPort) {
-        if (sslContext != null) {
-            builder.addHttpsListener(exposedPort, host, sslContext);
-        } else {
-            builder.addHttpListener(exposedPort, host);
-        }
+    private static void addListener(Undertow.Builder builder, String host, SSLContext sslContext, Integer exposedPort, HttpHandler rootHandler) {
+        builder.addListener(new Undertow.ListenerBuilder()
+            .setType(sslContext != null ? Undertow.ListenerType.HTTPS : Undertow.ListenerType.HTTP)
+            .setHost(host)
+            .setPort(exposedPort)
+            .setSslContext(sslContext)
+            .setRootHandler(rootHandler));
     }
 
-    private Object getOptionValue(String key) {
-        return ReflectionUtils.findDeclaredField(Options.class, key)
-                .map(field -> {
-                    field.setAccessible(true);
-                    try {
-                        return field.get(Options.class);
-                    } catch (IllegalAccessException e) {
-                        return null;
-                    }
-                }).orElse(null);
+    /**
+     * Create the executor of an additional port, so that requests to the port are not starved when the worker
+     * pool of the main port is saturated. Requests that do not fit in the queue are rejected with 503.
+     *
+     * @param configuration The thread pool configuration of the port
+     * @return The executor
+     * @since 4.12.0
+     */
+    protected @NonNull Executor newPortExecutor(@NonNull ServletPortExecutorConfiguration configuration) {
+        Executor virtualThreadExecutor = newPortVirtualThreadExecutor(configuration);
+        if (virtualThreadExecutor != null) {
+            return virtualThreadExecutor;
+        }
+        String namePrefix = "undertow-port-" + configuration.getPort() + "-";
+        AtomicInteger threadCount = new AtomicInteger();
+        return new EnhancedQueueExecutor.Builder()
+            .setCorePoolSize(configuration.getMinThreads())
+            .setMaximumPoolSize(configuration.getMaxThreads())
+            .setMaximumQueueSize(configuration.getQueueSize())
+            .setKeepAliveTime(PORT_THREAD_KEEP_ALIVE)
+            .setRegisterMBean(false)
+            .setThreadFactory(runnable -> {
+                Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            })
+            .build();
     }
 
     /**
@@ -255,7 +339,28 @@ public class UndertowFactory extends ServletServerFactory {
     @Singleton
     @Primary
     protected Undertow undertowServer(Undertow.Builder builder) {
-        return builder.build();
+        Undertow undertow = builder.build();
+        if (getSslConfiguration().isEnabled()) {
+            watchKeyStores(() -> reloadSslContext(undertow));
+        }
+        return undertow;
+    }
+
+    /**
+     * Build a new TLS context from the key and trust stores and set it on the HTTPS listeners. Connections that
+     * are open keep their session.
+     *
+     * @param undertow The undertow instance
+     */
+    private void reloadSslContext(Undertow undertow) {
+        SSLContext sslContext = build(getSslConfiguration()).orElse(null);
+        if (sslContext != null) {
+            for (Undertow.ListenerInfo listenerInfo : undertow.getListenerInfo()) {
+                if (HTTPS_PROTOCOL.equals(listenerInfo.getProtcol())) {
+                    listenerInfo.setSslContext(sslContext);
+                }
+            }
+        }
     }
 
     /**
@@ -292,6 +397,9 @@ public class UndertowFactory extends ServletServerFactory {
             .setDeploymentName(servletConfiguration.getName())
             .setClassLoader(getEnvironment().getClassLoader())
             .setContextPath(cp);
+        if (servletConfiguration.isEnableVirtualThreads()) {
+            getApplicationContext().findBean(BoundedVirtualThreadExecutor.class).ifPresent(deploymentInfo::setExecutor);
+        }
         for (ServletContainerInitializer servletInitializer : servletInitializers) {
             deploymentInfo
                 .addServletContainerInitializer(new ServletContainerInitializerInfo(
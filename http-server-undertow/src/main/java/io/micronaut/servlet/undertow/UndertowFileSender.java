@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.undertow;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.servlet.http.ServletExchange;
+import io.micronaut.servlet.http.ServletFileSender;
+import io.undertow.servlet.spec.ServletOutputStreamImpl;
+import jakarta.inject.Singleton;
+import jakarta.servlet.http.HttpServletResponse;
+import org.reactivestreams.Publisher;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends files through {@link ServletOutputStreamImpl#transferFrom(FileChannel)}, which lets XNIO transfer
+ * them to the connection with sendfile, and shared mappings through {@link ServletOutputStreamImpl#write(ByteBuffer)},
+ * which writes buffers larger than its own straight to the connection.
+ *
+ * @since 4.12.0
+ */
+@Singleton
+class UndertowFileSender implements ServletFileSender {
+
+    @Override
+    public Publisher<MutableHttpResponse<?>> sendFile(@NonNull ServletExchange<?, ?> exchange,
+                                                      @NonNull File file,
+                                                      long position,
+                                                      long count) throws IOException {
+        if (!(exchange.getResponse().getNativeResponse() instanceof HttpServletResponse response)
+            || !(response.getOutputStream() instanceof ServletOutputStreamImpl output)
+            || position + count != file.length()) {
+            // transferFrom always sends the remainder of the file
+            return null;
+        }
+        return Publishers.fromCompletableFuture(() -> {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                channel.position(position);
+                output.transferFrom(channel);
+                return CompletableFuture.<MutableHttpResponse<?>>completedFuture(exchange.getResponse());
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
+
+    @Override
+    public boolean canSendBuffer(@NonNull ServletExchange<?, ?> exchange) throws IOException {
+        return exchange.getResponse().getNativeResponse() instanceof HttpServletResponse response
+            && response.getOutputStream() instanceof ServletOutputStreamImpl;
+    }
+
+    @Override
+    public Publisher<MutableHttpResponse<?>> sendBuffer(@NonNull ServletExchange<?, ?> exchange,
+                                                        @NonNull ByteBuffer buffer) throws IOException {
+        if (!(exchange.getResponse().getNativeResponse() instanceof HttpServletResponse response)
+            || !(response.getOutputStream() instanceof ServletOutputStreamImpl output)) {
+            return null;
+        }
+        return Publishers.fromCompletableFuture(() -> {
+            try {
+                output.write(buffer);
+                return CompletableFuture.<MutableHttpResponse<?>>completedFuture(exchange.getResponse());
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.undertow;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.servlet.http.BodyBuilder;
+import io.micronaut.servlet.http.ServletExchange;
+import io.micronaut.servlet.http.ServletHttpHandler;
+import io.undertow.server.HttpServerExchange;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of {@link ServletHttpHandler} directly on top of the Undertow {@link HttpServerExchange},
+ * used when the {@link UndertowConfiguration#isNativeHandler() native handler} is enabled.
+ *
+ * @since 4.12.0
+ */
+@Internal
+@Singleton
+@Requires(property = UndertowConfiguration.NATIVE_HANDLER_PROPERTY, value = StringUtils.TRUE)
+public final class UndertowHttpHandler extends ServletHttpHandler<HttpServerExchange, HttpServerExchange> {
+
+    private final Executor ioExecutor;
+    private final Supplier<BodyBuilder> bodyBuilder;
+
+    /**
+     * Default constructor.
+     *
+     * @param applicationContext The application context
+     * @param conversionService  The conversion service
+     * @param ioExecutor         Executor to use for blocking IO operations
+     */
+    public UndertowHttpHandler(ApplicationContext applicationContext, ConversionService conversionService, @Named(TaskExecutors.BLOCKING) Executor ioExecutor) {
+        super(applicationContext, conversionService);
+        this.ioExecutor = ioExecutor;
+        this.bodyBuilder = SupplierUtil.memoized(() -> applicationContext.getBean(BodyBuilder.class));
+    }
+
+    @Override
+    protected ServletExchange<HttpServerExchange, HttpServerExchange> createExchange(HttpServerExchange request, HttpServerExchange response) {
+        return new UndertowHttpRequest<>(applicationContext.getConversionService(), request, getMediaTypeCodecRegistry(), bodyBuilder.get(), ioExecutor);
+    }
+}
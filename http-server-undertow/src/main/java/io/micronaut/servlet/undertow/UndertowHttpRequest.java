@@ -0,0 +1,493 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.undertow;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ArgumentConversionContext;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.convert.value.MutableConvertibleValues;
+import io.micronaut.core.convert.value.MutableConvertibleValuesMap;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpParameters;
+import io.micronaut.http.HttpVersion;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpRequest;
+import io.micronaut.http.ServerHttpRequest;
+import io.micronaut.http.body.ByteBody;
+import io.micronaut.http.body.CloseableByteBody;
+import io.micronaut.http.body.stream.InputStreamByteBody;
+import io.micronaut.http.codec.MediaTypeCodecRegistry;
+import io.micronaut.http.cookie.Cookie;
+import io.micronaut.http.cookie.Cookies;
+import io.micronaut.http.simple.SimpleHttpParameters;
+import io.micronaut.http.simple.cookies.SimpleCookies;
+import io.micronaut.servlet.http.BodyBuilder;
+import io.micronaut.servlet.http.ByteArrayBufferFactory;
+import io.micronaut.servlet.http.ParsedBodyHolder;
+import io.micronaut.servlet.http.ServletExchange;
+import io.micronaut.servlet.http.ServletHttpRequest;
+import io.micronaut.servlet.http.ServletHttpResponse;
+import io.micronaut.servlet.http.StreamedServletMessage;
+import io.micronaut.servlet.http.TypedBodyHolder;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HeaderValues;
+import io.undertow.util.HttpString;
+import io.undertow.util.Protocols;
+import io.undertow.util.SameThreadExecutor;
+import org.reactivestreams.Subscriber;
+import org.xnio.channels.StreamSourceChannel;
+import reactor.core.publisher.Sinks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * Implementation of {@link io.micronaut.http.HttpRequest} on top of the Undertow {@link HttpServerExchange}.
+ *
+ * @param <B> The body type
+ * @since 4.12.0
+ */
+@Internal
+final class UndertowHttpRequest<B> implements
+    ServletHttpRequest<HttpServerExchange, B>,
+    ServletExchange<HttpServerExchange, HttpServerExchange>,
+    StreamedServletMessage<B, byte[]>,
+    ServerHttpRequest<B>,
+    ParsedBodyHolder<B> {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final ConversionService conversionService;
+    private final HttpServerExchange exchange;
+    private final URI uri;
+    private final HttpMethod method;
+    private final UndertowRequestHeaders headers;
+    private final UndertowHttpResponse<B> response;
+    private final MediaTypeCodecRegistry codecRegistry;
+    private final MutableConvertibleValues<Object> attributes = new MutableConvertibleValuesMap<>();
+    private final CloseableByteBody byteBody;
+    private final TypedBodyHolder typedBody;
+    private HttpParameters parameters;
+    private SimpleCookies cookies;
+
+    private boolean bodyIsReadAsync;
+
+    /**
+     * Default constructor.
+     *
+     * @param conversionService The conversion service
+     * @param exchange          The Undertow exchange
+     * @param codecRegistry     The codec registry
+     * @param bodyBuilder       Body Builder
+     * @param ioExecutor        Executor for blocking operations
+     */
+    UndertowHttpRequest(ConversionService conversionService,
+                        HttpServerExchange exchange,
+                        MediaTypeCodecRegistry codecRegistry,
+                        BodyBuilder bodyBuilder,
+                        Executor ioExecutor) {
+        this.conversionService = conversionService;
+        this.exchange = exchange;
+        this.codecRegistry = codecRegistry;
+        long contentLength = exchange.getRequestContentLength();
+        this.byteBody = InputStreamByteBody.create(new ExchangeInputStream(exchange), contentLength < 0 ? OptionalLong.empty() : OptionalLong.of(contentLength), ioExecutor, ByteArrayBufferFactory.INSTANCE);
+        this.typedBody = new TypedBodyHolder(this, byteBody, bodyBuilder);
+
+        String requestURI = exchange.getRequestURI();
+        String queryString = exchange.getQueryString();
+        if (StringUtils.isNotEmpty(queryString)) {
+            requestURI = requestURI + "?" + queryString;
+        }
+        this.uri = URI.create(requestURI);
+        HttpMethod method;
+        try {
+            method = HttpMethod.valueOf(exchange.getRequestMethod().toString());
+        } catch (IllegalArgumentException e) {
+            method = HttpMethod.CUSTOM;
+        }
+        this.method = method;
+        this.headers = new UndertowRequestHeaders();
+        this.response = new UndertowHttpResponse<>(conversionService, this, exchange);
+    }
+
+    /**
+     * @return The conversion service.
+     */
+    ConversionService getConversionService() {
+        return conversionService;
+    }
+
+    /**
+     * @return The codec registry.
+     */
+    MediaTypeCodecRegistry getCodecRegistry() {
+        return codecRegistry;
+    }
+
+    @Override
+    public HttpVersion getHttpVersion() {
+        HttpString protocol = exchange.getProtocol();
+        if (Protocols.HTTP_2_0.equals(protocol)) {
+            return HttpVersion.HTTP_2_0;
+        } else if (Protocols.HTTP_1_0.equals(protocol)) {
+            return HttpVersion.HTTP_1_0;
+        }
+        return HttpVersion.HTTP_1_1;
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return true;
+    }
+
+    /**
+     * Keeps the exchange open once the current handler returns, and runs the callback straight after it on the same thread.
+     * The exchange is ended when the execution completes.
+     *
+     * @param asyncExecutionCallback The response publisher
+     */
+    @Override
+    public void executeAsync(AsyncExecutionCallback asyncExecutionCallback) {
+        exchange.dispatch(SameThreadExecutor.INSTANCE, () -> asyncExecutionCallback.run(exchange::endExchange));
+    }
+
+    @NonNull
+    @Override
+    public <T> Optional<T> getBody(@NonNull Argument<T> arg) {
+        if (bodyIsReadAsync) {
+            throw new IllegalStateException("Body is being read asynchronously!");
+        }
+        return typedBody.getBody(arg).map(t -> conversionService.convertRequired(t, arg));
+    }
+
+    @Override
+    public boolean isSecure() {
+        return "https".equals(exchange.getRequestScheme());
+    }
+
+    @NonNull
+    @Override
+    public Optional<MediaType> getContentType() {
+        return Optional.ofNullable(headers.get(HttpHeaders.CONTENT_TYPE))
+            .map(MediaType::new);
+    }
+
+    @Override
+    public long getContentLength() {
+        return exchange.getRequestContentLength();
+    }
+
+    @NonNull
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return exchange.getSourceAddress();
+    }
+
+    @NonNull
+    @Override
+    public InetSocketAddress getServerAddress() {
+        return exchange.getDestinationAddress();
+    }
+
+    @Nullable
+    @Override
+    public String getServerName() {
+        return exchange.getHostName();
+    }
+
+    @NonNull
+    @Override
+    public Charset getCharacterEncoding() {
+        return getContentType()
+            .flatMap(MediaType::getCharset)
+            .orElse(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getContextPath() {
+        return exchange.getResolvedPath();
+    }
+
+    @SuppressWarnings("resource")
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return byteBody().split(ByteBody.SplitBackpressureMode.FASTEST).toInputStream();
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        return new BufferedReader(new InputStreamReader(getInputStream(), getCharacterEncoding()));
+    }
+
+    @Override
+    public HttpServerExchange getNativeRequest() {
+        return exchange;
+    }
+
+    @NonNull
+    @Override
+    public Cookies getCookies() {
+        SimpleCookies cookies = this.cookies;
+        if (cookies == null) {
+            cookies = new SimpleCookies(conversionService);
+            for (io.undertow.server.handlers.Cookie cookie : exchange.requestCookies()) {
+                cookies.put(cookie.getName(), Cookie.of(cookie.getName(), cookie.getValue()));
+            }
+            this.cookies = cookies;
+        }
+        return cookies;
+    }
+
+    @NonNull
+    @Override
+    public HttpParameters getParameters() {
+        HttpParameters parameters = this.parameters;
+        if (parameters == null) {
+            Map<String, Deque<String>> queryParameters = exchange.getQueryParameters();
+            Map<CharSequence, List<String>> values = new LinkedHashMap<>(queryParameters.size());
+            queryParameters.forEach((name, value) -> values.put(name, new ArrayList<>(value)));
+            parameters = new SimpleHttpParameters(values, conversionService);
+            this.parameters = parameters;
+        }
+        return parameters;
+    }
+
+    @Override
+    public MutableHttpRequest<B> mutate() {
+        return new UndertowMutableHttpRequest<>(this);
+    }
+
+    @NonNull
+    @Override
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    @NonNull
+    @Override
+    public String getMethodName() {
+        return exchange.getRequestMethod().toString();
+    }
+
+    @NonNull
+    @Override
+    public URI getUri() {
+        return uri;
+    }
+
+    @NonNull
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @NonNull
+    @Override
+    public MutableConvertibleValues<Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public void setParsedBody(B body) {
+        typedBody.setParsedBody(body);
+    }
+
+    @NonNull
+    @Override
+    public Optional<B> getBody() {
+        return (Optional<B>) typedBody.getBody();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public ServletHttpRequest<HttpServerExchange, ? super Object> getRequest() {
+        return (ServletHttpRequest) this;
+    }
+
+    @Override
+    public ServletHttpResponse<HttpServerExchange, ?> getResponse() {
+        return response;
+    }
+
+    /**
+     * Reads the body from the request channel without blocking. Undertow calls the read listener on the I/O thread
+     * whenever more of the body has arrived.
+     *
+     * @param s The subscriber
+     */
+    @Override
+    public void subscribe(Subscriber<? super byte[]> s) {
+        bodyIsReadAsync = true;
+        Sinks.Many<byte[]> emitter = Sinks.many().replay().all();
+        StreamSourceChannel channel = exchange.getRequestChannel();
+        if (channel == null) {
+            emitter.tryEmitError(new IllegalStateException("The request body has already been read"));
+        } else {
+            channel.getReadSetter().set(ignore -> read(channel, emitter));
+            channel.resumeReads();
+        }
+        emitter.asFlux().subscribe(s);
+    }
+
+    private static void read(StreamSourceChannel channel, Sinks.Many<byte[]> emitter) {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        try {
+            int read;
+            while ((read = channel.read(buffer)) > 0) {
+                buffer.flip();
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                buffer.clear();
+                emitter.emitNext(bytes, Sinks.EmitFailureHandler.FAIL_FAST);
+            }
+            if (read == -1) {
+                channel.suspendReads();
+                emitter.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+            }
+        } catch (IOException e) {
+            channel.suspendReads();
+            emitter.emitError(e, Sinks.EmitFailureHandler.FAIL_FAST);
+        }
+    }
+
+    @Override
+    public @NonNull ByteBody byteBody() {
+        return byteBody;
+    }
+
+    /**
+     * Switches the exchange to blocking mode on first read, so requests that never read their body
+     * stay non-blocking.
+     */
+    private static final class ExchangeInputStream extends InputStream {
+        private HttpServerExchange exchange;
+        private InputStream delegate;
+
+        ExchangeInputStream(HttpServerExchange exchange) {
+            this.exchange = exchange;
+        }
+
+        private InputStream delegate() {
+            if (delegate == null) {
+                if (!exchange.isBlocking()) {
+                    exchange.startBlocking();
+                }
+                delegate = exchange.getInputStream();
+                exchange = null;
+            }
+            return delegate;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return delegate().read(b, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return delegate().skip(n);
+        }
+
+        @Override
+        public int read() throws IOException {
+            return delegate().read();
+        }
+
+        @Override
+        public int available() throws IOException {
+            return delegate().available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate().close();
+        }
+    }
+
+    /**
+     * The Undertow request headers.
+     */
+    private class UndertowRequestHeaders implements HttpHeaders {
+
+        @Override
+        public List<String> getAll(CharSequence name) {
+            HeaderValues values = exchange.getRequestHeaders().get(Objects.requireNonNull(name, "Header name should not be null").toString());
+            return values == null ? List.of() : new ArrayList<>(values);
+        }
+
+        @Nullable
+        @Override
+        public String get(CharSequence name) {
+            return exchange.getRequestHeaders().getFirst(Objects.requireNonNull(name, "Header name should not be null").toString());
+        }
+
+        @Override
+        public boolean contains(String name) {
+            return exchange.getRequestHeaders().contains(name);
+        }
+
+        @Override
+        public Set<String> names() {
+            Collection<HttpString> headerNames = exchange.getRequestHeaders().getHeaderNames();
+            Set<String> names = new LinkedHashSet<>(headerNames.size());
+            for (HttpString headerName : headerNames) {
+                names.add(headerName.toString());
+            }
+            return names;
+        }
+
+        @Override
+        public Collection<List<String>> values() {
+            return names()
+                .stream()
+                .map(this::getAll)
+                .toList();
+        }
+
+        @Override
+        public <T> Optional<T> get(CharSequence name, ArgumentConversionContext<T> conversionContext) {
+            final String v = get(name);
+            if (v != null) {
+                return conversionService.convert(v, conversionContext);
+            }
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,558 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.undertow;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ArgumentConversionContext;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.convert.value.MutableConvertibleValues;
+import io.micronaut.core.io.buffer.ReferenceCounted;
+import io.micronaut.core.util.ArrayUtils;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpResponseProvider;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpHeaders;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.codec.MediaTypeCodec;
+import io.micronaut.http.cookie.Cookie;
+import io.micronaut.http.exceptions.HttpStatusException;
+import io.micronaut.servlet.http.ServletHttpResponse;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.CookieImpl;
+import io.undertow.util.HeaderMap;
+import io.undertow.util.HeaderValues;
+import io.undertow.util.HttpString;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xnio.channels.StreamSinkChannel;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Implementation of {@link ServletHttpResponse} on top of the Undertow {@link HttpServerExchange}.
+ *
+ * @param <B> The body type
+ * @since 4.12.0
+ */
+@Internal
+final class UndertowHttpResponse<B> implements ServletHttpResponse<HttpServerExchange, B> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UndertowHttpResponse.class);
+
+    private static final byte[] EMPTY_ARRAY = "[]".getBytes();
+    private static final byte[] END_ARRAY = "]".getBytes();
+
+    private final ConversionService conversionService;
+    private final HttpServerExchange exchange;
+    private final UndertowHttpRequest<?> request;
+    private final UndertowResponseHeaders headers;
+    private B body;
+    private String reason = HttpStatus.OK.getReason();
+
+    /**
+     * Default constructor.
+     *
+     * @param conversionService The conversion service
+     * @param request           The request
+     * @param exchange          The Undertow exchange
+     */
+    UndertowHttpResponse(ConversionService conversionService,
+                         UndertowHttpRequest<B> request,
+                         HttpServerExchange exchange) {
+        this.conversionService = conversionService;
+        this.exchange = exchange;
+        this.request = request;
+        this.headers = new UndertowResponseHeaders();
+    }
+
+    /**
+     * Writes the published items to the response channel without blocking. An item is only requested from
+     * the publisher once the previous one has been fully written, so at most one item is held in memory.
+     * When the channel cannot take more data, writing continues from the channel's write listener on the
+     * I/O thread. The channel is only opened when the first item arrives, so an error before that can
+     * still change the status.
+     *
+     * @param dataPublisher The data publisher
+     * @return Emits the response once all items have been written
+     */
+    @Override
+    public Publisher<MutableHttpResponse<?>> stream(Publisher<?> dataPublisher) {
+        return Flux.create(emitter -> dataPublisher.subscribe(new Subscriber<Object>() {
+            StreamSinkChannel channel;
+            Subscription subscription;
+            final AtomicBoolean finished = new AtomicBoolean();
+            MediaType contentType = getContentType().orElse(MediaType.APPLICATION_JSON_TYPE);
+            MediaTypeCodec codec = request.getCodecRegistry().findCodec(contentType).orElse(null);
+            boolean isJson = contentType.getSubtype().equals("json");
+            boolean first = true;
+            boolean raw = false;
+            ByteBuffer pending;
+            boolean requested;
+            boolean completed;
+            boolean trailerWritten;
+            boolean shutdown;
+            boolean draining;
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription = s;
+                drain();
+            }
+
+            @Override
+            public void onNext(Object o) {
+                synchronized (this) {
+                    requested = false;
+                    pending = encode(o);
+                    if (draining) {
+                        // the item was delivered from within the drain loop, which picks it up
+                        return;
+                    }
+                }
+                drain();
+            }
+
+            /**
+             * Writes the pending data and requests the next item until the channel is full or
+             * the publisher has no item ready. A full channel resumes writes so that Undertow calls
+             * back once it can take more data.
+             */
+            private synchronized void drain() {
+                if (finished.get()) {
+                    return;
+                }
+                draining = true;
+                try {
+                    while (true) {
+                        if (pending != null) {
+                            StreamSinkChannel channel = channel();
+                            while (pending.hasRemaining()) {
+                                if (channel.write(pending) == 0) {
+                                    channel.resumeWrites();
+                                    return;
+                                }
+                            }
+                            pending = null;
+                        }
+                        if (!completed) {
+                            if (!requested) {
+                                requested = true;
+                                subscription.request(1);
+                                if (pending != null || completed) {
+                                    continue;
+                                }
+                            }
+                            if (channel != null) {
+                                channel.suspendWrites();
+                            }
+                            return;
+                        }
+                        if (!trailerWritten) {
+                            trailerWritten = true;
+                            if (!raw && isJson) {
+                                pending = ByteBuffer.wrap(first ? EMPTY_ARRAY : END_ARRAY);
+                                continue;
+                            }
+                        }
+                        StreamSinkChannel channel = channel();
+                        if (!shutdown) {
+                            shutdown = true;
+                            channel.shutdownWrites();
+                        }
+                        if (!channel.flush()) {
+                            channel.resumeWrites();
+                            return;
+                        }
+                        channel.suspendWrites();
+                        finish();
+                        return;
+                    }
+                } catch (IOException e) {
+                    fail(e);
+                } finally {
+                    draining = false;
+                }
+            }
+
+            private StreamSinkChannel channel() throws IOException {
+                if (channel == null) {
+                    channel = exchange.getResponseChannel();
+                    if (channel == null) {
+                        throw new IOException("The response channel has already been obtained");
+                    }
+                    channel.getWriteSetter().set(ignore -> drain());
+                }
+                return channel;
+            }
+
+            private ByteBuffer encode(Object o) {
+                if (o instanceof byte[] byteArray) {
+                    raw = true;
+                    return ByteBuffer.wrap(byteArray);
+                } else if (o instanceof io.micronaut.core.io.buffer.ByteBuffer<?> buf) {
+                    try {
+                        raw = true;
+                        return ByteBuffer.wrap(buf.toByteArray());
+                    } finally {
+                        if (buf instanceof ReferenceCounted referenceCounted) {
+                            referenceCounted.release();
+                        }
+                    }
+                } else if (codec != null) {
+                    byte[] bytes;
+                    if (o instanceof CharSequence) {
+                        bytes = o.toString().getBytes(getCharacterEncoding());
+                    } else {
+                        bytes = codec.encode(o);
+                    }
+                    if (isJson) {
+                        byte[] item = new byte[bytes.length + 1];
+                        item[0] = (byte) (first ? '[' : ',');
+                        System.arraycopy(bytes, 0, item, 1, bytes.length);
+                        bytes = item;
+                        first = false;
+                    }
+                    return ByteBuffer.wrap(bytes);
+                }
+                return null;
+            }
+
+            @Override
+            public synchronized void onError(Throwable t) {
+                if (finished.get()) {
+                    return;
+                }
+                if (channel == null && !exchange.isResponseStarted()) {
+                    // nothing has been sent yet, so the error can still be reported
+                    HttpStatusException httpStatusException = t instanceof HttpStatusException statusException ? statusException
+                        : new HttpStatusException(HttpStatus.INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR.getReason() + ": " + t.getMessage());
+                    exchange.setStatusCode(httpStatusException.getStatus().getCode());
+                    Object message = httpStatusException.getBody().orElse(httpStatusException.getMessage());
+                    raw = true;
+                    if (message instanceof CharSequence) {
+                        pending = ByteBuffer.wrap(message.toString().getBytes(getCharacterEncoding()));
+                    } else {
+                        pending = encode(message);
+                    }
+                    completed = true;
+                    if (!draining) {
+                        drain();
+                    }
+                } else {
+                    if (LOG.isWarnEnabled()) {
+                        LOG.warn("Reactive response received an error after some data has already been written. This error cannot be forwarded to the client.", t);
+                    }
+                    fail(t);
+                }
+            }
+
+            private void fail(Throwable t) {
+                if (finished.compareAndSet(false, true)) {
+                    pending = null;
+                    subscription.cancel();
+                    emitter.error(t);
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                synchronized (this) {
+                    completed = true;
+                    if (draining) {
+                        return;
+                    }
+                }
+                drain();
+            }
+
+            private void finish() {
+                if (finished.compareAndSet(false, true)) {
+                    emitter.next(UndertowHttpResponse.this);
+                    emitter.complete();
+                }
+            }
+        }), FluxSink.OverflowStrategy.ERROR);
+    }
+
+    /**
+     * @return The character encoding of the response
+     */
+    private Charset getCharacterEncoding() {
+        return getContentType()
+            .flatMap(MediaType::getCharset)
+            .orElse(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    @NonNull
+    public Optional<MediaType> getContentType() {
+        return conversionService.convert(headers.get(HttpHeaders.CONTENT_TYPE), MediaType.class);
+    }
+
+    @Override
+    public MutableHttpResponse<B> contentType(CharSequence contentType) {
+        headers.set(HttpHeaders.CONTENT_TYPE, Objects.requireNonNull(contentType, "Content type cannot be null"));
+        return this;
+    }
+
+    @Override
+    public MutableHttpResponse<B> contentType(MediaType mediaType) {
+        headers.set(HttpHeaders.CONTENT_TYPE, Objects.requireNonNull(mediaType, "Content type cannot be null"));
+        return this;
+    }
+
+    @Override
+    public MutableHttpResponse<B> contentLength(long length) {
+        exchange.setResponseContentLength(length);
+        return this;
+    }
+
+    @Override
+    public MutableHttpResponse<B> header(CharSequence name, CharSequence value) {
+        headers.add(name, value);
+        return this;
+    }
+
+    @Override
+    public MutableHttpResponse<B> status(int status) {
+        return status(status, null);
+    }
+
+    @Override
+    public MutableHttpResponse<B> status(HttpStatus status) {
+        return status(Objects.requireNonNull(status, "status cannot be null").getCode());
+    }
+
+    @Override
+    public HttpServerExchange getNativeResponse() {
+        return exchange;
+    }
+
+    @Override
+    public OutputStream getOutputStream() throws IOException {
+        if (!exchange.isBlocking()) {
+            exchange.startBlocking();
+        }
+        return exchange.getOutputStream();
+    }
+
+    @Override
+    public BufferedWriter getWriter() throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+    }
+
+    @Override
+    public MutableHttpResponse<B> cookie(Cookie cookie) {
+        CookieImpl c = new CookieImpl(cookie.getName(), cookie.getValue());
+        String domain = cookie.getDomain();
+        if (domain != null) {
+            c.setDomain(domain);
+        }
+        String path = cookie.getPath();
+        if (path != null) {
+            c.setPath(path);
+        }
+        c.setSecure(cookie.isSecure());
+        c.setHttpOnly(cookie.isHttpOnly());
+        long maxAge = cookie.getMaxAge();
+        if (maxAge >= 0) {
+            c.setMaxAge((int) Math.min(maxAge, Integer.MAX_VALUE));
+        }
+        cookie.getSameSite().ifPresent(sameSite -> c.setSameSiteMode(sameSite.name()));
+        exchange.setResponseCookie(c);
+        return this;
+    }
+
+    @Override
+    @NonNull
+    public MutableHttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @NonNull
+    @Override
+    public MutableConvertibleValues<Object> getAttributes() {
+        return request.getAttributes();
+    }
+
+    @NonNull
+    @Override
+    public Optional<B> getBody() {
+        return Optional.ofNullable(body);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> MutableHttpResponse<T> body(@Nullable T body) {
+        if (body instanceof HttpResponseProvider responseProvider) {
+            HttpResponse<T> response = (HttpResponse<T>) responseProvider.getResponse();
+            if (response != this && response.body() != null) {
+                body(response.body());
+            }
+        } else {
+            if (body != null) {
+                getContentType().orElseGet(() -> {
+                    final Produces ann = body.getClass().getAnnotation(Produces.class);
+                    if (ann != null) {
+                        final String[] v = ann.value();
+                        if (ArrayUtils.isNotEmpty(v)) {
+                            final MediaType mediaType = new MediaType(v[0]);
+                            contentType(mediaType);
+                            return mediaType;
+                        }
+                    }
+                    return null;
+                });
+            }
+            this.body = (B) body;
+        }
+        return (MutableHttpResponse<T>) this;
+    }
+
+    @Override
+    public MutableHttpResponse<B> status(int status, CharSequence message) {
+        if (message == null) {
+            this.reason = HttpStatus.getDefaultReason(status);
+        } else {
+            this.reason = message.toString();
+        }
+        if (!exchange.isResponseStarted()) {
+            exchange.setStatusCode(status);
+            if (message != null) {
+                exchange.setReasonPhrase(reason);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public int code() {
+        return exchange.getStatusCode();
+    }
+
+    @Override
+    public String reason() {
+        return reason;
+    }
+
+    /**
+     * The Undertow response headers.
+     */
+    private class UndertowResponseHeaders implements MutableHttpHeaders {
+
+        @Override
+        public MutableHttpHeaders add(CharSequence header, CharSequence value) {
+            final String headerName =
+                    Objects.requireNonNull(header, "Header name cannot be null").toString();
+
+            final String headerValue =
+                    Objects.requireNonNull(value, "Header value cannot be null").toString();
+
+            exchange.getResponseHeaders().add(HttpString.tryFromString(headerName), headerValue);
+            return this;
+        }
+
+        @Override
+        public MutableHttpHeaders set(CharSequence header, CharSequence value) {
+            final String headerName =
+                    Objects.requireNonNull(header, "Header name cannot be null").toString();
+
+            final String headerValue =
+                    Objects.requireNonNull(value, "Header value cannot be null").toString();
+
+            exchange.getResponseHeaders().put(HttpString.tryFromString(headerName), headerValue);
+            return this;
+        }
+
+        @Override
+        public MutableHttpHeaders remove(CharSequence header) {
+            exchange.getResponseHeaders().remove(Objects.requireNonNull(header, "Header name cannot be null").toString());
+            return this;
+        }
+
+        @Override
+        public List<String> getAll(CharSequence name) {
+            HeaderValues values = exchange.getResponseHeaders().get(
+                    Objects.requireNonNull(name, "Header name cannot be null").toString()
+            );
+            return values == null ? List.of() : new ArrayList<>(values);
+        }
+
+        @Nullable
+        @Override
+        public String get(CharSequence name) {
+            return exchange.getResponseHeaders().getFirst(
+                    Objects.requireNonNull(name, "Header name cannot be null").toString()
+            );
+        }
+
+        @Override
+        public Set<String> names() {
+            HeaderMap responseHeaders = exchange.getResponseHeaders();
+            Collection<HttpString> headerNames = responseHeaders.getHeaderNames();
+            Set<String> names = new LinkedHashSet<>(headerNames.size());
+            for (HttpString headerName : headerNames) {
+                names.add(headerName.toString());
+            }
+            return names;
+        }
+
+        @Override
+        public Collection<List<String>> values() {
+            return names()
+                    .stream()
+                    .map(this::getAll)
+                    .toList();
+        }
+
+        @Override
+        public <T> Optional<T> get(CharSequence name, ArgumentConversionContext<T> conversionContext) {
+            final String v = get(name);
+            if (v != null) {
+                return conversionService.convert(v, conversionContext);
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public void setConversionService(ConversionService conversionService) {
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.undertow;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.convert.value.ConvertibleMultiValues;
+import io.micronaut.core.convert.value.MutableConvertibleValues;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.MutableHttpHeaders;
+import io.micronaut.http.MutableHttpParameters;
+import io.micronaut.http.MutableHttpRequest;
+import io.micronaut.http.cookie.Cookie;
+import io.micronaut.http.cookie.Cookies;
+import io.micronaut.http.simple.SimpleHttpHeaders;
+import io.micronaut.http.simple.SimpleHttpParameters;
+import io.micronaut.servlet.http.MutableServletHttpRequest;
+import io.undertow.server.HttpServerExchange;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Mutable implementation for Undertow requests.
+ *
+ * @param <B> The body type
+ * @since 4.12.0
+ */
+@Internal
+final class UndertowMutableHttpRequest<B> implements MutableServletHttpRequest<HttpServerExchange, B> {
+    private final UndertowHttpRequest<B> undertowHttpRequest;
+    private URI uri;
+    private ConversionService conversionService;
+    private B body;
+    private final MutableHttpParameters parameters;
+    private final MutableHttpHeaders headers;
+
+    UndertowMutableHttpRequest(UndertowHttpRequest<B> undertowHttpRequest) {
+        this.undertowHttpRequest = undertowHttpRequest;
+        this.conversionService = undertowHttpRequest.getConversionService();
+        this.parameters = new SimpleHttpParameters(
+            copyValues(undertowHttpRequest.getParameters()),
+            conversionService
+        );
+        SimpleHttpHeaders newHeaders = new SimpleHttpHeaders(
+            new LinkedHashMap<>(),
+            conversionService
+        );
+        undertowHttpRequest.getHeaders().forEach((name, values) -> {
+            for (String value : values) {
+                newHeaders.add(name, value);
+            }
+        });
+        this.headers = newHeaders;
+    }
+
+    private static Map<CharSequence, List<String>> copyValues(ConvertibleMultiValues<String> params) {
+        LinkedHashMap<CharSequence, List<String>> values = new LinkedHashMap<>(params.names().size());
+        params.forEach(entry -> values.put(entry.getKey(), entry.getValue()));
+        return values;
+    }
+
+    @Override
+    public MutableHttpRequest<B> cookie(Cookie cookie) {
+        return this;
+    }
+
+    @Override
+    public MutableHttpRequest<B> uri(URI uri) {
+        this.uri = uri;
+        return this;
+    }
+
+    @Override
+    public <T> MutableHttpRequest<T> body(T body) {
+        this.body = (B) body;
+        return (MutableHttpRequest<T>) this;
+    }
+
+    @Override
+    public MutableHttpHeaders getHeaders() {
+        return this.headers;
+    }
+
+    @Override
+    public MutableConvertibleValues<Object> getAttributes() {
+        return undertowHttpRequest.getAttributes();
+    }
+
+    @Override
+    public Optional<B> getBody() {
+        if (body != null) {
+            return Optional.of(this.body);
+        } else {
+            return undertowHttpRequest.getBody();
+        }
+    }
+
+    @Override
+    public <T> Optional<T> getBody(Argument<T> type) {
+        if (body != null) {
+            return conversionService.convert(body, type);
+        } else {
+            return undertowHttpRequest.getBody(type);
+        }
+    }
+
+    @Override
+    public Cookies getCookies() {
+        return undertowHttpRequest.getCookies();
+    }
+
+    @Override
+    public MutableHttpParameters getParameters() {
+        return this.parameters;
+    }
+
+    @Override
+    public HttpMethod getMethod() {
+        return undertowHttpRequest.getMethod();
+    }
+
+    @Override
+    public URI getUri() {
+        if (uri != null) {
+            return uri;
+        }
+        return undertowHttpRequest.getUri();
+    }
+
+    @Override
+    public void setConversionService(ConversionService conversionService) {
+        this.conversionService = conversionService;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        if (body instanceof InputStream in) {
+            return in;
+        }
+        return undertowHttpRequest.getInputStream();
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (body instanceof InputStream in) {
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        } else if (body instanceof BufferedReader reader) {
+            return reader;
+        } else if (body instanceof Reader r) {
+            return new BufferedReader(r);
+        }
+        return undertowHttpRequest.getReader();
+    }
+
+    @Override
+    public HttpServerExchange getNativeRequest() {
+        return undertowHttpRequest.getNativeRequest();
+    }
+}
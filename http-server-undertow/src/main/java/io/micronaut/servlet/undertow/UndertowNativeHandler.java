@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.undertow;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.MediaType;
+import io.micronaut.servlet.engine.DefaultMicronautServlet;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.servlet.api.DeploymentInfo;
+import io.undertow.servlet.api.FilterMappingInfo;
+import io.undertow.servlet.api.ServletInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Routes Micronaut requests to the {@link UndertowHttpHandler}, and everything else to the servlet deployment.
+ *
+ * <p>A request goes to the servlet deployment when its path is mapped to a servlet or filter registered by the
+ * application, when it is not mapped to the Micronaut servlet, or when it is a form submission, since form
+ * parameters and multipart parts are parsed by the servlet container.</p>
+ *
+ * @since 4.12.0
+ */
+@Internal
+final class UndertowNativeHandler implements HttpHandler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UndertowNativeHandler.class);
+
+    private final UndertowHttpHandler handler;
+    private final HttpHandler servletHandler;
+    private final Executor executor;
+    private final List<String> micronautMappings = new ArrayList<>();
+    private final List<String> servletMappings = new ArrayList<>();
+    private final boolean servletOnly;
+
+    /**
+     * @param handler        The native Micronaut handler
+     * @param servletHandler The handler of the servlet deployment
+     * @param deploymentInfo The deployment info of the started deployment
+     * @param executor       The executor requests are dispatched to, or {@code null} for the worker pool
+     */
+    UndertowNativeHandler(UndertowHttpHandler handler,
+                          HttpHandler servletHandler,
+                          DeploymentInfo deploymentInfo,
+                          @Nullable Executor executor) {
+        this.handler = handler;
+        this.servletHandler = servletHandler;
+        this.executor = executor;
+        boolean servletOnly = false;
+        for (ServletInfo servlet : deploymentInfo.getServlets().values()) {
+            if (DefaultMicronautServlet.NAME.equals(servlet.getName())) {
+                micronautMappings.addAll(servlet.getMappings());
+            } else {
+                for (String mapping : servlet.getMappings()) {
+                    // the default servlet only gets what no other servlet is mapped to
+                    if (!"/".equals(mapping)) {
+                        servletMappings.add(mapping);
+                    }
+                }
+            }
+        }
+        for (FilterMappingInfo filterMapping : deploymentInfo.getFilterMappings()) {
+            if (filterMapping.getMappingType() == FilterMappingInfo.MappingType.URL) {
+                servletMappings.add(filterMapping.getMapping());
+            } else if (DefaultMicronautServlet.NAME.equals(filterMapping.getMapping())) {
+                servletOnly = true;
+            }
+        }
+        this.servletOnly = servletOnly || servletMappings.contains("/*");
+        if (this.servletOnly && LOG.isInfoEnabled()) {
+            LOG.info("A servlet filter applies to all Micronaut requests, all requests are handled by the servlet deployment");
+        }
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        if (isServletRequest(exchange)) {
+            servletHandler.handleRequest(exchange);
+        } else if (exchange.isInIoThread()) {
+            if (executor != null) {
+                exchange.dispatch(executor, this);
+            } else {
+                exchange.dispatch(this);
+            }
+        } else {
+            handler.service(exchange, exchange);
+        }
+    }
+
+    private boolean isServletRequest(HttpServerExchange exchange) {
+        if (servletOnly) {
+            return true;
+        }
+        String contentType = exchange.getRequestHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
+        if (contentType != null && isFormSubmission(contentType)) {
+            return true;
+        }
+        String path = exchange.getRelativePath();
+        if (path.isEmpty()) {
+            path = "/";
+        }
+        for (String mapping : servletMappings) {
+            if (matches(mapping, path)) {
+                return true;
+            }
+        }
+        for (String mapping : micronautMappings) {
+            if (matches(mapping, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isFormSubmission(String contentType) {
+        return contentType.regionMatches(true, 0, MediaType.MULTIPART_FORM_DATA, 0, MediaType.MULTIPART_FORM_DATA.length())
+            || contentType.regionMatches(true, 0, MediaType.APPLICATION_FORM_URLENCODED, 0, MediaType.APPLICATION_FORM_URLENCODED.length());
+    }
+
+    /**
+     * Matches a path against a servlet URL pattern.
+     *
+     * @param pattern The exact, path prefix ({@code /path/*}), extension ({@code *.ext}) or default ({@code /}) pattern
+     * @param path    The request path relative to the context path
+     * @return Whether the pattern matches
+     */
+    static boolean matches(String pattern, String path) {
+        if (pattern.equals("/") || pattern.equals("/*")) {
+            return true;
+        }
+        if (pattern.endsWith("/*")) {
+            String prefix = pattern.substring(0, pattern.length() - 2);
+            return path.equals(prefix) || path.startsWith(prefix + "/");
+        }
+        if (pattern.startsWith("*.")) {
+            int lastSlash = path.lastIndexOf('/');
+            return path.substring(lastSlash + 1).endsWith(pattern.substring(1));
+        }
+        if (pattern.isEmpty()) {
+            return path.equals("/");
+        }
+        return pattern.equals(path);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.undertow;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.servlet.annotation.processor.StaticFieldLookup;
+import io.undertow.UndertowOptions;
+import org.xnio.Option;
+import org.xnio.Options;
+
+/**
+ * Finds the Undertow and XNIO options configured by name in a table that is generated at build time, so that
+ * looking them up needs no reflection.
+ *
+ * @since 4.12.0
+ */
+@Internal
+@StaticFieldLookup(value = {UndertowOptions.class, Options.class}, type = Option.class)
+final class UndertowOptionLookup {
+
+    private UndertowOptionLookup() {
+    }
+
+    /**
+     * @param name The field name of the option in {@link UndertowOptions}
+     * @return The server option or {@code null} if there is no such option
+     */
+    static @Nullable Option<?> serverOption(String name) {
+        return find(UndertowOptions.class, name);
+    }
+
+    /**
+     * @param name The field name of the option in {@link Options}
+     * @return The XNIO option or {@code null} if there is no such option
+     */
+    static @Nullable Option<?> xnioOption(String name) {
+        return find(Options.class, name);
+    }
+
+    private static Option<?> find(Class<?> owner, String name) {
+        return UndertowOptionLookupTable.fields(owner.getName()).get(name) instanceof Option<?> option ? option : null;
+    }
+}
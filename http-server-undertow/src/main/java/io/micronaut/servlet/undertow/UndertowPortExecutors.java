@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.undertow;
+
+import io.micronaut.core.annotation.Internal;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Keeps the executors of the additional ports, which are not managed by Undertow, and shuts them down
+ * with the application context.
+ *
+ * @since 4.12.0
+ */
+@Internal
+@Singleton
+final class UndertowPortExecutors {
+
+    private final List<ExecutorService> executors = new CopyOnWriteArrayList<>();
+
+    /**
+     * Shut down the given executor with the application context.
+     *
+     * @param executor The executor
+     * @param <T>      The type of the executor
+     * @return The executor
+     */
+    <T extends Executor> T manage(T executor) {
+        if (executor instanceof ExecutorService executorService) {
+            executors.add(executorService);
+        }
+        return executor;
+    }
+
+    /**
+     * Shut down the executors, requests that are in progress complete.
+     */
+    @PreDestroy
+    void close() {
+        for (ExecutorService executor : executors) {
+            executor.shutdown();
+        }
+        executors.clear();
+    }
+}
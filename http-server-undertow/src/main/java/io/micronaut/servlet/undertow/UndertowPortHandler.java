@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.undertow;
+
+import io.micronaut.core.annotation.Internal;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+
+import java.util.concurrent.Executor;
+
+/**
+ * The root handler of an additional port, which moves requests off the I/O thread to the executor of the port
+ * instead of the worker pool that the main port uses. Undertow responds with 503 when the executor rejects a request.
+ *
+ * @since 4.12.0
+ */
+@Internal
+final class UndertowPortHandler implements HttpHandler {
+
+    private final Executor executor;
+    private final HttpHandler next;
+
+    /**
+     * @param executor The executor of the port
+     * @param next     The handler shared by all ports
+     */
+    UndertowPortHandler(Executor executor, HttpHandler next) {
+        this.executor = executor;
+        this.next = next;
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        if (exchange.isInIoThread()) {
+            exchange.dispatch(executor, this);
+            return;
+        }
+        // later dispatches of the exchange, such as async servlet dispatches, stay on the pool of the port
+        exchange.setDispatchExecutor(executor);
+        next.handleRequest(exchange);
+    }
+}
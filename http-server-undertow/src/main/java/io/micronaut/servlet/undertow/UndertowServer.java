@@ -20,9 +20,11 @@ import io.micronaut.http.server.exceptions.InternalServerException;
 import io.micronaut.runtime.ApplicationConfiguration;
 import io.micronaut.servlet.engine.server.AbstractServletServer;
 import io.undertow.Undertow;
+import io.undertow.server.handlers.GracefulShutdownHandler;
 
 import jakarta.inject.Singleton;
 import java.net.*;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -63,6 +65,34 @@ public class UndertowServer extends AbstractServletServer<Undertow> {
         }
     }
 
+    @Override
+    protected void stopAccepting() {
+        for (Undertow.ListenerInfo listenerInfo : getServer().getListenerInfo()) {
+            listenerInfo.suspend();
+        }
+    }
+
+    /**
+     * Waits for the graceful shutdown handler installed with a shutdown timeout, which rejects new requests and
+     * tracks every request until its exchange completes. Without that handler only the requests of the Micronaut
+     * servlet are waited for.
+     *
+     * @param timeout The maximum time to wait
+     * @return Whether all requests completed in time
+     * @throws Exception when an error occurred
+     */
+    @Override
+    protected boolean awaitRequests(Duration timeout) throws Exception {
+        GracefulShutdownHandler handler = getApplicationContext().findBean(UndertowFactory.class)
+            .map(UndertowFactory::getGracefulShutdownHandler)
+            .orElse(null);
+        if (handler == null) {
+            return super.awaitRequests(timeout);
+        }
+        handler.shutdown();
+        return handler.awaitShutdown(timeout.toMillis());
+    }
+
     @Override
     protected void stopServer() throws Exception {
         getServer().stop();
@@ -20,6 +20,7 @@ import java.nio.file.Files
 import java.nio.file.Path
 import java.security.KeyStore
 import java.security.cert.Certificate
+import org.jboss.threads.EnhancedQueueExecutor
 
 @Issue("https://github.com/micronaut-projects/micronaut-servlet/issues/616")
 class UndertowManagementPortSpec extends Specification {
@@ -125,6 +126,30 @@ class UndertowManagementPortSpec extends Specification {
         server.stop()
     }
 
+    def 'management port gets a thread pool of its own'() {
+        given:
+        def port = SocketUtils.findAvailableTcpPort()
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+                'spec.name'                                           : 'UndertowManagementPortSpec',
+                'endpoints.all.enabled'                               : true,
+                'endpoints.all.port'                                  : port,
+                ("micronaut.server.port-executors.${port}.max-threads".toString()): 4,
+                ("micronaut.server.port-executors.${port}.queue-size".toString()) : 10,
+        ])
+        BlockingHttpClient managementClient = server.getApplicationContext().createBean(HttpClient, URI.create("http://localhost:$port/")).toBlocking()
+        UndertowPortExecutors portExecutors = server.applicationContext.getBean(UndertowPortExecutors)
+
+        expect:
+        portExecutors.executors.size() == 1
+        portExecutors.executors[0] instanceof EnhancedQueueExecutor
+        ((EnhancedQueueExecutor) portExecutors.executors[0]).maximumPoolSize == 4
+        managementClient.exchange('/health', String).body() == '{"status":"UP"}'
+
+        cleanup:
+        managementClient.close()
+        server.stop()
+    }
+
     @Controller("/management-port")
     @Requires(property = "spec.name", value = "UndertowManagementPortSpec")
     static class TestController {
@@ -0,0 +1,74 @@
+package io.micronaut.servlet.undertow
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.http.server.types.files.SystemFile
+import io.micronaut.servlet.http.encoders.MappedFileCache
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+
+@MicronautTest
+@Property(name = "spec.name", value = "UndertowMappedFileSpec")
+@Property(name = "micronaut.servlet.mapped-file-cache.enabled", value = "true")
+@Property(name = "micronaut.servlet.mapped-file-cache.min-file-size", value = "1024")
+class UndertowMappedFileSpec extends Specification {
+
+    static File file
+    static byte[] contents = (0..<(2 * 1024 * 1024)).collect { (byte) (it % 251) } as byte[]
+
+    static {
+        file = File.createTempFile("mappedFileSpec", ".bin")
+        file.deleteOnExit()
+        file.bytes = contents
+    }
+
+    @Inject
+    @Client("/")
+    HttpClient client
+
+    @Inject
+    MappedFileCache mappedFileCache
+
+    void "concurrent downloads are sent from a shared mapping"() {
+        when:
+        List<byte[]> bodies = Flux.range(0, 4)
+                .flatMap(i -> client.retrieve(HttpRequest.GET('/mapped-file'), byte[]))
+                .collectList()
+                .block()
+
+        then:
+        bodies.size() == 4
+        bodies.every { Arrays.equals(it, contents) }
+        mappedFileCache.size() == contents.length
+    }
+
+    void "a range is sent from the mapping"() {
+        when:
+        def response = client.toBlocking().exchange(HttpRequest.GET('/mapped-file').header(HttpHeaders.RANGE, 'bytes=1000-1999'), byte[])
+
+        then:
+        response.status() == HttpStatus.PARTIAL_CONTENT
+        response.header(HttpHeaders.CONTENT_RANGE) == "bytes 1000-1999/${contents.length}"
+        response.body() == Arrays.copyOfRange(contents, 1000, 2000)
+        mappedFileCache.size() == contents.length
+    }
+
+    @Requires(property = "spec.name", value = "UndertowMappedFileSpec")
+    @Controller("/mapped-file")
+    static class MappedFileController {
+
+        @Get
+        SystemFile download() {
+            new SystemFile(file)
+        }
+    }
+}
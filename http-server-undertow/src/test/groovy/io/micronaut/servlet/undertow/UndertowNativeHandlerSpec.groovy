@@ -0,0 +1,148 @@
+package io.micronaut.servlet.undertow
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.Introspected
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Body
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.CookieValue
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.annotation.Produces
+import io.micronaut.http.annotation.QueryValue
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.http.cookie.Cookie
+import io.micronaut.servlet.http.ServletHttpRequest
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.undertow.server.HttpServerExchange
+import jakarta.inject.Inject
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+
+@MicronautTest
+@Property(name = 'spec.name', value = 'UndertowNativeHandlerSpec')
+@Property(name = 'micronaut.server.undertow.native-handler', value = 'true')
+class UndertowNativeHandlerSpec extends Specification {
+
+    @Inject
+    @Client('/')
+    HttpClient client
+
+    void 'test requests are handled natively'() {
+        when:
+        HttpResponse<String> response = client.toBlocking().exchange(HttpRequest.GET('/native/info?name=Fred'), String)
+
+        then:
+        response.status() == HttpStatus.OK
+        response.body() == 'native GET Fred'
+        response.header('X-Native') == 'true'
+    }
+
+    void 'test request body binding'() {
+        when:
+        String body = client.toBlocking().retrieve(HttpRequest.POST('/native/echo', [title: 'The Stand']), String)
+
+        then:
+        body == 'The Stand'
+    }
+
+    void 'test streaming response'() {
+        when:
+        String body = client.toBlocking().retrieve(HttpRequest.GET('/native/stream'), String)
+
+        then:
+        body == '["one","two","three"]'
+    }
+
+    void 'test cookies'() {
+        when:
+        HttpResponse<String> response = client.toBlocking().exchange(HttpRequest.GET('/native/cookie').cookie(Cookie.of('name', 'Bob')), String)
+
+        then:
+        response.body() == 'Bob'
+        response.getCookie('seen').get().value == 'true'
+    }
+
+    void 'test errors'() {
+        when:
+        client.toBlocking().exchange(HttpRequest.GET('/native/missing'), String)
+
+        then:
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.NOT_FOUND
+    }
+
+    void 'test form submissions are handled by the servlet deployment'() {
+        when:
+        String body = client.toBlocking().retrieve(HttpRequest.POST('/native/form', [name: 'Fred'])
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED_TYPE), String)
+
+        then:
+        body == 'servlet Fred'
+    }
+
+    void 'test servlet url pattern matching'() {
+        expect:
+        UndertowNativeHandler.matches(pattern, path) == result
+
+        where:
+        pattern      | path              | result
+        '/*'         | '/anything'       | true
+        '/'          | '/anything'       | true
+        '/extra/*'   | '/extra'          | true
+        '/extra/*'   | '/extra/servlet'  | true
+        '/extra/*'   | '/extraservlet'   | false
+        '*.jsp'      | '/pages/index.jsp'| true
+        '*.jsp'      | '/pages/jsp/index'| false
+        '/exact'     | '/exact'          | true
+        '/exact'     | '/exact/more'     | false
+        ''           | '/'               | true
+    }
+
+    @Requires(property = 'spec.name', value = 'UndertowNativeHandlerSpec')
+    @Controller('/native')
+    static class NativeController {
+
+        @Get(value = '/info', produces = MediaType.TEXT_PLAIN)
+        HttpResponse<String> info(HttpRequest<?> request, @QueryValue String name) {
+            HttpResponse.ok("${handledBy(request)} ${request.methodName} $name".toString())
+                    .header('X-Native', String.valueOf(handledBy(request) == 'native'))
+        }
+
+        @Post(value = '/echo', produces = MediaType.TEXT_PLAIN)
+        String echo(@Body Book book) {
+            book.title
+        }
+
+        @Get('/stream')
+        Flux<String> stream() {
+            Flux.just('one', 'two', 'three')
+        }
+
+        @Get(value = '/cookie', produces = MediaType.TEXT_PLAIN)
+        HttpResponse<String> cookie(@CookieValue String name) {
+            HttpResponse.ok(name).cookie(Cookie.of('seen', 'true'))
+        }
+
+        @Post(value = '/form', consumes = MediaType.APPLICATION_FORM_URLENCODED)
+        @Produces(MediaType.TEXT_PLAIN)
+        String form(HttpRequest<?> request, String name) {
+            "${handledBy(request)} $name".toString()
+        }
+
+        private static String handledBy(HttpRequest<?> request) {
+            request instanceof ServletHttpRequest && request.nativeRequest instanceof HttpServerExchange ? 'native' : 'servlet'
+        }
+    }
+
+    @Introspected
+    static class Book {
+        String title
+    }
+}
@@ -0,0 +1,94 @@
+package io.micronaut.servlet.undertow
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.util.StringUtils
+import io.micronaut.runtime.server.EmbeddedServer
+import io.netty.handler.ssl.util.SelfSignedCertificate
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import javax.net.ssl.SSLContext
+import javax.net.ssl.SSLSocket
+import javax.net.ssl.TrustManager
+import javax.net.ssl.X509TrustManager
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import java.security.KeyStore
+import java.security.cert.Certificate
+import java.security.cert.X509Certificate
+
+class UndertowTlsReloadSpec extends Specification {
+
+    Path keyStorePath = Files.createTempFile("micronaut-tls-reload", ".p12")
+
+    void 'the certificate is replaced when the key store changes'() {
+        given:
+        def first = writeKeyStore()
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+                'spec.name'                             : 'UndertowTlsReloadSpec',
+                'micronaut.ssl.enabled'                 : StringUtils.TRUE,
+                'micronaut.server.ssl.build-self-signed': false,
+                'micronaut.ssl.client-authentication'   : 'want',
+                'micronaut.ssl.key-store.path'          : "file://${keyStorePath}",
+                'micronaut.ssl.key-store.type'          : 'PKCS12',
+                'micronaut.ssl.key-store.password'      : '',
+                'micronaut.server.tls.reload-interval'  : '100ms',
+        ])
+        def conditions = new PollingConditions(timeout: 10)
+
+        expect:
+        serverCertificate(server.port) == first
+
+        when:
+        def second = writeKeyStore()
+
+        then:
+        second != first
+        conditions.eventually {
+            assert serverCertificate(server.port) == second
+        }
+
+        cleanup:
+        server?.stop()
+        Files.deleteIfExists(keyStorePath)
+    }
+
+    private X509Certificate writeKeyStore() {
+        def certificate = new SelfSignedCertificate()
+        KeyStore ks = KeyStore.getInstance("PKCS12")
+        ks.load(null, null)
+        ks.setKeyEntry("key", certificate.key(), "".toCharArray(), new Certificate[]{certificate.cert()})
+        Path tmp = Files.createTempFile(keyStorePath.parent, "micronaut-tls-reload", ".tmp")
+        try (OutputStream os = Files.newOutputStream(tmp)) {
+            ks.store(os, "".toCharArray())
+        }
+        Files.move(tmp, keyStorePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+        certificate.cert()
+    }
+
+    private static X509Certificate serverCertificate(int port) {
+        SSLContext sslContext = SSLContext.getInstance("TLS")
+        sslContext.init(null, [new TrustAllManager()] as TrustManager[], null)
+        try (SSLSocket socket = (SSLSocket) sslContext.socketFactory.createSocket("localhost", port)) {
+            socket.startHandshake()
+            (X509Certificate) socket.session.peerCertificates[0]
+        }
+    }
+
+    static class TrustAllManager implements X509TrustManager {
+
+        @Override
+        void checkClientTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        void checkServerTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        X509Certificate[] getAcceptedIssuers() {
+            new X509Certificate[0]
+        }
+    }
+}
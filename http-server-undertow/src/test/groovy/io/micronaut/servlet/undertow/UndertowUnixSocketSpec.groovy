@@ -0,0 +1,19 @@
+package io.micronaut.servlet.undertow
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.runtime.server.EmbeddedServer
+import spock.lang.Specification
+
+class UndertowUnixSocketSpec extends Specification {
+
+    void "test unix domain sockets are rejected"() {
+        when:
+        ApplicationContext.run(EmbeddedServer, [
+                'micronaut.server.unix-socket.path': '/tmp/undertow.sock'
+        ])
+
+        then:
+        Exception e = thrown()
+        e.message.contains('Unix domain sockets are not supported by Undertow')
+    }
+}
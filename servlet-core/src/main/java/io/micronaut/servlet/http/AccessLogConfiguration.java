@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.format.ReadableBytes;
+import io.micronaut.core.util.Toggleable;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Configures the {@link AccessLogger}, the access log that works the same way on every servlet server.
+ *
+ * @since 4.12.0
+ */
+@ConfigurationProperties(AccessLogConfiguration.PREFIX)
+public class AccessLogConfiguration implements Toggleable {
+
+    /**
+     * The prefix used for configuration.
+     */
+    public static final String PREFIX = "micronaut.servlet.access-log";
+
+    /**
+     * The common log format.
+     */
+    public static final String COMMON_PATTERN = "%a - - %t \"%r\" %s %b";
+
+    /**
+     * The combined log format, the common log format with the referer and the user agent.
+     */
+    public static final String COMBINED_PATTERN = COMMON_PATTERN + " \"%{Referer}i\" \"%{User-Agent}i\"";
+
+    /**
+     * The default number of records the buffer holds.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private boolean enabled;
+    private String file = "access.log";
+    private String pattern = COMMON_PATTERN;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private Duration flushInterval = Duration.ofSeconds(1);
+    private long maxFileSize;
+    private Duration rotationInterval;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether requests are written to the access log (defaults to {@code false}).
+     *
+     * @param enabled True if they are
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The path of the access log file
+     */
+    public @NonNull String getFile() {
+        return file;
+    }
+
+    /**
+     * The path of the access log file (defaults to {@code access.log}).
+     *
+     * @param file The path of the file
+     */
+    public void setFile(@NonNull String file) {
+        this.file = file;
+    }
+
+    /**
+     * @return The pattern of a record
+     */
+    public @NonNull String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * The pattern of a record (defaults to {@value #COMMON_PATTERN}). The pattern uses the Apache HTTP server
+     * syntax: {@code %a} remote address, {@code %t} time, {@code %r} request line, {@code %m} method,
+     * {@code %U} path, {@code %q} query string, {@code %H} protocol, {@code %s} status, {@code %b} response
+     * content length, {@code %D} duration in milliseconds, {@code %T} duration in seconds,
+     * {@code %{Name}i} request header, {@code %{Name}o} response header and {@code %%} a percent sign.
+     * The names {@code common} and {@code combined} select the predefined formats.
+     *
+     * @param pattern The pattern
+     */
+    public void setPattern(@NonNull String pattern) {
+        this.pattern = pattern;
+    }
+
+    /**
+     * @return The number of records the buffer holds
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * The number of records the buffer between the request threads and the writer holds, rounded up to a power
+     * of two (defaults to {@value #DEFAULT_BUFFER_SIZE}). Records that arrive while the buffer is full are dropped
+     * and counted.
+     *
+     * @param bufferSize The buffer size
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * @return How often the writer flushes the file
+     */
+    public @NonNull Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * The longest time a record stays in memory before it is written to the file (defaults to 1 second).
+     * Records are written in batches, sooner when a batch fills up.
+     *
+     * @param flushInterval The flush interval
+     */
+    public void setFlushInterval(@NonNull Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * @return The size above which the file is rotated, or {@code 0} for no size limit
+     */
+    public long getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    /**
+     * The size above which the file is rotated, for example {@code 100MB} (defaults to no limit).
+     * A rotated file keeps its name with the time of the rotation appended.
+     *
+     * @param maxFileSize The maximum file size
+     */
+    public void setMaxFileSize(@ReadableBytes long maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+
+    /**
+     * @return How often the file is rotated
+     */
+    public Optional<Duration> getRotationInterval() {
+        return Optional.ofNullable(rotationInterval);
+    }
+
+    /**
+     * How often the file is rotated, for example {@code 1d} (defaults to never).
+     *
+     * @param rotationInterval The rotation interval
+     */
+    public void setRotationInterval(@Nullable Duration rotationInterval) {
+        this.rotationInterval = rotationInterval;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * The file the {@link AccessLogger} writes to, rotated by size and time. A rotated file keeps its name with
+ * the time of the rotation appended. Only used by the writer thread.
+ *
+ * @since 4.12.0
+ */
+@Internal
+final class AccessLogFile implements Closeable {
+
+    private static final DateTimeFormatter ROTATION_SUFFIX = DateTimeFormatter
+        .ofPattern("yyyyMMdd-HHmmss")
+        .withZone(ZoneId.systemDefault());
+
+    private final Path path;
+    private final long maxFileSize;
+    private final long rotationIntervalMillis;
+    private FileChannel channel;
+    private long size;
+    private long nextRotation;
+
+    /**
+     * @param path             The path of the file
+     * @param maxFileSize      The size above which the file is rotated, or {@code 0}
+     * @param rotationInterval How often the file is rotated, or {@code null}
+     * @throws IOException If the file cannot be opened
+     */
+    AccessLogFile(Path path, long maxFileSize, @Nullable Duration rotationInterval) throws IOException {
+        this.path = path.toAbsolutePath();
+        this.maxFileSize = maxFileSize;
+        this.rotationIntervalMillis = rotationInterval != null ? rotationInterval.toMillis() : 0;
+        open();
+    }
+
+    /**
+     * Write the buffer to the file, rotating the file first if it is due.
+     *
+     * @param buffer The buffer
+     * @throws IOException If the buffer cannot be written
+     */
+    void write(ByteBuffer buffer) throws IOException {
+        int length = buffer.remaining();
+        if (isRotationDue(length)) {
+            rotate();
+        }
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        size += length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean isRotationDue(int length) {
+        if (maxFileSize > 0 && size > 0 && size + length > maxFileSize) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        if (rotationIntervalMillis > 0 && now >= nextRotation) {
+            if (size > 0) {
+                return true;
+            }
+            // nothing to rotate, start the next interval
+            nextRotation = now + rotationIntervalMillis;
+        }
+        return false;
+    }
+
+    private void rotate() throws IOException {
+        channel.close();
+        String name = path.getFileName() + "." + ROTATION_SUFFIX.format(Instant.now());
+        Path target = path.resolveSibling(name);
+        for (int i = 1; Files.exists(target); i++) {
+            target = path.resolveSibling(name + "-" + i);
+        }
+        Files.move(path, target);
+        open();
+    }
+
+    private void open() throws IOException {
+        Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        size = channel.size();
+        nextRotation = System.currentTimeMillis() + rotationIntervalMillis;
+    }
+}
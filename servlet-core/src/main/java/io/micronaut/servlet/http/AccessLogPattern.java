@@ -0,0 +1,272 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.HttpVersion;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A compiled access log pattern, see {@link AccessLogConfiguration#setPattern(String)}. Formatting is not thread
+ * safe, it only happens on the writer thread of the {@link AccessLogger}.
+ *
+ * @since 4.12.0
+ */
+@Internal
+final class AccessLogPattern {
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter
+        .ofPattern("'['dd/MMM/yyyy:HH:mm:ss Z']'", Locale.ENGLISH)
+        .withZone(ZoneId.systemDefault());
+
+    private final Element[] elements;
+    private final String[] requestHeaders;
+    private final String[] responseHeaders;
+    private final boolean remoteAddress;
+    private long lastSecond = Long.MIN_VALUE;
+    private String lastTime;
+
+    /**
+     * @param pattern The pattern, or {@code common} or {@code combined}
+     */
+    AccessLogPattern(String pattern) {
+        if ("common".equalsIgnoreCase(pattern)) {
+            pattern = AccessLogConfiguration.COMMON_PATTERN;
+        } else if ("combined".equalsIgnoreCase(pattern)) {
+            pattern = AccessLogConfiguration.COMBINED_PATTERN;
+        }
+        List<Element> elements = new ArrayList<>();
+        List<String> requestHeaders = new ArrayList<>();
+        List<String> responseHeaders = new ArrayList<>();
+        boolean remoteAddress = false;
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i++);
+            if (c != '%' || i == pattern.length()) {
+                literal.append(c);
+                continue;
+            }
+            String name = null;
+            if (pattern.charAt(i) == '{') {
+                int end = pattern.indexOf('}', i);
+                if (end == -1 || end == pattern.length() - 1) {
+                    throw new IllegalArgumentException("Unterminated header name in access log pattern: " + pattern);
+                }
+                name = pattern.substring(i + 1, end);
+                i = end + 1;
+            }
+            char code = pattern.charAt(i++);
+            if (code == '%') {
+                literal.append('%');
+                continue;
+            }
+            if (!literal.isEmpty()) {
+                elements.add(new Element(Type.LITERAL, literal.toString(), -1));
+                literal.setLength(0);
+            }
+            switch (code) {
+                case 'a', 'h' -> {
+                    elements.add(new Element(Type.REMOTE_ADDRESS, null, -1));
+                    remoteAddress = true;
+                }
+                case 't' -> elements.add(new Element(Type.TIME, null, -1));
+                case 'r' -> elements.add(new Element(Type.REQUEST_LINE, null, -1));
+                case 'm' -> elements.add(new Element(Type.METHOD, null, -1));
+                case 'U' -> elements.add(new Element(Type.PATH, null, -1));
+                case 'q' -> elements.add(new Element(Type.QUERY, null, -1));
+                case 'H' -> elements.add(new Element(Type.PROTOCOL, null, -1));
+                case 's' -> elements.add(new Element(Type.STATUS, null, -1));
+                case 'b' -> elements.add(new Element(Type.CONTENT_LENGTH, null, -1));
+                case 'D' -> elements.add(new Element(Type.DURATION_MILLIS, null, -1));
+                case 'T' -> elements.add(new Element(Type.DURATION_SECONDS, null, -1));
+                case 'i' -> {
+                    elements.add(new Element(Type.REQUEST_HEADER, null, requestHeaders.size()));
+                    requestHeaders.add(requireName(name, code, pattern));
+                }
+                case 'o' -> {
+                    elements.add(new Element(Type.RESPONSE_HEADER, null, responseHeaders.size()));
+                    responseHeaders.add(requireName(name, code, pattern));
+                }
+                default -> throw new IllegalArgumentException("Unknown access log pattern code [%" + code + "] in: " + pattern);
+            }
+        }
+        if (!literal.isEmpty()) {
+            elements.add(new Element(Type.LITERAL, literal.toString(), -1));
+        }
+        this.elements = elements.toArray(new Element[0]);
+        this.requestHeaders = requestHeaders.toArray(new String[0]);
+        this.responseHeaders = responseHeaders.toArray(new String[0]);
+        this.remoteAddress = remoteAddress;
+    }
+
+    /**
+     * @return The names of the request headers the pattern refers to
+     */
+    String[] getRequestHeaders() {
+        return requestHeaders;
+    }
+
+    /**
+     * @return The names of the response headers the pattern refers to
+     */
+    String[] getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    /**
+     * @return Whether the pattern refers to the remote address
+     */
+    boolean isRemoteAddress() {
+        return remoteAddress;
+    }
+
+    /**
+     * Append a record to the given builder.
+     *
+     * @param entry   The record
+     * @param builder The builder
+     */
+    void format(AccessLogger.Entry entry, StringBuilder builder) {
+        for (Element element : elements) {
+            switch (element.type) {
+                case LITERAL -> builder.append(element.literal);
+                case REMOTE_ADDRESS -> appendAddress(entry.remoteAddress, builder);
+                case TIME -> builder.append(time(entry.time));
+                case REQUEST_LINE -> {
+                    builder.append(entry.method).append(' ');
+                    appendUri(entry.uri, builder);
+                    builder.append(' ').append(protocol(entry.version));
+                }
+                case METHOD -> builder.append(entry.method);
+                case PATH -> builder.append(entry.uri.getRawPath());
+                case QUERY -> {
+                    String query = entry.uri.getRawQuery();
+                    if (query != null) {
+                        builder.append('?').append(query);
+                    }
+                }
+                case PROTOCOL -> builder.append(protocol(entry.version));
+                case STATUS -> {
+                    if (entry.status > 0) {
+                        builder.append(entry.status);
+                    } else {
+                        builder.append('-');
+                    }
+                }
+                case CONTENT_LENGTH -> appendValue(entry.contentLength == null || "0".equals(entry.contentLength) ? null : entry.contentLength, builder);
+                case DURATION_MILLIS -> builder.append(entry.duration);
+                case DURATION_SECONDS -> builder.append(entry.duration / 1000);
+                case REQUEST_HEADER -> appendValue(entry.requestHeaders[element.index], builder);
+                case RESPONSE_HEADER -> appendValue(entry.responseHeaders[element.index], builder);
+                default -> {
+                    // all types are handled
+                }
+            }
+        }
+    }
+
+    private String time(long epochMillis) {
+        long second = Math.floorDiv(epochMillis, 1000);
+        if (second != lastSecond) {
+            lastTime = TIME_FORMATTER.format(Instant.ofEpochSecond(second));
+            lastSecond = second;
+        }
+        return lastTime;
+    }
+
+    private static void appendAddress(InetSocketAddress address, StringBuilder builder) {
+        if (address == null) {
+            builder.append('-');
+            return;
+        }
+        InetAddress inetAddress = address.getAddress();
+        builder.append(inetAddress != null ? inetAddress.getHostAddress() : address.getHostString());
+    }
+
+    private static void appendUri(URI uri, StringBuilder builder) {
+        builder.append(uri.getRawPath());
+        String query = uri.getRawQuery();
+        if (query != null) {
+            builder.append('?').append(query);
+        }
+    }
+
+    private static void appendValue(String value, StringBuilder builder) {
+        if (value == null || value.isEmpty()) {
+            builder.append('-');
+        } else {
+            builder.append(value);
+        }
+    }
+
+    private static String protocol(HttpVersion version) {
+        if (version == null) {
+            return "-";
+        }
+        return switch (version) {
+            case HTTP_1_0 -> "HTTP/1.0";
+            case HTTP_2_0 -> "HTTP/2.0";
+            default -> "HTTP/1.1";
+        };
+    }
+
+    private static String requireName(String name, char code, String pattern) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Access log pattern code [%" + code + "] requires a header name, for example %{User-Agent}" + code + " in: " + pattern);
+        }
+        return name;
+    }
+
+    /**
+     * The kinds of pattern elements.
+     */
+    private enum Type {
+        LITERAL,
+        REMOTE_ADDRESS,
+        TIME,
+        REQUEST_LINE,
+        METHOD,
+        PATH,
+        QUERY,
+        PROTOCOL,
+        STATUS,
+        CONTENT_LENGTH,
+        DURATION_MILLIS,
+        DURATION_SECONDS,
+        REQUEST_HEADER,
+        RESPONSE_HEADER
+    }
+
+    /**
+     * An element of the pattern.
+     *
+     * @param type    The type
+     * @param literal The text of a literal
+     * @param index   The index of a header in the captured headers
+     */
+    private record Element(Type type, String literal, int index) {
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpVersion;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An access log that works the same way on every server, fed by the {@link ServletHttpHandler} when a request
+ * completes.
+ *
+ * <p>Request threads copy the values the pattern needs into a preallocated ring buffer, claiming a slot with a
+ * single compare-and-set and without taking a lock. A background thread formats the records and writes them to
+ * the file in batches. When the writer falls behind and the buffer is full, records are dropped rather than
+ * slowing down requests, see {@link #getDroppedCount()}.</p>
+ *
+ * @since 4.12.0
+ */
+@Singleton
+@Requires(property = AccessLogConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+public final class AccessLogger implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AccessLogger.class);
+    private static final int BATCH_SIZE = 64 * 1024;
+    private static final long MAX_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AccessLogPattern pattern;
+    private final AccessLogFile file;
+    private final Entry[] entries;
+    private final int mask;
+    private final long flushIntervalNanos;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+    private volatile boolean closed;
+
+    /**
+     * @param configuration The configuration
+     */
+    public AccessLogger(AccessLogConfiguration configuration) {
+        try {
+            this.pattern = new AccessLogPattern(configuration.getPattern());
+        } catch (IllegalArgumentException e) {
+            throw new ConfigurationException(e.getMessage(), e);
+        }
+        try {
+            this.file = new AccessLogFile(
+                Path.of(configuration.getFile()),
+                configuration.getMaxFileSize(),
+                configuration.getRotationInterval().orElse(null)
+            );
+        } catch (IOException e) {
+            throw new ConfigurationException("Cannot open access log file [" + configuration.getFile() + "]: " + e.getMessage(), e);
+        }
+        int capacity = Integer.highestOneBit(Math.max(configuration.getBufferSize(), 2) - 1) << 1;
+        this.entries = new Entry[capacity];
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = new Entry(pattern.getRequestHeaders().length, pattern.getResponseHeaders().length);
+        }
+        this.mask = capacity - 1;
+        this.flushIntervalNanos = configuration.getFlushInterval().toNanos();
+        this.writer = new Thread(this::write, "micronaut-access-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Record a completed request. If the values of the record cannot be read, the exception is rethrown and
+     * the claimed slot is skipped by the writer.
+     *
+     * @param request     The request
+     * @param response    The response, or {@code null} if no response could be sent
+     * @param startMillis The time the request started, in milliseconds since the epoch
+     */
+    public void log(@NonNull HttpRequest<?> request, @Nullable HttpResponse<?> response, long startMillis) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (closed || sequence - consumed.get() >= entries.length) {
+                dropped.increment();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        Entry entry = entries[(int) (sequence & mask)];
+        try {
+            entry.time = startMillis;
+            entry.duration = System.currentTimeMillis() - startMillis;
+            entry.method = request.getMethodName();
+            entry.uri = request.getUri();
+            entry.version = request.getHttpVersion();
+            if (pattern.isRemoteAddress()) {
+                entry.remoteAddress = request.getRemoteAddress();
+            }
+            String[] requestHeaders = pattern.getRequestHeaders();
+            for (int i = 0; i < requestHeaders.length; i++) {
+                entry.requestHeaders[i] = request.getHeaders().get(requestHeaders[i]);
+            }
+            if (response != null) {
+                HttpHeaders headers = response.getHeaders();
+                entry.status = response.code();
+                entry.contentLength = headers.get(HttpHeaders.CONTENT_LENGTH);
+                String[] responseHeaders = pattern.getResponseHeaders();
+                for (int i = 0; i < responseHeaders.length; i++) {
+                    entry.responseHeaders[i] = headers.get(responseHeaders[i]);
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            // the writer waits for every claimed slot, so a failed record still has to be published
+            entry.skipped = true;
+            throw e;
+        } finally {
+            entry.sequence.lazySet(sequence);
+        }
+    }
+
+    /**
+     * @return The number of records that were dropped because the buffer was full
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops the writer once the records in the buffer have been written, and closes the file.
+     */
+    @PreDestroy
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            LockSupport.unpark(writer);
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void write() {
+        StringBuilder line = new StringBuilder(256);
+        ByteBuffer buffer = ByteBuffer.allocate(BATCH_SIZE);
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        long lastFlush = System.nanoTime();
+        long reportedDropped = 0;
+        while (true) {
+            // records published before the logger was closed are still written
+            boolean stopping = closed;
+            long sequence = consumed.get();
+            Entry entry;
+            int count = 0;
+            while ((entry = entries[(int) (sequence & mask)]).sequence.get() == sequence) {
+                if (entry.skipped) {
+                    entry.clear();
+                    consumed.lazySet(++sequence);
+                    continue;
+                }
+                line.setLength(0);
+                pattern.format(entry, line);
+                line.append('\n');
+                entry.clear();
+                consumed.lazySet(++sequence);
+                encode(line, buffer, encoder);
+                count++;
+            }
+            long now = System.nanoTime();
+            if (buffer.position() > 0 && (stopping || now - lastFlush >= flushIntervalNanos)) {
+                flush(buffer);
+                lastFlush = now;
+                long droppedCount = dropped.sum();
+                if (droppedCount > reportedDropped) {
+                    LOG.warn("The access log buffer was full, {} records have been dropped", droppedCount);
+                    reportedDropped = droppedCount;
+                }
+            }
+            if (stopping) {
+                break;
+            }
+            if (count == 0) {
+                LockSupport.parkNanos(Math.min(flushIntervalNanos, MAX_IDLE_NANOS));
+            }
+        }
+        try {
+            file.close();
+        } catch (IOException e) {
+            LOG.warn("Error closing the access log file: {}", e.getMessage(), e);
+        }
+    }
+
+    private void encode(StringBuilder line, ByteBuffer buffer, CharsetEncoder encoder) {
+        CharBuffer chars = CharBuffer.wrap(line);
+        while (encoder.encode(chars, buffer, true) == CoderResult.OVERFLOW) {
+            flush(buffer);
+        }
+        encoder.reset();
+    }
+
+    private void flush(ByteBuffer buffer) {
+        buffer.flip();
+        try {
+            file.write(buffer);
+        } catch (IOException e) {
+            LOG.warn("Error writing the access log: {}", e.getMessage(), e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * A slot of the ring buffer, holding the values of one record. The fields are written by the request thread
+     * that claimed the slot before it publishes the sequence, and read by the writer after it has seen the sequence.
+     * A slot whose record could not be filled in is published as skipped, so that the writer moves past it.
+     */
+    static final class Entry {
+        final AtomicLong sequence = new AtomicLong(-1);
+        final String[] requestHeaders;
+        final String[] responseHeaders;
+        long time;
+        long duration;
+        String method;
+        URI uri;
+        HttpVersion version;
+        InetSocketAddress remoteAddress;
+        int status;
+        String contentLength;
+        boolean skipped;
+
+        Entry(int requestHeaders, int responseHeaders) {
+            this.requestHeaders = new String[requestHeaders];
+            this.responseHeaders = new String[responseHeaders];
+        }
+
+        void clear() {
+            method = null;
+            uri = null;
+            version = null;
+            remoteAddress = null;
+            status = 0;
+            contentLength = null;
+            skipped = false;
+            Arrays.fill(requestHeaders, null);
+            Arrays.fill(responseHeaders, null);
+        }
+    }
+}
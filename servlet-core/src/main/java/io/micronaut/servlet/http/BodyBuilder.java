@@ -18,6 +18,7 @@ package io.micronaut.servlet.http;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.MediaType;
 
@@ -50,4 +51,19 @@ public interface BodyBuilder {
      */
     @Nullable
     Object buildBody(@NonNull Callable<InputStream> bodySupplier, @NonNull HttpRequest<?> request);
+
+    /**
+     * Builds the body for the given requested type. Implementations can decode the body straight
+     * into the requested type instead of producing an intermediate representation.
+     *
+     * @param bodySupplier The HTTP Body supplied as an Input Stream
+     * @param request The HTTP Request
+     * @param type The requested body type
+     * @return An object representing the HTTP body or null
+     * @since 4.12.0
+     */
+    @Nullable
+    default Object buildBody(@NonNull Callable<InputStream> bodySupplier, @NonNull HttpRequest<?> request, @NonNull Argument<?> type) {
+        return buildBody(bodySupplier, request);
+    }
 }
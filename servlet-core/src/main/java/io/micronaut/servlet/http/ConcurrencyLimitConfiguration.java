@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.Toggleable;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configures the adaptive limit of the number of requests that are handled at once, see {@link ConcurrencyLimiter}.
+ *
+ * @since 4.12.0
+ */
+@ConfigurationProperties(ConcurrencyLimitConfiguration.PREFIX)
+public class ConcurrencyLimitConfiguration implements Toggleable {
+
+    /**
+     * The prefix used for configuration.
+     */
+    public static final String PREFIX = "micronaut.servlet.concurrency-limit";
+
+    /**
+     * The default limit before any latency has been measured.
+     */
+    public static final int DEFAULT_INITIAL_LIMIT = 100;
+
+    /**
+     * The default minimum limit.
+     */
+    public static final int DEFAULT_MIN_LIMIT = 10;
+
+    /**
+     * The default maximum limit.
+     */
+    public static final int DEFAULT_MAX_LIMIT = 1000;
+
+    /**
+     * The default factor applied to the limit when latency rises.
+     */
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    /**
+     * The default ratio of recent to baseline latency above which the limit is decreased.
+     */
+    public static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+
+    private boolean enabled;
+    private int initialLimit = DEFAULT_INITIAL_LIMIT;
+    private int minLimit = DEFAULT_MIN_LIMIT;
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+    private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+    private double latencyTolerance = DEFAULT_LATENCY_TOLERANCE;
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private List<String> exemptPaths = List.of("/health", "/health/**");
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether requests above the concurrency limit are rejected (defaults to {@code false}).
+     *
+     * @param enabled True if they are
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The limit before any latency has been measured
+     */
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * The limit before any latency has been measured (defaults to {@value #DEFAULT_INITIAL_LIMIT}).
+     *
+     * @param initialLimit The initial limit
+     */
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    /**
+     * @return The minimum limit
+     */
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * The limit never drops below this number of requests (defaults to {@value #DEFAULT_MIN_LIMIT}).
+     *
+     * @param minLimit The minimum limit
+     */
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    /**
+     * @return The maximum limit
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * The limit never grows above this number of requests (defaults to {@value #DEFAULT_MAX_LIMIT}).
+     *
+     * @param maxLimit The maximum limit
+     */
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * @return The factor applied to the limit when latency rises
+     */
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * The factor applied to the limit when latency rises or a request fails (defaults to {@value #DEFAULT_BACKOFF_RATIO}).
+     *
+     * @param backoffRatio The backoff ratio, between 0 and 1
+     */
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    /**
+     * @return The ratio of recent to baseline latency above which the limit is decreased
+     */
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    /**
+     * The ratio of recent to baseline latency above which the limit is decreased (defaults to {@value #DEFAULT_LATENCY_TOLERANCE}).
+     *
+     * @param latencyTolerance The latency tolerance
+     */
+    public void setLatencyTolerance(double latencyTolerance) {
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    /**
+     * @return The delay sent in the {@code Retry-After} header of rejected requests
+     */
+    public @NonNull Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * The delay sent in the {@code Retry-After} header of rejected requests (defaults to 1 second).
+     *
+     * @param retryAfter The delay
+     */
+    public void setRetryAfter(@NonNull Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return The paths of requests that are never rejected
+     */
+    public @NonNull List<String> getExemptPaths() {
+        return exemptPaths;
+    }
+
+    /**
+     * Ant style patterns of request paths that are neither counted nor rejected, such as health checks
+     * (defaults to {@code /health} and {@code /health/**}).
+     *
+     * @param exemptPaths The exempt paths
+     */
+    public void setExemptPaths(@NonNull List<String> exemptPaths) {
+        this.exemptPaths = exemptPaths;
+    }
+}
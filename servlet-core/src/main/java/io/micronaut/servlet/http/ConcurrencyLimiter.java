@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.PathMatcher;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the number of requests that are handled at once, rejecting the requests above the limit instead of
+ * letting them queue in the container. The limit adapts to the measured latency: it grows by one for each
+ * limit's worth of requests that complete while the limit is in use, and shrinks by the
+ * {@link ConcurrencyLimitConfiguration#getBackoffRatio() backoff ratio} when the recent latency exceeds the
+ * long term latency by more than the {@link ConcurrencyLimitConfiguration#getLatencyTolerance() tolerance}
+ * or a request fails with a server error.
+ *
+ * @since 4.12.0
+ */
+@Singleton
+@Requires(property = ConcurrencyLimitConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+public final class ConcurrencyLimiter {
+
+    private static final double RECENT_WEIGHT = 0.1;
+    private static final double BASELINE_WEIGHT = 0.01;
+
+    private final ConcurrencyLimitConfiguration configuration;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile int limit;
+
+    // guarded by this
+    private double estimatedLimit;
+    private double recentLatency = -1;
+    private double baselineLatency = -1;
+    private long lastDecrease;
+
+    /**
+     * @param configuration The configuration
+     */
+    public ConcurrencyLimiter(ConcurrencyLimitConfiguration configuration) {
+        this.configuration = configuration;
+        this.estimatedLimit = Math.min(Math.max(configuration.getInitialLimit(), configuration.getMinLimit()), configuration.getMaxLimit());
+        this.limit = (int) estimatedLimit;
+        this.lastDecrease = System.nanoTime();
+    }
+
+    /**
+     * @param path The request path
+     * @return Whether requests to the path bypass the limit
+     */
+    public boolean isExempt(@NonNull String path) {
+        for (String pattern : configuration.getExemptPaths()) {
+            if (PathMatcher.ANT.matches(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Start handling a request if the limit allows it. A successful call must be followed by {@link #release(long, boolean)}.
+     *
+     * @return Whether the request may be handled
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                rejected.incrementAndGet();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Finish handling a request and adapt the limit to its outcome.
+     *
+     * @param latencyNanos The time it took to handle the request
+     * @param failed       Whether the request failed with a server error
+     */
+    public void release(long latencyNanos, boolean failed) {
+        int current = inFlight.getAndDecrement();
+        update(latencyNanos, failed, current);
+    }
+
+    /**
+     * @return The current limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return The number of requests that are being handled
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return The number of requests that have been rejected
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * @return The delay in seconds that rejected clients are asked to wait
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, configuration.getRetryAfter().toSeconds());
+    }
+
+    private synchronized void update(long latency, boolean failed, int inFlight) {
+        if (recentLatency < 0) {
+            recentLatency = latency;
+            baselineLatency = latency;
+        } else {
+            recentLatency += (latency - recentLatency) * RECENT_WEIGHT;
+            baselineLatency += (latency - baselineLatency) * BASELINE_WEIGHT;
+        }
+        if (failed || recentLatency > baselineLatency * configuration.getLatencyTolerance()) {
+            long now = System.nanoTime();
+            // the requests of one slow period all report at once, so they only shrink the limit once
+            if (now - lastDecrease > recentLatency) {
+                estimatedLimit = Math.max(configuration.getMinLimit(), estimatedLimit * configuration.getBackoffRatio());
+                lastDecrease = now;
+            }
+        } else if (inFlight * 2 >= estimatedLimit) {
+            estimatedLimit = Math.min(configuration.getMaxLimit(), estimatedLimit + 1 / estimatedLimit);
+        }
+        limit = (int) estimatedLimit;
+    }
+}
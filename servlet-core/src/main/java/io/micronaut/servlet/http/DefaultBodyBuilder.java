@@ -16,24 +16,20 @@
 package io.micronaut.servlet.http;
 
 import io.micronaut.context.annotation.Requires;
-import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.type.Argument;
+import io.micronaut.core.convert.value.ConvertibleValues;
 import io.micronaut.core.util.CollectionUtils;
-import io.micronaut.http.HttpAttributes;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.MediaType;
-import io.micronaut.http.annotation.Body;
 import io.micronaut.http.codec.CodecException;
 import io.micronaut.http.codec.MediaTypeCodec;
 import io.micronaut.http.codec.MediaTypeCodecRegistry;
-import io.micronaut.inject.ExecutionHandle;
 import io.micronaut.json.codec.MapperMediaTypeCodec;
 import io.micronaut.json.tree.JsonNode;
-import io.micronaut.web.router.RouteMatch;
 import jakarta.inject.Singleton;
 
 import java.io.EOFException;
@@ -70,7 +66,7 @@ public class DefaultBodyBuilder implements BodyBuilder {
             if (request.getContentLength() == 0) {
                 return null;
             }
-            Argument<?> resolvedBodyType = resolveBodyType(request);
+            Argument<?> resolvedBodyType = TypedBodyHolder.resolveBodyType(request);
             try (InputStream inputStream = bodySupplier.call())  {
                 if (resolvedBodyType != null && RAW_BODY_TYPES.contains(resolvedBodyType.getType())) {
                     return inputStream.readAllBytes();
@@ -93,43 +89,54 @@ public class DefaultBodyBuilder implements BodyBuilder {
         }
     }
 
-    private Argument<?> resolveBodyType(@NonNull HttpRequest<?> request) {
-        RouteMatch<?> route = request.getAttribute(HttpAttributes.ROUTE_MATCH, RouteMatch.class).orElse(null);
-        if (route != null) {
-            Argument<?> bodyType = route.getRouteInfo().getFullRequestBodyType()
-                /*
-                The getBodyArgument() method returns arguments for functions where it is
-                not possible to dictate whether the argument is supposed to bind the entire
-                body or just a part of the body. We check to ensure the argument has the body
-                annotation to exclude that use case
-                */
-                .filter(argument -> {
-                    AnnotationMetadata annotationMetadata = argument.getAnnotationMetadata();
-                    if (annotationMetadata.hasAnnotation(Body.class)) {
-                        return annotationMetadata.stringValue(Body.class).isEmpty();
-                    } else {
-                        return false;
-                    }
-                })
-                .orElseGet(() -> {
-                    if (route instanceof ExecutionHandle<?, ?> handle) {
-                        for (Argument<?> argument : handle.getArguments()) {
-                            if (argument.getType() == HttpRequest.class) {
-                                return argument;
-                            }
-                        }
-                    }
-                    return Argument.OBJECT_ARGUMENT;
-                });
-            if (bodyType.getType() == HttpRequest.class) {
-                bodyType = bodyType.getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT);
+    @Override
+    @Nullable
+    public Object buildBody(@NonNull Callable<InputStream> bodySupplier,
+                            @NonNull HttpRequest<?> request,
+                            @NonNull Argument<?> type) {
+        if (requiresTree(type)) {
+            return buildBody(bodySupplier, request);
+        }
+        final MediaType contentType = request.getContentType().orElse(MediaType.APPLICATION_JSON_TYPE);
+        if (BodyBuilder.isFormSubmission(contentType)) {
+            return request.getParameters().asMap();
+        }
+        if (request.getContentLength() == 0) {
+            return null;
+        }
+        final MediaTypeCodec codec = codecRegistry.findCodec(contentType, type.getType()).orElse(null);
+        if (!RAW_BODY_TYPES.contains(type.getType())
+            && !(contentType.equals(MediaType.APPLICATION_JSON_TYPE) && codec instanceof MapperMediaTypeCodec)) {
+            // like the generic representation, only JSON bodies are decoded by the mapper
+            return buildBody(bodySupplier, request);
+        }
+        try (InputStream inputStream = bodySupplier.call()) {
+            if (RAW_BODY_TYPES.contains(type.getType())) {
+                return inputStream.readAllBytes();
             }
-            return bodyType;
-        } else {
-            return Argument.OBJECT_ARGUMENT;
+            // decode straight into the requested type, no intermediate tree
+            return ((MapperMediaTypeCodec) codec).getJsonMapper().readValue(inputStream, type);
+        } catch (EOFException e) {
+            // no content
+            return null;
+        } catch (Exception e) {
+            throw new CodecException("Error decoding request body: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Whether the requested type can only be satisfied from the generic tree representation of the body.
+     *
+     * @param type The requested type
+     * @return True if the tree has to be built
+     */
+    private static boolean requiresTree(Argument<?> type) {
+        Class<?> rawType = type.getType();
+        return rawType == Object.class
+            || JsonNode.class.isAssignableFrom(rawType)
+            || ConvertibleValues.class.isAssignableFrom(rawType);
+    }
+
     private Object decode(InputStream inputStream, MediaTypeCodec codec) {
         return codec.decode(Argument.of(byte[].class), inputStream);
     }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders HTTP dates (RFC 9110 IMF-fixdate) without formatting them on every request. The current date
+ * is rendered once per second and other dates are cached by the second they fall on.
+ *
+ * @since 4.12.0
+ */
+@Internal
+public final class HttpDateClock {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter
+        .ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.ENGLISH)
+        .withZone(ZoneOffset.UTC);
+    private static final int MAX_CACHED_DATES = 1024;
+    private static final Map<Long, String> DATES = new ConcurrentHashMap<>();
+
+    private static volatile Tick current = new Tick(-1, "");
+
+    private HttpDateClock() {
+    }
+
+    /**
+     * @return The current date
+     */
+    @NonNull
+    public static String now() {
+        return tick().date;
+    }
+
+    /**
+     * @param seconds The number of seconds from now
+     * @return The date the given number of seconds from now, as used by the {@code Expires} header
+     */
+    @NonNull
+    public static String fromNow(long seconds) {
+        Tick tick = tick();
+        return tick.offsets.computeIfAbsent(seconds, s -> render(tick.second + s));
+    }
+
+    /**
+     * @param epochMillis The date in milliseconds since the epoch
+     * @return The date, truncated to the second
+     */
+    @NonNull
+    public static String format(long epochMillis) {
+        long second = Math.floorDiv(epochMillis, 1000);
+        String date = DATES.get(second);
+        if (date == null) {
+            if (DATES.size() >= MAX_CACHED_DATES) {
+                DATES.clear();
+            }
+            date = render(second);
+            DATES.put(second, date);
+        }
+        return date;
+    }
+
+    private static Tick tick() {
+        long second = System.currentTimeMillis() / 1000;
+        Tick tick = current;
+        if (tick.second != second) {
+            tick = new Tick(second, render(second));
+            current = tick;
+        }
+        return tick;
+    }
+
+    private static String render(long epochSecond) {
+        return FORMATTER.format(Instant.ofEpochSecond(epochSecond));
+    }
+
+    /**
+     * The dates rendered for one second.
+     */
+    private static final class Tick {
+        final long second;
+        final String date;
+        final Map<Long, String> offsets = new ConcurrentHashMap<>(4);
+
+        Tick(long second, String date) {
+            this.second = second;
+            this.date = date;
+        }
+    }
+}
@@ -20,7 +20,6 @@ import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionError;
 import io.micronaut.core.convert.ConversionService;
-import io.micronaut.core.io.IOUtils;
 import io.micronaut.core.io.Readable;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpAttributes;
@@ -33,11 +32,11 @@ import io.micronaut.http.body.MessageBodyReader;
 import io.micronaut.http.codec.CodecException;
 import io.micronaut.http.codec.MediaTypeCodec;
 import io.micronaut.http.codec.MediaTypeCodecRegistry;
+import io.micronaut.servlet.http.body.TextBodyDecoder;
 import io.micronaut.web.router.RouteInfo;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
@@ -90,8 +89,8 @@ public class ServletBodyBinder<T> implements AnnotatedRequestArgumentBinder<Body
                 return () -> (Optional<T>) Optional.of(readable);
             }
             if (CharSequence.class.isAssignableFrom(type) && name == null) {
-                try (BufferedReader bufferedReader = servletHttpRequest.getReader()) {
-                    String text = IOUtils.readText(bufferedReader);
+                try (InputStream inputStream = servletHttpRequest.getInputStream()) {
+                    String text = TextBodyDecoder.readText(inputStream, source.getContentLength(), source.getCharacterEncoding());
                     return () -> (Optional<T>) Optional.of(text);
                 } catch (IOException e) {
                     return new BindingResult<T>() {
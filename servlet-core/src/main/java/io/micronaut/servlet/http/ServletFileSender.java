@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.order.Ordered;
+import io.micronaut.http.MutableHttpResponse;
+import org.reactivestreams.Publisher;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Sends a region of a file as the response body using a container specific mechanism, such as
+ * sendfile, that avoids copying the file through the heap.
+ *
+ * <p>The response headers, including the content length, have been written before the sender is called.</p>
+ *
+ * @since 4.12.0
+ */
+public interface ServletFileSender extends Ordered {
+
+    /**
+     * Send the given region of a file.
+     *
+     * @param exchange The exchange
+     * @param file     The file
+     * @param position The position of the first byte to send
+     * @param count    The number of bytes to send
+     * @return A publisher that emits the response once the file has been sent, or {@code null} if this
+     * sender cannot send the file for the given exchange
+     * @throws IOException If the file could not be opened
+     */
+    @Nullable
+    Publisher<MutableHttpResponse<?>> sendFile(@NonNull ServletExchange<?, ?> exchange,
+                                               @NonNull File file,
+                                               long position,
+                                               long count) throws IOException;
+
+    /**
+     * Whether {@link #sendBuffer(ServletExchange, ByteBuffer)} can send buffers for the given exchange, checked
+     * before a file is mapped so that containers without buffer support do not pay for the mapping.
+     *
+     * @param exchange The exchange
+     * @return True if buffers can be sent
+     * @throws IOException If the response output could not be obtained
+     */
+    default boolean canSendBuffer(@NonNull ServletExchange<?, ?> exchange) throws IOException {
+        return false;
+    }
+
+    /**
+     * Send a buffer, such as a region of a shared memory mapping of a file, as the response body without
+     * copying it through the heap.
+     *
+     * <p>The buffer must not be read once the returned publisher has terminated.</p>
+     *
+     * @param exchange The exchange
+     * @param buffer   The buffer
+     * @return A publisher that emits the response once the buffer has been sent, or {@code null} if this
+     * sender cannot send buffers for the given exchange
+     * @throws IOException If the buffer could not be sent
+     */
+    @Nullable
+    default Publisher<MutableHttpResponse<?>> sendBuffer(@NonNull ServletExchange<?, ?> exchange,
+                                                         @NonNull ByteBuffer buffer) throws IOException {
+        return null;
+    }
+}
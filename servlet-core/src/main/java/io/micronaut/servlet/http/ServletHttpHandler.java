@@ -34,10 +34,12 @@ import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
+import io.micronaut.http.HttpVersion;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.annotation.Header;
 import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.bind.RequestBinderRegistry;
 import io.micronaut.http.body.MessageBodyHandlerRegistry;
 import io.micronaut.http.body.MessageBodyWriter;
 import io.micronaut.http.codec.CodecException;
@@ -52,7 +54,10 @@ import io.micronaut.http.server.RouteExecutor;
 import io.micronaut.http.server.types.files.FileCustomizableResponseType;
 import io.micronaut.http.server.types.files.StreamedFile;
 import io.micronaut.http.server.types.files.SystemFile;
+import io.micronaut.servlet.http.encoders.StaticResourceCache;
+import io.micronaut.web.router.MethodBasedRouteInfo;
 import io.micronaut.web.router.RouteInfo;
+import io.micronaut.web.router.Router;
 import io.micronaut.web.router.resource.StaticResourceResolver;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
@@ -65,16 +70,21 @@ import java.io.File;
 import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -99,6 +109,12 @@ public abstract class ServletHttpHandler<REQ, RES> implements AutoCloseable, Lif
     private final MessageBodyHandlerRegistry messageBodyHandlerRegistry;
     private final Map<Class<?>, ServletResponseEncoder<?>> responseEncoders;
     private final StaticResourceResolver staticResourceResolver;
+    private final StaticResourceCache staticResourceCache;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final AccessLogger accessLogger;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Object inFlightLock = new Object();
+    private volatile boolean draining;
 
     /**
      * Default constructor.
@@ -117,8 +133,12 @@ public abstract class ServletHttpHandler<REQ, RES> implements AutoCloseable, Lif
                 (o) -> o
             ));
         this.staticResourceResolver = applicationContext.getBean(StaticResourceResolver.class);
+        this.staticResourceCache = applicationContext.findBean(StaticResourceCache.class).orElse(null);
+        this.concurrencyLimiter = applicationContext.findBean(ConcurrencyLimiter.class).orElse(null);
+        this.accessLogger = applicationContext.findBean(AccessLogger.class).orElse(null);
         this.routeExecutor = applicationContext.getBean(RouteExecutor.class);
         this.conversionService = conversionService;
+        precomputeArgumentBinders(applicationContext);
 
         // hack for bug fixed in Micronaut 1.3.3
         applicationContext.getEnvironment()
@@ -196,8 +216,41 @@ public abstract class ServletHttpHandler<REQ, RES> implements AutoCloseable, Lif
      */
     public void service(ServletExchange<REQ, RES> exchange) {
         final long time = System.currentTimeMillis();
-        Consumer<HttpResponse<?>> requestTerminated = ignore -> {
-            applicationContext.publishEvent(new HttpRequestTerminatedEvent(exchange.getRequest()));
+        final boolean limited = concurrencyLimiter != null && !concurrencyLimiter.isExempt(exchange.getRequest().getPath());
+        final long start = limited ? System.nanoTime() : 0;
+        if (limited && !concurrencyLimiter.tryAcquire()) {
+            reject(exchange, time);
+            return;
+        }
+        inFlight.incrementAndGet();
+        final AtomicBoolean terminated = new AtomicBoolean();
+        final AtomicBoolean logged = accessLogger != null ? new AtomicBoolean() : null;
+        // the request must still be readable, so the access log is written before an async request completes
+        Consumer<HttpResponse<?>> accessLog = httpResponse -> {
+            if (accessLogger != null && logged.compareAndSet(false, true)) {
+                accessLogger.log(exchange.getRequest(), httpResponse, time);
+            }
+        };
+        // releases the permit and the in-flight count exactly once, also when the request could not be dispatched
+        Consumer<HttpResponse<?>> release = httpResponse -> {
+            if (terminated.compareAndSet(false, true)) {
+                if (limited) {
+                    concurrencyLimiter.release(
+                        System.nanoTime() - start,
+                        httpResponse == null || httpResponse.code() >= HttpStatus.INTERNAL_SERVER_ERROR.getCode()
+                    );
+                }
+                if (inFlight.decrementAndGet() == 0 && draining) {
+                    synchronized (inFlightLock) {
+                        inFlightLock.notifyAll();
+                    }
+                }
+                applicationContext.publishEvent(new HttpRequestTerminatedEvent(exchange.getRequest()));
+            }
+        };
+        Consumer<HttpResponse<?>> requestTerminated = httpResponse -> {
+            accessLog.accept(httpResponse);
+            release.accept(httpResponse);
             if (LOG.isTraceEnabled()) {
                 final HttpRequest<? super Object> r = exchange.getRequest();
                 LOG.trace("Executed HTTP Request [{} {}] in: {}ms",
@@ -208,6 +261,26 @@ public abstract class ServletHttpHandler<REQ, RES> implements AutoCloseable, Lif
             }
         };
 
+        try {
+            dispatch(exchange, accessLog, requestTerminated, release);
+        } catch (RuntimeException | Error e) {
+            release.accept(null);
+            throw e;
+        }
+    }
+
+    /**
+     * Routes the request, on an async context if the request supports it.
+     *
+     * @param exchange          The exchange
+     * @param accessLog         Writes the access log record
+     * @param requestTerminated Called once the response has been written
+     * @param release           Releases the resources held by the request if it cannot complete normally
+     */
+    private void dispatch(ServletExchange<REQ, RES> exchange,
+                          Consumer<HttpResponse<?>> accessLog,
+                          Consumer<HttpResponse<?>> requestTerminated,
+                          Consumer<HttpResponse<?>> release) {
         final HttpRequest<Object> req = exchange.getRequest();
         applicationContext.publishEvent(new HttpRequestReceivedEvent(req));
 
@@ -222,10 +295,14 @@ public abstract class ServletHttpHandler<REQ, RES> implements AutoCloseable, Lif
                             response == null ? null : response.toMutableResponse(),
                             throwable,
                             httpResponse -> {
+                                accessLog.accept(httpResponse);
                                 asyncExecution.complete();
                                 requestTerminated.accept(httpResponse);
                             }
                     ));
+                } catch (RuntimeException | Error e) {
+                    release.accept(null);
+                    throw e;
                 }
             });
         } else {
@@ -248,12 +325,131 @@ public abstract class ServletHttpHandler<REQ, RES> implements AutoCloseable, Lif
                 termination.get();
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
+                // the request is abandoned, so it no longer holds a permit
+                release.accept(null);
             } catch (ExecutionException e) {
                 throw new AssertionError("we only call complete, shouldn't happen", e);
             }
         }
     }
 
+    /**
+     * @return The number of requests that are being handled, including responses that are still being written
+     * @since 4.12.0
+     */
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    /**
+     * Prepare for shutdown: from now on responses ask HTTP/1.x clients to close the connection.
+     *
+     * @since 4.12.0
+     */
+    public void startDraining() {
+        draining = true;
+    }
+
+    /**
+     * Wait for the requests that are being handled to complete.
+     *
+     * @param timeout The maximum time to wait
+     * @return Whether all requests completed in time
+     * @throws InterruptedException If the thread was interrupted while waiting
+     * @since 4.12.0
+     */
+    public boolean awaitInFlight(@NonNull Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (inFlightLock) {
+            while (inFlight.get() > 0) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    return false;
+                }
+                inFlightLock.wait(remaining);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resolve the message body readers, writers and codecs of all routes up front, so that the first
+     * request to a route does not pay for their lookup.
+     *
+     * @since 4.12.0
+     */
+    public void warmUp() {
+        applicationContext.findBean(Router.class).ifPresent(router -> router.uriRoutes().forEach(route -> {
+            try {
+                route.getMessageBodyReader();
+                for (MediaType mediaType : route.getConsumes()) {
+                    mediaTypeCodecRegistry.findCodec(mediaType);
+                }
+                if (!route.isVoid()) {
+                    route.getMessageBodyWriter();
+                    for (MediaType mediaType : route.getProduces()) {
+                        messageBodyHandlerRegistry.findWriter(route.getResponseBodyType(), List.of(mediaType));
+                        mediaTypeCodecRegistry.findCodec(mediaType);
+                    }
+                }
+            } catch (RuntimeException e) {
+                // the lookup is repeated by the first request to the route
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Could not resolve the body handlers of route {}: {}", route, e.getMessage(), e);
+                }
+            }
+        }));
+    }
+
+    /**
+     * Rejects a request above the concurrency limit before any of it is read, asking the client to retry later.
+     *
+     * @param exchange The exchange
+     * @param time     The time the request started
+     */
+    private void reject(ServletExchange<REQ, RES> exchange, long time) {
+        HttpRequest<Object> req = exchange.getRequest();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Request [{} - {}] rejected, {} requests are in flight", req.getMethodName(), req.getUri(), concurrencyLimiter.getInFlight());
+        }
+        MutableHttpResponse<?> response = exchange.getResponse()
+            .status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(concurrencyLimiter.getRetryAfterSeconds()));
+        try {
+            encodeResponse(exchange, req, response, httpResponse -> {
+                if (accessLogger != null) {
+                    accessLogger.log(req, httpResponse, time);
+                }
+            });
+        } catch (Throwable e) {
+            LOG.error("Request [{} - {}] could not be rejected: {}", req.getMethodName(), req.getUri(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Resolves the argument binders of all routes up front, so that the first request to a route
+     * does not pay for the binder lookups. The routes keep the binders they resolve.
+     *
+     * @param applicationContext The application context
+     */
+    private static void precomputeArgumentBinders(ApplicationContext applicationContext) {
+        RequestBinderRegistry binderRegistry = applicationContext.findBean(RequestBinderRegistry.class).orElse(null);
+        if (binderRegistry != null) {
+            applicationContext.findBean(Router.class).ifPresent(router -> router.uriRoutes().forEach(route -> {
+                if (route instanceof MethodBasedRouteInfo<?, ?> methodRoute) {
+                    try {
+                        methodRoute.resolveArgumentBinders(binderRegistry);
+                    } catch (RuntimeException e) {
+                        // the binders are resolved again by the first request to the route
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Could not resolve the argument binders of route {}: {}", route, e.getMessage(), e);
+                        }
+                    }
+                }
+            }));
+        }
+    }
+
     private void onComplete(ServletExchange<REQ, RES> exchange,
                             HttpRequest<Object> req,
                             MutableHttpResponse<?> response,
@@ -307,9 +503,14 @@ public abstract class ServletHttpHandler<REQ, RES> implements AutoCloseable, Lif
                     }
                 }
 
+                if (staticResourceCache != null) {
+                    return Optional.of(staticResourceCache.resolve(url));
+                }
                 return Optional.of(new StreamedFile(url));
             } catch (URISyntaxException e) {
                 //no-op
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error reading static resource [" + path + "]: " + e.getMessage(), e);
             }
         }
 
@@ -378,6 +579,9 @@ public abstract class ServletHttpHandler<REQ, RES> implements AutoCloseable, Lif
             boolean isVoid = routeInfoAttribute.map(RouteInfo::isVoid).orElse(false);
             ServletHttpResponse<RES, ?> servletResponse = exchange.getResponse();
             servletResponse.status(response.status(), response.reason());
+            if (draining && request.getHttpVersion() != HttpVersion.HTTP_2_0) {
+                servletResponse.getHeaders().set(HttpHeaders.CONNECTION, "close");
+            }
 
             if (body != null && !isVoid) {
                 Class<?> bodyType = body.getClass();
@@ -388,14 +592,28 @@ public abstract class ServletHttpHandler<REQ, RES> implements AutoCloseable, Lif
                 boolean asyncSupported = exchange.getRequest().isAsyncSupported();
                 if (responseEncoder != null) {
                     if (asyncSupported) {
+                        // the callback releases the request, so it must also run when encoding fails or
+                        // completes empty, for example when the client aborts a download
+                        AtomicBoolean called = new AtomicBoolean();
+                        Consumer<HttpResponse<?>> callback = httpResponse -> {
+                            if (called.compareAndSet(false, true)) {
+                                responsePublisherCallback.accept(httpResponse);
+                            }
+                        };
                         Flux.from(responseEncoder.encode(exchange, routeAnnotationMetadata, body))
-                            .subscribe(responsePublisherCallback);
+                            .subscribe(callback, throwable -> {
+                                if (LOG.isDebugEnabled()) {
+                                    LOG.debug("Encoding response {} failed: {}", response.status(), throwable.getMessage(), throwable);
+                                }
+                                callback.accept(null);
+                            }, () -> callback.accept(response));
                     } else {
                         // NOTE[moss]: blockLast() here *was* subscribe(), but that returns immediately, which was
                         // sometimes allowing the main response publisher to complete before this responseEncoder
                         // could fill out the response! Blocking here will ensure that the response is filled out
                         // before the main response publisher completes. This will be improved later to avoid the block.
-                        Flux.from(responseEncoder.encode(exchange, routeAnnotationMetadata, body)).blockLast();
+                        MutableHttpResponse<?> encoded = Flux.from(responseEncoder.encode(exchange, routeAnnotationMetadata, body)).blockLast();
+                        responsePublisherCallback.accept(encoded != null ? encoded : response);
                     }
                     return;
                 }
@@ -456,7 +674,7 @@ public abstract class ServletHttpHandler<REQ, RES> implements AutoCloseable, Lif
                                 }
                                 // Call encoding again, the body might need to be encoded
                                 encodeResponse(exchange, request, nextResponse, responsePublisherCallback);
-                            });
+                            }, throwable -> responsePublisherCallback.accept(null));
                             return;
                         } else {
                             // fallback to blocking
@@ -61,7 +61,8 @@ public interface ServletHttpResponse<N, B> extends MutableHttpResponse<B> {
     BufferedWriter getWriter() throws IOException;
 
     /**
-     * Streams data using the given data publisher.
+     * Streams data using the given data publisher. Implementations write each item before they request the next
+     * one, so a publisher of byte arrays may reuse its array for the next item.
      *
      * @param dataPublisher The data publisher
      * @return Emits the response once the stream has completed
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http;
+
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpAttributes;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.annotation.Body;
+import io.micronaut.http.body.ByteBody;
+import io.micronaut.http.body.CloseableByteBody;
+import io.micronaut.inject.ExecutionHandle;
+import io.micronaut.web.router.RouteMatch;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Holds the body of a servlet request once it has been decoded, for the request implementations.
+ *
+ * <p>The first read decodes straight from the request stream into the requested type. The raw content
+ * is only kept, as a split of the {@link ByteBody}, when the first read is not for the body type of the
+ * matched route, because the route will then read the body again as another type.</p>
+ *
+ * @since 4.12.0
+ */
+@Internal
+public final class TypedBodyHolder {
+
+    private final HttpRequest<?> request;
+    private final ByteBody byteBody;
+    private final BodyBuilder bodyBuilder;
+    private Optional<Object> body;
+    private Object parsedBody;
+    private Argument<?> parsedBodyType;
+    private CloseableByteBody retained;
+
+    /**
+     * @param request     The request
+     * @param byteBody    The content of the request
+     * @param bodyBuilder The body builder
+     */
+    public TypedBodyHolder(@NonNull HttpRequest<?> request, @NonNull ByteBody byteBody, @NonNull BodyBuilder bodyBuilder) {
+        this.request = request;
+        this.byteBody = byteBody;
+        this.bodyBuilder = bodyBuilder;
+    }
+
+    /**
+     * @return The generic representation of the body
+     */
+    @NonNull
+    public Optional<Object> getBody() {
+        Optional<Object> body = this.body;
+        if (body == null) {
+            Object built;
+            if (parsedBodyType != null && parsedBodyType.getType() != Object.class && retained != null) {
+                // the body was decoded into a specific type, build the generic representation from the raw content
+                built = bodyBuilder.buildBody(this::retainedStream, request);
+            } else {
+                built = parsedBody != null ? parsedBody : bodyBuilder.buildBody(this::stream, request);
+            }
+            body = Optional.ofNullable(built);
+            if (built != null) {
+                this.body = body;
+            }
+        }
+        return body;
+    }
+
+    /**
+     * The body as the given type. The result may still have to be converted to the type.
+     *
+     * @param type The type
+     * @return The body
+     */
+    @NonNull
+    public Optional<Object> getBody(@NonNull Argument<?> type) {
+        if (body == null && parsedBody == null) {
+            // nothing has been read yet, so decode straight into the requested type
+            Object built = bodyBuilder.buildBody(() -> firstStream(type), request, type);
+            if (built != null) {
+                parsedBody = built;
+                parsedBodyType = type;
+            }
+            return Optional.ofNullable(built);
+        }
+        if (body == null && parsedBodyType != null) {
+            if (parsedBodyType.equalsType(type)) {
+                return Optional.of(parsedBody);
+            }
+            if (retained != null) {
+                // the body was decoded into another type, decode it again from the raw content
+                return Optional.ofNullable(bodyBuilder.buildBody(this::retainedStream, request, type));
+            }
+        }
+        return getBody();
+    }
+
+    /**
+     * @param parsedBody The body parsed by a binder
+     */
+    public void setParsedBody(@Nullable Object parsedBody) {
+        this.parsedBody = parsedBody;
+        this.parsedBodyType = null;
+    }
+
+    private InputStream firstStream(Argument<?> type) {
+        if (!type.equalsType(resolveBodyType(request))) {
+            retained = byteBody.split(ByteBody.SplitBackpressureMode.FASTEST);
+        }
+        return stream();
+    }
+
+    private InputStream stream() {
+        return byteBody.split(ByteBody.SplitBackpressureMode.FASTEST).toInputStream();
+    }
+
+    private InputStream retainedStream() {
+        return retained.split(ByteBody.SplitBackpressureMode.FASTEST).toInputStream();
+    }
+
+    /**
+     * Resolves the type the matched route reads the whole body as.
+     *
+     * @param request The request
+     * @return The body type, {@link Argument#OBJECT_ARGUMENT} if there is no route or the route does not read the
+     * whole body
+     */
+    @NonNull
+    static Argument<?> resolveBodyType(@NonNull HttpRequest<?> request) {
+        RouteMatch<?> route = request.getAttribute(HttpAttributes.ROUTE_MATCH, RouteMatch.class).orElse(null);
+        if (route != null) {
+            Argument<?> bodyType = route.getRouteInfo().getFullRequestBodyType()
+                /*
+                The getBodyArgument() method returns arguments for functions where it is
+                not possible to dictate whether the argument is supposed to bind the entire
+                body or just a part of the body. We check to ensure the argument has the body
+                annotation to exclude that use case
+                */
+                .filter(argument -> {
+                    AnnotationMetadata annotationMetadata = argument.getAnnotationMetadata();
+                    if (annotationMetadata.hasAnnotation(Body.class)) {
+                        return annotationMetadata.stringValue(Body.class).isEmpty();
+                    } else {
+                        return false;
+                    }
+                })
+                .orElseGet(() -> {
+                    if (route instanceof ExecutionHandle<?, ?> handle) {
+                        for (Argument<?> argument : handle.getArguments()) {
+                            if (argument.getType() == HttpRequest.class) {
+                                return argument;
+                            }
+                        }
+                    }
+                    return Argument.OBJECT_ARGUMENT;
+                });
+            if (bodyType.getType() == HttpRequest.class) {
+                bodyType = bodyType.getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT);
+            }
+            return bodyType;
+        } else {
+            return Argument.OBJECT_ARGUMENT;
+        }
+    }
+}
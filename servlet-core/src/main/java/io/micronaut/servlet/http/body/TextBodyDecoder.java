@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http.body;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Decodes a text request body in a single step, without a reader stack.
+ *
+ * <p>When the content length is known the bytes are read up to that length into an array that starts at
+ * a bounded size and grows as data arrives, so a large content length announced by the client does not
+ * allocate memory up front. Otherwise the stream is drained. The bytes are then decoded with the given charset.</p>
+ *
+ * @since 4.12.0
+ */
+@Internal
+public final class TextBodyDecoder {
+
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+    private static final int MAX_INITIAL_LENGTH = 64 * 1024;
+
+    private TextBodyDecoder() {
+    }
+
+    /**
+     * Read the remaining content of the given stream as text.
+     *
+     * @param inputStream   The input stream, not closed by this method
+     * @param contentLength The content length or a negative value if unknown
+     * @param charset       The charset of the body
+     * @return The text
+     * @throws IOException If the stream could not be read
+     */
+    @NonNull
+    public static String readText(@NonNull InputStream inputStream, long contentLength, @NonNull Charset charset) throws IOException {
+        if (contentLength == 0) {
+            return "";
+        } else if (contentLength > 0 && contentLength <= MAX_ARRAY_LENGTH) {
+            byte[] bytes = new byte[(int) Math.min(contentLength, MAX_INITIAL_LENGTH)];
+            int length = 0;
+            while (length < contentLength) {
+                if (length == bytes.length) {
+                    bytes = Arrays.copyOf(bytes, (int) Math.min(contentLength, 2L * bytes.length));
+                }
+                int read = inputStream.read(bytes, length, bytes.length - length);
+                if (read < 0) {
+                    break;
+                }
+                length += read;
+            }
+            return decode(bytes, length, charset);
+        } else {
+            byte[] bytes = inputStream.readAllBytes();
+            return decode(bytes, bytes.length, charset);
+        }
+    }
+
+    /**
+     * Decode the given bytes.
+     *
+     * @param bytes   The bytes
+     * @param length  The number of bytes to decode, starting at offset 0
+     * @param charset The charset
+     * @return The text
+     */
+    @NonNull
+    public static String decode(@NonNull byte[] bytes, int length, @NonNull Charset charset) {
+        if (length == 0) {
+            return "";
+        }
+        return new String(bytes, 0, length, charset);
+    }
+}
@@ -16,18 +16,28 @@
 package io.micronaut.servlet.http.encoders;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpMethod;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.MutableHttpHeaders;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.server.types.files.FileCustomizableResponseType;
+import io.micronaut.servlet.http.HttpDateClock;
+import io.micronaut.servlet.http.ServletExchange;
 import io.micronaut.servlet.http.ServletHttpRequest;
 import io.micronaut.servlet.http.ServletHttpResponse;
 import io.micronaut.servlet.http.ServletResponseEncoder;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.ZonedDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
 
 /**
  * Abstract file encoder implementation.
@@ -38,16 +48,34 @@ import java.time.temporal.ChronoUnit;
  */
 public abstract class AbstractFileEncoder<T extends FileCustomizableResponseType> implements ServletResponseEncoder<T> {
 
+    static final int BUFFER_SIZE = 64 * 1024;
+
     private static final String CHUNKED = "chunked";
+    private static final String WEAK_ETAG_PREFIX = "W/";
+
+    private final FileCacheConfiguration cacheConfiguration;
+
+    /**
+     * Encoder with the default cache configuration.
+     */
+    protected AbstractFileEncoder() {
+        this(null);
+    }
+
+    /**
+     * @param cacheConfiguration The cache configuration
+     * @since 4.12.0
+     */
+    protected AbstractFileEncoder(@Nullable FileCacheConfiguration cacheConfiguration) {
+        this.cacheConfiguration = cacheConfiguration != null ? cacheConfiguration : new FileCacheConfiguration();
+    }
 
     /**
      * @param response The Http response
      * @return The response
      */
     protected MutableHttpResponse<?> setDateHeader(MutableHttpResponse<?> response) {
-        MutableHttpHeaders headers = response.getHeaders();
-        LocalDateTime now = LocalDateTime.now();
-        headers.date(now);
+        response.getHeaders().set(HttpHeaders.DATE, HttpDateClock.now());
         return response;
     }
 
@@ -56,25 +84,33 @@ public abstract class AbstractFileEncoder<T extends FileCustomizableResponseType
      * @param lastModified The last modified
      */
     protected void setDateAndCacheHeaders(MutableHttpResponse response, long lastModified) {
+        setDateAndCacheHeaders(response, lastModified, cacheConfiguration.getCacheControl());
+    }
+
+    /**
+     * @param response     The Http response
+     * @param lastModified The last modified
+     * @param cacheControl The cache control header to send unless one has been set already
+     * @since 4.12.0
+     */
+    protected void setDateAndCacheHeaders(MutableHttpResponse<?> response, long lastModified, String cacheControl) {
         // Date header
         MutableHttpHeaders headers = response.getHeaders();
-        LocalDateTime now = LocalDateTime.now();
-        headers.date(now);
+        headers.set(HttpHeaders.DATE, HttpDateClock.now());
 
         // Add cache headers
-        // TODO: Make configurable
-        LocalDateTime cacheSeconds = now.plus(60, ChronoUnit.SECONDS);
-        if (response.header(HttpHeaders.EXPIRES) == null) {
-            headers.expires(cacheSeconds);
+        String existingCacheControl = response.header(HttpHeaders.CACHE_CONTROL);
+        if (existingCacheControl == null) {
+            response.header(HttpHeaders.CACHE_CONTROL, cacheControl);
         }
 
-        if (response.header(HttpHeaders.CACHE_CONTROL) == null) {
-            String header = "private" + ", max-age=" + 60;
-            response.header(HttpHeaders.CACHE_CONTROL, header);
+        long maxAge = FileCacheConfiguration.maxAge(existingCacheControl != null ? existingCacheControl : cacheControl);
+        if (maxAge > -1 && response.header(HttpHeaders.EXPIRES) == null) {
+            headers.set(HttpHeaders.EXPIRES, HttpDateClock.fromNow(maxAge));
         }
 
         if (response.header(HttpHeaders.LAST_MODIFIED) == null) {
-            headers.lastModified(lastModified);
+            headers.set(HttpHeaders.LAST_MODIFIED, HttpDateClock.format(lastModified));
         }
     }
 
@@ -96,22 +132,38 @@ public abstract class AbstractFileEncoder<T extends FileCustomizableResponseType
         if (mediaType != null && !response.getContentType().isPresent()) {
             response.header(HttpHeaders.CONTENT_TYPE, mediaType);
         }
-        ZonedDateTime ifModifiedSince = headers.getDate(HttpHeaders.IF_MODIFIED_SINCE);
-        if (ifModifiedSince != null) {
-
-            // Only compare up to the second because the datetime format we send to the client
-            // does not have milliseconds
-            long ifModifiedSinceDateSeconds = ifModifiedSince.toEpochSecond();
-            long fileLastModifiedSeconds = lastModified / 1000;
-            if (ifModifiedSinceDateSeconds == fileLastModifiedSeconds) {
+        String cacheControl = cacheConfiguration.resolveCacheControl(request.getPath(), mediaType);
+        String etag = etag(value, request, response);
+        String ifNoneMatch = headers.get(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // If-None-Match takes precedence over If-Modified-Since
+            if (etag != null && etagMatches(ifNoneMatch, etag)) {
+                setDateAndCacheHeaders(response, lastModified, cacheControl);
                 return true;
             }
+        } else {
+            String ifModifiedSinceHeader = headers.get(HttpHeaders.IF_MODIFIED_SINCE);
+            if (ifModifiedSinceHeader != null && ifModifiedSinceHeader.equals(HttpDateClock.format(lastModified))) {
+                // the client echoed the Last-Modified header back, no need to parse it
+                return true;
+            }
+            ZonedDateTime ifModifiedSince = ifModifiedSinceHeader != null ? headers.getDate(HttpHeaders.IF_MODIFIED_SINCE) : null;
+            if (ifModifiedSince != null) {
+
+                // Only compare up to the second because the datetime format we send to the client
+                // does not have milliseconds
+                long ifModifiedSinceDateSeconds = ifModifiedSince.toEpochSecond();
+                long fileLastModifiedSeconds = lastModified / 1000;
+                if (ifModifiedSinceDateSeconds == fileLastModifiedSeconds) {
+                    return true;
+                }
+            }
         }
 
         if (!response.getHeaders().contains(HttpHeaders.CONTENT_TYPE)) {
             response.header(HttpHeaders.CONTENT_TYPE, value.getMediaType().toString());
         }
-        setDateAndCacheHeaders(response, lastModified);
+        setDateAndCacheHeaders(response, lastModified, cacheControl);
         long length = value.getLength();
 
         if (length > -1) {
@@ -122,4 +174,164 @@ public abstract class AbstractFileEncoder<T extends FileCustomizableResponseType
         value.process(response);
         return false;
     }
+
+    /**
+     * Computes the ETag of the representation of a value that is sent for a request. Defaults to a strong ETag
+     * derived from the length and last modified date, so that clients can resume downloads with an
+     * {@code If-Range} that echoes it.
+     *
+     * @param value   The value
+     * @param request The request
+     * @return The ETag or {@code null} if none can be computed
+     */
+    @Nullable
+    String etagFor(T value, ServletHttpRequest<?, ? super Object> request) {
+        long lastModified = value.getLastModified();
+        if (lastModified <= 0) {
+            return null;
+        }
+        return "\"" + Long.toHexString(value.getLength()) + '-' + Long.toHexString(lastModified) + '"';
+    }
+
+    /**
+     * Sets the ETag of the value, unless the response already has one.
+     *
+     * @param value    The value
+     * @param request  The request
+     * @param response The response
+     * @return The ETag of the response or {@code null} if it has none
+     */
+    @Nullable
+    private String etag(T value, ServletHttpRequest<?, ? super Object> request, ServletHttpResponse<?, ?> response) {
+        String etag = response.getHeaders().get(HttpHeaders.ETAG);
+        if (etag != null || !cacheConfiguration.isEtagEnabled()) {
+            return etag;
+        }
+        etag = etagFor(value, request);
+        if (etag != null) {
+            response.getHeaders().set(HttpHeaders.ETAG, etag);
+        }
+        return etag;
+    }
+
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        String opaqueTag = stripWeakPrefix(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || stripWeakPrefix(trimmed).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeakPrefix(String etag) {
+        return etag.startsWith(WEAK_ETAG_PREFIX) ? etag.substring(WEAK_ETAG_PREFIX.length()) : etag;
+    }
+
+    /**
+     * Resolves the {@code Range} header of a {@code GET} request against the content. Must be called after
+     * {@link #ifNotModified} returned {@code false}.
+     *
+     * @param value    The value
+     * @param request  The request
+     * @param response The response
+     * @return The ranges or {@code null} if the full content should be sent
+     */
+    @Nullable
+    ByteRanges resolveRanges(@NonNull T value,
+                             ServletHttpRequest<?, ? super Object> request,
+                             ServletHttpResponse<?, ?> response) {
+        long length = value.getLength();
+        if (length < 0) {
+            return null;
+        }
+        response.getHeaders().set(HttpHeaders.ACCEPT_RANGES, ByteRanges.BYTES);
+        if (request.getMethod() != HttpMethod.GET) {
+            return null;
+        }
+        String range = request.getHeaders().get(HttpHeaders.RANGE);
+        if (range == null || !ifRangeMatches(value, request, response)) {
+            return null;
+        }
+        return ByteRanges.parse(range, length);
+    }
+
+    /**
+     * Writes the content of a stream as the response body.
+     *
+     * @param exchange The exchange
+     * @param content  Opens the stream, which is closed once it has been written
+     * @param async    Whether to write with non-blocking I/O
+     * @return Emits the response once the content has been written
+     */
+    Publisher<MutableHttpResponse<?>> writeStream(ServletExchange<?, ?> exchange, Callable<InputStream> content, boolean async) {
+        ServletHttpResponse<?, ?> response = exchange.getResponse();
+        if (async) {
+            // the response writes each chunk before it requests the next one, so every chunk reuses one buffer
+            return response.stream(Flux.defer(() -> {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                return Flux.<byte[], InputStream>generate(
+                    content,
+                    (in, sink) -> {
+                        try {
+                            int len = in.readNBytes(buffer, 0, buffer.length);
+                            if (len == 0) {
+                                sink.complete();
+                            } else {
+                                // only the last chunk can be short
+                                sink.next(len == buffer.length ? buffer : Arrays.copyOf(buffer, len));
+                            }
+                        } catch (IOException e) {
+                            sink.error(e);
+                        }
+                        return in;
+                    },
+                    AbstractFileEncoder::closeQuietly
+                );
+            }));
+        } else {
+            return Mono.fromCallable(() -> {
+                try (InputStream in = content.call()) {
+                    try (OutputStream out = response.getOutputStream()) {
+                        byte[] buffer = new byte[BUFFER_SIZE];
+                        int len;
+                        while ((len = in.read(buffer)) != -1) {
+                            out.write(buffer, 0, len);
+                        }
+                    }
+                }
+                return response;
+            });
+        }
+    }
+
+    /**
+     * Close a stream, ignoring any failure.
+     *
+     * @param closeable The stream
+     */
+    static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            // ignore
+        }
+    }
+
+    private boolean ifRangeMatches(T value, ServletHttpRequest<?, ? super Object> request, ServletHttpResponse<?, ?> response) {
+        String ifRange = request.getHeaders().get(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith(WEAK_ETAG_PREFIX)) {
+            // If-Range requires a strong comparison
+            return false;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(response.getHeaders().get(HttpHeaders.ETAG));
+        }
+        ZonedDateTime date = request.getHeaders().getDate(HttpHeaders.IF_RANGE);
+        return date != null && date.toEpochSecond() == value.getLastModified() / 1000;
+    }
 }
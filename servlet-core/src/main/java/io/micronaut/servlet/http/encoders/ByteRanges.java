@@ -0,0 +1,312 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http.encoders;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.servlet.http.ServletHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The byte ranges of a {@code Range} request header, resolved against the length of the content.
+ *
+ * <p>Only ranges in ascending order that do not overlap are accepted, anything else is ignored and the
+ * full content is sent. This keeps a single forward pass over the content, so the ranges can be served
+ * from streams as well as from files.</p>
+ *
+ * @since 4.12.0
+ */
+@Internal
+final class ByteRanges {
+
+    static final String BYTES = "bytes";
+
+    private static final int MAX_RANGES = 16;
+    private static final String MULTIPART_BYTERANGES = "multipart/byteranges";
+    private static final String CRLF = "\r\n";
+
+    private final List<ByteRange> ranges;
+    private final long length;
+    private byte[][] partHeaders;
+    private byte[] trailer;
+
+    private ByteRanges(List<ByteRange> ranges, long length) {
+        this.ranges = ranges;
+        this.length = length;
+    }
+
+    /**
+     * Parse a {@code Range} header.
+     *
+     * @param header The header value
+     * @param length The length of the content
+     * @return The ranges or {@code null} if the header should be ignored
+     */
+    @Nullable
+    static ByteRanges parse(@NonNull String header, long length) {
+        int equals = header.indexOf('=');
+        if (equals == -1 || !header.substring(0, equals).trim().equalsIgnoreCase(BYTES)) {
+            return null;
+        }
+        List<ByteRange> ranges = new ArrayList<>();
+        int specs = 0;
+        for (String spec : header.substring(equals + 1).split(",")) {
+            spec = spec.trim();
+            if (spec.isEmpty()) {
+                continue;
+            }
+            if (++specs > MAX_RANGES) {
+                return null;
+            }
+            int dash = spec.indexOf('-');
+            if (dash == -1) {
+                return null;
+            }
+            long first = parseNumber(spec.substring(0, dash).trim());
+            long last = parseNumber(spec.substring(dash + 1).trim());
+            if (dash == 0) {
+                // suffix range: the last n bytes
+                if (last < 0) {
+                    return null;
+                }
+                if (last > 0 && length > 0) {
+                    ranges.add(new ByteRange(Math.max(0, length - last), length - 1));
+                }
+            } else {
+                if (first < 0 || last == -1 || (last >= 0 && last < first)) {
+                    return null;
+                }
+                if (first < length) {
+                    ranges.add(new ByteRange(first, last == -2 ? length - 1 : Math.min(last, length - 1)));
+                }
+            }
+        }
+        if (specs == 0) {
+            return null;
+        }
+        for (int i = 1; i < ranges.size(); i++) {
+            if (ranges.get(i).start() <= ranges.get(i - 1).end()) {
+                return null;
+            }
+        }
+        return new ByteRanges(Collections.unmodifiableList(ranges), length);
+    }
+
+    /**
+     * @return Whether any of the ranges can be served
+     */
+    boolean isSatisfiable() {
+        return !ranges.isEmpty();
+    }
+
+    /**
+     * @return Whether the ranges are sent as {@code multipart/byteranges}
+     */
+    boolean isMultipart() {
+        return ranges.size() > 1;
+    }
+
+    /**
+     * @return The first range
+     */
+    ByteRange first() {
+        return ranges.get(0);
+    }
+
+    /**
+     * Turn the response into a {@code 206 Partial Content} response for these ranges.
+     *
+     * @param response The response
+     */
+    void applyTo(ServletHttpResponse<?, ?> response) {
+        response.status(HttpStatus.PARTIAL_CONTENT);
+        if (!isMultipart()) {
+            ByteRange range = first();
+            response.getHeaders().set(HttpHeaders.CONTENT_RANGE, contentRange(range));
+            response.contentLength(range.length());
+            return;
+        }
+        String boundary = UUID.randomUUID().toString();
+        String contentType = response.getContentType().map(MediaType::toString).orElse(null);
+        partHeaders = new byte[ranges.size()][];
+        long contentLength = 0;
+        for (int i = 0; i < ranges.size(); i++) {
+            ByteRange range = ranges.get(i);
+            StringBuilder part = new StringBuilder(CRLF).append("--").append(boundary).append(CRLF);
+            if (contentType != null) {
+                part.append(HttpHeaders.CONTENT_TYPE).append(": ").append(contentType).append(CRLF);
+            }
+            part.append(HttpHeaders.CONTENT_RANGE).append(": ").append(contentRange(range)).append(CRLF).append(CRLF);
+            partHeaders[i] = part.toString().getBytes(StandardCharsets.ISO_8859_1);
+            contentLength += partHeaders[i].length + range.length();
+        }
+        trailer = (CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.ISO_8859_1);
+        contentLength += trailer.length;
+        response.contentType(MULTIPART_BYTERANGES + "; boundary=" + boundary);
+        response.contentLength(contentLength);
+    }
+
+    /**
+     * Turn the response into a {@code 416 Range Not Satisfiable} response.
+     *
+     * @param response The response
+     * @param length   The length of the content
+     */
+    static void notSatisfiable(ServletHttpResponse<?, ?> response, long length) {
+        response.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        response.getHeaders().set(HttpHeaders.CONTENT_RANGE, BYTES + " */" + length);
+        response.contentLength(0);
+    }
+
+    /**
+     * The body of the partial content response, read from the full content. Must be called after
+     * {@link #applyTo(ServletHttpResponse)}.
+     *
+     * @param content The full content, which is closed with the returned stream
+     * @return The partial content
+     */
+    InputStream open(InputStream content) {
+        return new PartialContentInputStream(content);
+    }
+
+    private String contentRange(ByteRange range) {
+        return BYTES + " " + range.start() + "-" + range.end() + "/" + length;
+    }
+
+    /**
+     * @return The number, -2 if empty or -1 if it is not a number
+     */
+    private static long parseNumber(String value) {
+        if (value.isEmpty()) {
+            return -2;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return -1;
+            }
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * A satisfiable byte range.
+     *
+     * @param start The first byte, inclusive
+     * @param end   The last byte, inclusive
+     */
+    record ByteRange(long start, long end) {
+
+        /**
+         * @return The number of bytes in the range
+         */
+        long length() {
+            return end - start + 1;
+        }
+    }
+
+    /**
+     * Reads the ranges out of the full content in a single pass, framing them as parts if needed.
+     */
+    private final class PartialContentInputStream extends InputStream {
+
+        private final InputStream content;
+        private long contentPosition;
+        private int rangeIndex;
+        private byte[] prefix;
+        private int prefixPosition;
+        private long remaining;
+        private boolean trailerWritten;
+
+        PartialContentInputStream(InputStream content) {
+            this.content = content;
+            this.rangeIndex = -1;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (true) {
+                if (prefix != null && prefixPosition < prefix.length) {
+                    int count = Math.min(len, prefix.length - prefixPosition);
+                    System.arraycopy(prefix, prefixPosition, b, off, count);
+                    prefixPosition += count;
+                    return count;
+                }
+                if (remaining > 0) {
+                    int read = content.read(b, off, (int) Math.min(len, remaining));
+                    if (read == -1) {
+                        throw new IOException("Content ended before the requested range");
+                    }
+                    remaining -= read;
+                    contentPosition += read;
+                    return read;
+                }
+                if (!nextRange()) {
+                    return -1;
+                }
+            }
+        }
+
+        private boolean nextRange() throws IOException {
+            rangeIndex++;
+            if (rangeIndex < ranges.size()) {
+                ByteRange range = ranges.get(rangeIndex);
+                content.skipNBytes(range.start() - contentPosition);
+                contentPosition = range.start();
+                remaining = range.length();
+                prefix = partHeaders != null ? partHeaders[rangeIndex] : null;
+                prefixPosition = 0;
+                return true;
+            }
+            if (trailer != null && !trailerWritten) {
+                trailerWritten = true;
+                prefix = trailer;
+                prefixPosition = 0;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            content.close();
+        }
+    }
+}
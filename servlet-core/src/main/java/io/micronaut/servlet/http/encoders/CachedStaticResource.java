@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http.encoders;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.server.types.files.FileCustomizableResponseType;
+
+/**
+ * A static resource held in memory by the {@link StaticResourceCache}.
+ *
+ * @since 4.12.0
+ */
+@Internal
+public final class CachedStaticResource implements FileCustomizableResponseType {
+
+    private final byte[] content;
+    private final byte[] gzipContent;
+    private final String etag;
+    private final MediaType mediaType;
+    private final long lastModified;
+
+    /**
+     * @param content      The content
+     * @param gzipContent  The gzip compressed content, if it is worth sending
+     * @param etag         The strong ETag of the content
+     * @param mediaType    The media type
+     * @param lastModified The last modified date of the resource
+     */
+    CachedStaticResource(byte[] content, @Nullable byte[] gzipContent, String etag, MediaType mediaType, long lastModified) {
+        this.content = content;
+        this.gzipContent = gzipContent;
+        this.etag = etag;
+        this.mediaType = mediaType;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * @return The content
+     */
+    @NonNull
+    public byte[] getContent() {
+        return content;
+    }
+
+    /**
+     * @return The gzip compressed content or {@code null} if there is no compressed variant
+     */
+    @Nullable
+    public byte[] getGzipContent() {
+        return gzipContent;
+    }
+
+    /**
+     * @return The strong ETag of the content
+     */
+    @NonNull
+    public String getEtag() {
+        return etag;
+    }
+
+    @Override
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public long getLength() {
+        return content.length;
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    @Override
+    public void process(MutableHttpResponse<?> response) {
+        // no customization
+    }
+
+    /**
+     * @return The number of bytes held in memory
+     */
+    long weight() {
+        return content.length + (gzipContent != null ? gzipContent.length : 0);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http.encoders;
+
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.servlet.http.ServletConfiguration;
+import io.micronaut.servlet.http.ServletExchange;
+import io.micronaut.servlet.http.ServletHttpRequest;
+import io.micronaut.servlet.http.ServletHttpResponse;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+
+/**
+ * A {@link io.micronaut.servlet.http.ServletResponseEncoder} for {@link CachedStaticResource}, which writes the
+ * cached content, or its gzip variant, with a single write.
+ *
+ * @since 4.12.0
+ */
+@Singleton
+public class CachedStaticResourceEncoder extends AbstractFileEncoder<CachedStaticResource> {
+
+    private static final String GZIP = "gzip";
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private final ServletConfiguration servletConfiguration;
+
+    /**
+     * @param servletConfiguration The servlet configuration
+     * @param cacheConfiguration   The cache configuration
+     */
+    public CachedStaticResourceEncoder(@Nullable ServletConfiguration servletConfiguration, @Nullable FileCacheConfiguration cacheConfiguration) {
+        super(cacheConfiguration);
+        this.servletConfiguration = servletConfiguration != null ? servletConfiguration : ServletConfiguration.DEFAULT;
+    }
+
+    @Override
+    public Class<CachedStaticResource> getResponseType() {
+        return CachedStaticResource.class;
+    }
+
+    @Override
+    public Publisher<MutableHttpResponse<?>> encode(
+            @NonNull ServletExchange<?, ?> exchange,
+            AnnotationMetadata annotationMetadata,
+            @NonNull CachedStaticResource value) {
+        final ServletHttpRequest<?, ? super Object> request = exchange.getRequest();
+        ServletHttpResponse<?, ?> response = exchange.getResponse();
+        if (value.getGzipContent() != null) {
+            // also sent with 304 responses, which caches use to update the stored response
+            response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (ifNotModified(value, request, response)) {
+            return Publishers.just(
+                    setDateHeader(
+                            response.status(HttpStatus.NOT_MODIFIED)
+                    )
+            );
+        }
+
+        boolean asyncSupported = request.isAsyncSupported() && servletConfiguration.isAsyncFileServingEnabled();
+        if (sendsGzip(value, request)) {
+            // ranges are only served from the identity representation
+            byte[] gzipContent = value.getGzipContent();
+            response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, GZIP);
+            response.contentLength(gzipContent.length);
+            return write(response, gzipContent, asyncSupported);
+        }
+        ByteRanges ranges = resolveRanges(value, request, response);
+        if (ranges != null) {
+            if (!ranges.isSatisfiable()) {
+                ByteRanges.notSatisfiable(response, value.getLength());
+                return Publishers.just(response);
+            }
+            ranges.applyTo(response);
+            return writeStream(exchange, () -> ranges.open(new ByteArrayInputStream(value.getContent())), asyncSupported);
+        }
+        return write(response, value.getContent(), asyncSupported);
+    }
+
+    @Override
+    String etagFor(CachedStaticResource value, ServletHttpRequest<?, ? super Object> request) {
+        String etag = value.getEtag();
+        if (sendsGzip(value, request)) {
+            // the gzip representation has other bytes, so it needs a strong validator of its own
+            return etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + '"';
+        }
+        return etag;
+    }
+
+    private Publisher<MutableHttpResponse<?>> write(ServletHttpResponse<?, ?> response, byte[] content, boolean async) {
+        if (async) {
+            return response.stream(Flux.just(content));
+        }
+        return Mono.fromCallable(() -> {
+            try (OutputStream out = response.getOutputStream()) {
+                out.write(content);
+            }
+            return response;
+        });
+    }
+
+    private static boolean sendsGzip(CachedStaticResource value, ServletHttpRequest<?, ?> request) {
+        return value.getGzipContent() != null && acceptsGzip(request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    private static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                for (int i = 1; i < parts.length; i++) {
+                    if (parts[i].trim().matches("[qQ]\\s*=\\s*0(\\.0{0,3})?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http.encoders;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.format.MapFormat;
+import io.micronaut.core.naming.conventions.StringConvention;
+import io.micronaut.core.util.PathMatcher;
+import io.micronaut.http.MediaType;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Configures the caching headers of file responses.
+ *
+ * <p>The {@code Cache-Control} header is resolved from the most specific matching entry of {@link #getMappings()},
+ * then of {@link #getMediaTypes()}, then falls back to {@link #getCacheControl()}. The most specific entry is the
+ * one whose pattern has the most characters that are not wildcards, so the order of the entries does not matter.
+ * For example, fingerprinted assets can be cached forever with:</p>
+ *
+ * <pre>
+ * micronaut.servlet.file-cache.mappings./assets/**: public, max-age=31536000, immutable
+ * </pre>
+ *
+ * @since 4.12.0
+ */
+@ConfigurationProperties(FileCacheConfiguration.PREFIX)
+public class FileCacheConfiguration {
+
+    /**
+     * The prefix used for configuration.
+     */
+    public static final String PREFIX = "micronaut.servlet.file-cache";
+
+    /**
+     * The default cache control header.
+     */
+    public static final String DEFAULT_CACHE_CONTROL = "private, max-age=60";
+
+    private static final String MAX_AGE = "max-age=";
+    private static final String WILDCARD = "*";
+
+    private boolean etagEnabled = true;
+    private String cacheControl = DEFAULT_CACHE_CONTROL;
+    private Map<String, String> mappings = Collections.emptyMap();
+    private Map<String, String> mediaTypes = Collections.emptyMap();
+
+    /**
+     * @return Whether ETags derived from the length and last modified date are sent
+     */
+    public boolean isEtagEnabled() {
+        return etagEnabled;
+    }
+
+    /**
+     * Whether strong ETags derived from the length and last modified date are sent with every file response and
+     * checked against conditional requests (defaults to {@code true}).
+     *
+     * @param etagEnabled True if ETags should be sent
+     */
+    public void setEtagEnabled(boolean etagEnabled) {
+        this.etagEnabled = etagEnabled;
+    }
+
+    /**
+     * @return The default cache control header
+     */
+    @NonNull
+    public String getCacheControl() {
+        return cacheControl;
+    }
+
+    /**
+     * The cache control header used when no mapping or media type matches (defaults to {@value #DEFAULT_CACHE_CONTROL}).
+     *
+     * @param cacheControl The cache control header
+     */
+    public void setCacheControl(@NonNull String cacheControl) {
+        if (cacheControl != null) {
+            this.cacheControl = cacheControl;
+        }
+    }
+
+    /**
+     * @return The cache control headers keyed by request path pattern
+     */
+    @NonNull
+    public Map<String, String> getMappings() {
+        return Collections.unmodifiableMap(mappings);
+    }
+
+    /**
+     * Cache control headers keyed by Ant-style request path pattern, such as {@code /assets/**}. When several
+     * patterns match, the most specific one is used.
+     *
+     * @param mappings The cache control headers
+     */
+    public void setMappings(
+            @MapFormat(transformation = MapFormat.MapTransformation.FLAT,
+            keyFormat = StringConvention.RAW) Map<String, String> mappings) {
+        if (mappings != null) {
+            this.mappings = mappings;
+        }
+    }
+
+    /**
+     * @return The cache control headers keyed by media type
+     */
+    @NonNull
+    public Map<String, String> getMediaTypes() {
+        return Collections.unmodifiableMap(mediaTypes);
+    }
+
+    /**
+     * Cache control headers keyed by media type, such as {@code text/css} or {@code image/*}. When several
+     * media types match, the most specific one is used.
+     *
+     * @param mediaTypes The cache control headers
+     */
+    public void setMediaTypes(
+            @MapFormat(transformation = MapFormat.MapTransformation.FLAT,
+            keyFormat = StringConvention.RAW) Map<String, String> mediaTypes) {
+        if (mediaTypes != null) {
+            this.mediaTypes = mediaTypes;
+        }
+    }
+
+    /**
+     * Resolve the cache control header for a file response.
+     *
+     * @param path      The request path
+     * @param mediaType The media type of the file
+     * @return The cache control header
+     */
+    @NonNull
+    public String resolveCacheControl(@NonNull String path, @Nullable MediaType mediaType) {
+        Map.Entry<String, String> mostSpecific = null;
+        for (Map.Entry<String, String> entry : mappings.entrySet()) {
+            if (PathMatcher.ANT.matches(entry.getKey(), path) && isMoreSpecific(entry, mostSpecific)) {
+                mostSpecific = entry;
+            }
+        }
+        if (mostSpecific == null && mediaType != null) {
+            for (Map.Entry<String, String> entry : mediaTypes.entrySet()) {
+                if (matches(entry.getKey(), mediaType) && isMoreSpecific(entry, mostSpecific)) {
+                    mostSpecific = entry;
+                }
+            }
+        }
+        return mostSpecific != null ? mostSpecific.getValue() : cacheControl;
+    }
+
+    /**
+     * @param cacheControl The cache control header
+     * @return The max-age directive in seconds or -1 if there is none
+     */
+    static long maxAge(@NonNull String cacheControl) {
+        int i = cacheControl.indexOf(MAX_AGE);
+        if (i == -1) {
+            return -1;
+        }
+        int start = i + MAX_AGE.length();
+        int end = start;
+        while (end < cacheControl.length() && Character.isDigit(cacheControl.charAt(end))) {
+            end++;
+        }
+        if (end == start) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(cacheControl.substring(start, end));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static boolean isMoreSpecific(Map.Entry<String, String> entry, @Nullable Map.Entry<String, String> current) {
+        if (current == null) {
+            return true;
+        }
+        int literals = literals(entry.getKey());
+        int currentLiterals = literals(current.getKey());
+        // the pattern itself breaks ties, so that the result does not depend on the order of the map
+        return literals > currentLiterals || (literals == currentLiterals && entry.getKey().compareTo(current.getKey()) < 0);
+    }
+
+    private static int literals(String pattern) {
+        int count = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c != '*' && c != '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean matches(String pattern, MediaType mediaType) {
+        int slash = pattern.indexOf('/');
+        String type = slash == -1 ? pattern : pattern.substring(0, slash);
+        String subtype = slash == -1 ? WILDCARD : pattern.substring(slash + 1);
+        return (type.equals(WILDCARD) || type.equalsIgnoreCase(mediaType.getType()))
+            && (subtype.equals(WILDCARD) || subtype.equalsIgnoreCase(mediaType.getSubtype()));
+    }
+}
@@ -22,12 +22,15 @@ import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.server.types.files.SystemFile;
 import io.micronaut.servlet.http.ServletConfiguration;
 import io.micronaut.servlet.http.ServletExchange;
+import io.micronaut.servlet.http.ServletFileSender;
 import io.micronaut.servlet.http.ServletResponseEncoder;
 import jakarta.inject.Inject;
 import org.reactivestreams.Publisher;
 
 import jakarta.inject.Singleton;
 import java.io.File;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Handles {@link File}.
@@ -37,11 +40,25 @@ import java.io.File;
  */
 @Singleton
 public class FileEncoder implements ServletResponseEncoder<File> {
-    private final ServletConfiguration servletConfiguration;
+    private final SystemFileEncoder systemFileEncoder;
 
+    /**
+     * @param servletConfiguration The servlet configuration
+     * @param fileSenders          The container specific file senders
+     * @param cacheConfiguration   The cache configuration
+     * @param mappedFileCache      The cache of memory mapped files
+     * @since 4.12.0
+     */
     @Inject
+    public FileEncoder(@Nullable ServletConfiguration servletConfiguration,
+                       List<ServletFileSender> fileSenders,
+                       @Nullable FileCacheConfiguration cacheConfiguration,
+                       @Nullable MappedFileCache mappedFileCache) {
+        this.systemFileEncoder = new SystemFileEncoder(servletConfiguration, fileSenders, cacheConfiguration, mappedFileCache);
+    }
+
     public FileEncoder(@Nullable ServletConfiguration servletConfiguration) {
-        this.servletConfiguration = servletConfiguration != null ? servletConfiguration : ServletConfiguration.DEFAULT;
+        this(servletConfiguration, Collections.emptyList(), null, null);
     }
 
     public FileEncoder() {
@@ -55,6 +72,6 @@ public class FileEncoder implements ServletResponseEncoder<File> {
 
     @Override
     public Publisher<MutableHttpResponse<?>> encode(@NonNull ServletExchange<?, ?> exchange, AnnotationMetadata annotationMetadata, @NonNull File value) {
-        return new SystemFileEncoder(servletConfiguration).encode(exchange, annotationMetadata, new SystemFile(value));
+        return systemFileEncoder.encode(exchange, annotationMetadata, new SystemFile(value));
     }
 }
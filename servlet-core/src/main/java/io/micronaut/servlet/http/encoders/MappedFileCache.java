@@ -0,0 +1,248 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http.encoders;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded, least recently used cache of read-only memory mappings of files, so that concurrent
+ * downloads of the same file share one mapping instead of each reading the file.
+ *
+ * <p>Mappings are reference counted. A mapping that is evicted, because the file changed or the total
+ * mapped size exceeds {@link MappedFileCacheConfiguration#getMaxSize()}, is unmapped once the last
+ * response reading from it has released it. The size budget is the only eviction trigger, the cache does
+ * not react to memory pressure. Files are expected not to be truncated while they are served.</p>
+ *
+ * <p>Unmapping relies on {@code sun.misc.Unsafe.invokeCleaner} from the {@code jdk.unsupported} module. If it is
+ * not accessible or fails, explicit unmapping is turned off and mappings are unmapped by the garbage collector
+ * once they are no longer referenced, which can keep evicted files mapped for longer.</p>
+ *
+ * @since 4.12.0
+ */
+@Internal
+@Singleton
+@Requires(property = MappedFileCacheConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+public final class MappedFileCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MappedFileCache.class);
+    private static final MethodHandle INVOKE_CLEANER = findCleaner();
+    private static volatile boolean unmapEnabled = INVOKE_CLEANER != null;
+
+    private final MappedFileCacheConfiguration configuration;
+    private final Map<String, Mapping> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * @param configuration The cache configuration
+     */
+    public MappedFileCache(MappedFileCacheConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * @param length The length of a file
+     * @return Whether a file of the given length is mapped
+     */
+    public boolean accepts(long length) {
+        return length >= configuration.getMinFileSize() && length <= configuration.getMaxFileSize();
+    }
+
+    /**
+     * Acquire the mapping of a file, mapping it if it is not mapped yet or has changed since. The mapping
+     * must be {@link Mapping#release() released} once the response has been written.
+     *
+     * @param file The file
+     * @return The mapping or {@code null} if the size of the file is outside the mapped range
+     * @throws IOException If the file could not be mapped
+     */
+    @Nullable
+    public Mapping acquire(@NonNull File file) throws IOException {
+        long length = file.length();
+        if (!accepts(length)) {
+            return null;
+        }
+        String key = file.getAbsolutePath();
+        long lastModified = file.lastModified();
+        synchronized (this) {
+            Mapping cached = entries.get(key);
+            if (cached != null && cached.lastModified == lastModified && cached.length == length) {
+                cached.retain();
+                return cached;
+            }
+        }
+        Mapping mapping;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            mapping = new Mapping(channel.map(FileChannel.MapMode.READ_ONLY, 0, length), lastModified, length);
+        }
+        List<Mapping> evicted = new ArrayList<>();
+        synchronized (this) {
+            Mapping previous = entries.put(key, mapping);
+            if (previous != null) {
+                size -= previous.length;
+                evicted.add(previous);
+            }
+            size += mapping.length;
+            Iterator<Mapping> eldest = entries.values().iterator();
+            while (size > configuration.getMaxSize() && eldest.hasNext()) {
+                Mapping next = eldest.next();
+                if (next == mapping) {
+                    continue;
+                }
+                size -= next.length;
+                evicted.add(next);
+                eldest.remove();
+            }
+            mapping.retain();
+        }
+        for (Mapping m : evicted) {
+            m.release();
+        }
+        return mapping;
+    }
+
+    /**
+     * @return The total size of the cached mappings in bytes
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    /**
+     * Evict all mappings. Each is unmapped once no response is reading from it anymore.
+     */
+    @PreDestroy
+    public void clear() {
+        List<Mapping> evicted;
+        synchronized (this) {
+            evicted = new ArrayList<>(entries.values());
+            entries.clear();
+            size = 0;
+        }
+        for (Mapping mapping : evicted) {
+            mapping.release();
+        }
+    }
+
+    private static MethodHandle findCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(theUnsafe.get(null));
+        } catch (Throwable e) {
+            // mappings are released by the garbage collector instead
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Mapped files cannot be unmapped explicitly and are left to the garbage collector: {}", e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A shared, reference counted mapping of a file.
+     */
+    @Internal
+    public static final class Mapping {
+
+        private final ByteBuffer buffer;
+        private final long lastModified;
+        private final long length;
+        // one reference belongs to the cache until the mapping is evicted
+        private final AtomicInteger references = new AtomicInteger(1);
+        private volatile boolean abandoned;
+
+        private Mapping(ByteBuffer buffer, long lastModified, long length) {
+            this.buffer = buffer;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        /**
+         * A view of a region of the file. The view must not be used after the mapping has been released.
+         *
+         * @param position The position of the first byte
+         * @param length   The number of bytes
+         * @return The view
+         */
+        @NonNull
+        public ByteBuffer slice(long position, int length) {
+            return buffer.slice((int) position, length);
+        }
+
+        /**
+         * @return The length of the mapped file
+         */
+        public long length() {
+            return length;
+        }
+
+        private void retain() {
+            references.incrementAndGet();
+        }
+
+        /**
+         * Release a reference to the mapping, unmapping it if it has been evicted and this was the last one.
+         */
+        public void release() {
+            if (references.decrementAndGet() == 0 && !abandoned && unmapEnabled) {
+                try {
+                    INVOKE_CLEANER.invokeExact(buffer);
+                } catch (Throwable e) {
+                    // do not try again, the remaining mappings are left to the garbage collector
+                    unmapEnabled = false;
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Failed to unmap file, mappings are left to the garbage collector: {}", e.getMessage(), e);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Release a reference held by a reader that may still access the mapping, such as a cancelled send.
+         * The mapping is then never unmapped explicitly and is left to the garbage collector.
+         */
+        public void abandon() {
+            abandoned = true;
+            release();
+        }
+    }
+}
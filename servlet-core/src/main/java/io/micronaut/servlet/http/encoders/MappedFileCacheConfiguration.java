@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http.encoders;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.util.Toggleable;
+
+/**
+ * Configures the cache of memory mapped files used to serve medium-sized files that are too large to
+ * keep on the heap. Regions of the mappings are handed to the container, see
+ * {@link io.micronaut.servlet.http.ServletFileSender#sendBuffer}, which Jetty and Undertow support.
+ *
+ * @since 4.12.0
+ */
+@ConfigurationProperties(MappedFileCacheConfiguration.PREFIX)
+public class MappedFileCacheConfiguration implements Toggleable {
+
+    /**
+     * The prefix used for configuration.
+     */
+    public static final String PREFIX = "micronaut.servlet.mapped-file-cache";
+
+    /**
+     * The default minimum size of a mapped file in bytes.
+     */
+    public static final long DEFAULT_MIN_FILE_SIZE = 1024 * 1024;
+
+    /**
+     * The default maximum size of a mapped file in bytes.
+     */
+    public static final long DEFAULT_MAX_FILE_SIZE = 256L * 1024 * 1024;
+
+    /**
+     * The default maximum total size of all mappings in bytes.
+     */
+    public static final long DEFAULT_MAX_SIZE = 1024L * 1024 * 1024;
+
+    private boolean enabled;
+    private long minFileSize = DEFAULT_MIN_FILE_SIZE;
+    private long maxFileSize = DEFAULT_MAX_FILE_SIZE;
+    private long maxSize = DEFAULT_MAX_SIZE;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether medium-sized files are served from shared memory mappings (defaults to {@code false}).
+     *
+     * @param enabled True if they are
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The minimum size of a mapped file in bytes
+     */
+    public long getMinFileSize() {
+        return minFileSize;
+    }
+
+    /**
+     * The minimum size of a file to map in bytes (defaults to 1MB). Smaller files are cheaper to read.
+     *
+     * @param minFileSize The minimum file size
+     */
+    public void setMinFileSize(long minFileSize) {
+        this.minFileSize = minFileSize;
+    }
+
+    /**
+     * @return The maximum size of a mapped file in bytes
+     */
+    public long getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    /**
+     * The maximum size of a file to map in bytes (defaults to 256MB). It cannot exceed 2GB.
+     *
+     * @param maxFileSize The maximum file size
+     */
+    public void setMaxFileSize(long maxFileSize) {
+        this.maxFileSize = Math.min(maxFileSize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return The maximum total size of all mappings in bytes
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * The maximum total size of all mappings in bytes (defaults to 1GB). The least recently used
+     * mappings are unmapped first, once no response is reading from them anymore. This is a size cap only,
+     * mappings are not released in response to memory pressure.
+     *
+     * @param maxSize The maximum size
+     */
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+}
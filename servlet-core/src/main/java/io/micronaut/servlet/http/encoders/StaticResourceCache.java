@@ -0,0 +1,151 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http.encoders;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.server.types.files.FileCustomizableResponseType;
+import io.micronaut.http.server.types.files.StreamedFile;
+import jakarta.inject.Singleton;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A bounded, least recently used cache of static resources that are not plain files, such as resources
+ * inside jars, which would otherwise be inflated on every request.
+ *
+ * <p>Each hit still asks the resource URL for its last modified date, and an entry is reloaded when it changes.</p>
+ *
+ * @since 4.12.0
+ */
+@Internal
+@Singleton
+@Requires(property = StaticResourceCacheConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+public final class StaticResourceCache {
+
+    private final StaticResourceCacheConfiguration configuration;
+    private final Map<String, CachedStaticResource> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * @param configuration The cache configuration
+     */
+    public StaticResourceCache(StaticResourceCacheConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Resolve the response for a static resource, from the cache if possible.
+     *
+     * @param url The resource URL
+     * @return The cached resource or a {@link StreamedFile} if it is too large to cache
+     * @throws IOException If the resource could not be read
+     */
+    @NonNull
+    public FileCustomizableResponseType resolve(@NonNull URL url) throws IOException {
+        String key = url.toExternalForm();
+        URLConnection connection = url.openConnection();
+        long lastModified = connection.getLastModified();
+        CachedStaticResource cached = get(key);
+        if (cached != null && cached.getLastModified() == lastModified) {
+            return cached;
+        }
+        long length = connection.getContentLengthLong();
+        MediaType mediaType = MediaType.forFilename(url.getPath());
+        InputStream inputStream = connection.getInputStream();
+        if (length < 0 || length > configuration.getMaxEntrySize()) {
+            remove(key);
+            return new StreamedFile(inputStream, mediaType, lastModified, length);
+        }
+        byte[] content;
+        try (inputStream) {
+            content = inputStream.readAllBytes();
+        }
+        CachedStaticResource resource = new CachedStaticResource(content, gzip(content, mediaType), etag(content), mediaType, lastModified);
+        put(key, resource);
+        return resource;
+    }
+
+    private synchronized CachedStaticResource get(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized void put(String key, CachedStaticResource resource) {
+        remove(key);
+        if (resource.weight() > configuration.getMaxSize()) {
+            return;
+        }
+        entries.put(key, resource);
+        size += resource.weight();
+        Iterator<CachedStaticResource> eldest = entries.values().iterator();
+        while (size > configuration.getMaxSize() && eldest.hasNext()) {
+            size -= eldest.next().weight();
+            eldest.remove();
+        }
+    }
+
+    private synchronized void remove(String key) {
+        CachedStaticResource removed = entries.remove(key);
+        if (removed != null) {
+            size -= removed.weight();
+        }
+    }
+
+    @Nullable
+    private byte[] gzip(byte[] content, MediaType mediaType) throws IOException {
+        if (!configuration.isGzipEnabled() || content.length < configuration.getGzipMinSize() || !isCompressible(mediaType)) {
+            return null;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(content);
+        }
+        // not worth a second representation if it barely shrinks
+        return compressed.size() < content.length * 0.9 ? compressed.toByteArray() : null;
+    }
+
+    private static boolean isCompressible(MediaType mediaType) {
+        String subtype = mediaType.getSubtype();
+        return mediaType.getType().equals("text")
+            || subtype.contains("json")
+            || subtype.contains("xml")
+            || subtype.contains("javascript");
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.http.encoders;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.util.Toggleable;
+
+/**
+ * Configures the in-memory cache of static resources that are not plain files, such as resources inside jars.
+ *
+ * @since 4.12.0
+ */
+@ConfigurationProperties(StaticResourceCacheConfiguration.PREFIX)
+public class StaticResourceCacheConfiguration implements Toggleable {
+
+    /**
+     * The prefix used for configuration.
+     */
+    public static final String PREFIX = "micronaut.servlet.static-resource-cache";
+
+    /**
+     * The default maximum total size of the cache in bytes.
+     */
+    public static final long DEFAULT_MAX_SIZE = 32L * 1024 * 1024;
+
+    /**
+     * The default maximum size of a single cached resource in bytes.
+     */
+    public static final long DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
+
+    /**
+     * The default minimum size of a resource for a gzip variant to be kept.
+     */
+    public static final int DEFAULT_GZIP_MIN_SIZE = 1024;
+
+    private boolean enabled;
+    private long maxSize = DEFAULT_MAX_SIZE;
+    private long maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
+    private boolean gzipEnabled;
+    private int gzipMinSize = DEFAULT_GZIP_MIN_SIZE;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether static resources are cached in memory (defaults to {@code false}).
+     *
+     * @param enabled True if they are
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The maximum total size of the cache in bytes
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * The maximum total size of the cached content in bytes, including gzip variants (defaults to 32MB).
+     * The least recently used resources are evicted first.
+     *
+     * @param maxSize The maximum size
+     */
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return The maximum size of a single cached resource in bytes
+     */
+    public long getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    /**
+     * The maximum size of a single resource to cache in bytes (defaults to 1MB). Larger resources are streamed.
+     *
+     * @param maxEntrySize The maximum entry size
+     */
+    public void setMaxEntrySize(long maxEntrySize) {
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    /**
+     * @return Whether gzip variants of compressible resources are cached
+     */
+    public boolean isGzipEnabled() {
+        return gzipEnabled;
+    }
+
+    /**
+     * Whether a gzip variant of compressible resources is cached and sent to clients that accept it (defaults to {@code false}).
+     * The gzip variant has an ETag of its own and responses vary on {@code Accept-Encoding}.
+     *
+     * @param gzipEnabled True if it is
+     */
+    public void setGzipEnabled(boolean gzipEnabled) {
+        this.gzipEnabled = gzipEnabled;
+    }
+
+    /**
+     * @return The minimum size of a resource for a gzip variant to be kept
+     */
+    public int getGzipMinSize() {
+        return gzipMinSize;
+    }
+
+    /**
+     * The minimum size in bytes of a resource for a gzip variant to be kept (defaults to {@value #DEFAULT_GZIP_MIN_SIZE}).
+     *
+     * @param gzipMinSize The minimum size
+     */
+    public void setGzipMinSize(int gzipMinSize) {
+        this.gzipMinSize = gzipMinSize;
+    }
+}
@@ -29,13 +29,6 @@ import io.micronaut.servlet.http.ServletHttpResponse;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.reactivestreams.Publisher;
-import reactor.core.publisher.Flux;
-import reactor.core.publisher.FluxSink;
-import reactor.core.publisher.Mono;
-
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.util.Arrays;
 
 /**
  * A {@link io.micronaut.servlet.http.ServletResponseEncoder} for {@link StreamedFile}.
@@ -45,14 +38,23 @@ import java.util.Arrays;
  */
 @Singleton
 public class StreamFileEncoder extends AbstractFileEncoder<StreamedFile> {
-    private static final int BUFFER_SIZE = 1024;
     private final ServletConfiguration servletConfiguration;
 
+    /**
+     * @param servletConfiguration The servlet configuration
+     * @param cacheConfiguration   The cache configuration
+     * @since 4.12.0
+     */
     @Inject
-    public StreamFileEncoder(@Nullable ServletConfiguration servletConfiguration) {
+    public StreamFileEncoder(@Nullable ServletConfiguration servletConfiguration, @Nullable FileCacheConfiguration cacheConfiguration) {
+        super(cacheConfiguration);
         this.servletConfiguration = servletConfiguration != null ? servletConfiguration : ServletConfiguration.DEFAULT;
     }
 
+    public StreamFileEncoder(@Nullable ServletConfiguration servletConfiguration) {
+        this(servletConfiguration, null);
+    }
+
     public StreamFileEncoder() {
         this(ServletConfiguration.DEFAULT);
     }
@@ -78,38 +80,17 @@ public class StreamFileEncoder extends AbstractFileEncoder<StreamedFile> {
         }
 
         boolean asyncSupported = request.isAsyncSupported() && servletConfiguration.isAsyncFileServingEnabled();
-        if (asyncSupported) {
-            return response.stream(Flux.create(emitter -> {
-                try (InputStream in = value.getInputStream()) {
-                    byte[] buffer = new byte[BUFFER_SIZE];
-                    int len;
-                    while ((len = in.read(buffer)) != -1) {
-                        if (buffer.length == len) {
-                            emitter.next(buffer);
-                            buffer = new byte[BUFFER_SIZE];
-                        } else {
-                            emitter.next(Arrays.copyOf(buffer, len));
-                        }
-                    }
-                    emitter.complete();
-                } catch (Throwable e) {
-                    emitter.error(e);
-                }
-            }, FluxSink.OverflowStrategy.BUFFER));
-        } else {
-            return Mono.fromCallable(() -> {
-                try (InputStream in = value.getInputStream()) {
-                    try (OutputStream out = response.getOutputStream()) {
-                        byte[] buffer = new byte[BUFFER_SIZE];
-                        int len;
-                        while ((len = in.read(buffer)) != -1) {
-                            out.write(buffer, 0, len);
-                        }
-                    }
-                }
-                return response;
-            });
+        ByteRanges ranges = resolveRanges(value, request, response);
+        if (ranges == null) {
+            return writeStream(exchange, value::getInputStream, asyncSupported);
+        }
+        if (!ranges.isSatisfiable()) {
+            closeQuietly(value.getInputStream());
+            ByteRanges.notSatisfiable(response, value.getLength());
+            return Publishers.just(response);
         }
+        ranges.applyTo(response);
+        return writeStream(exchange, () -> ranges.open(value.getInputStream()), asyncSupported);
     }
 
 }
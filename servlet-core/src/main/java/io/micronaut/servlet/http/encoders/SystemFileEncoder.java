@@ -24,35 +24,66 @@ import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.server.types.files.SystemFile;
 import io.micronaut.servlet.http.ServletConfiguration;
 import io.micronaut.servlet.http.ServletExchange;
+import io.micronaut.servlet.http.ServletFileSender;
 import io.micronaut.servlet.http.ServletHttpRequest;
 import io.micronaut.servlet.http.ServletHttpResponse;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
+import java.io.File;
 import java.io.FileInputStream;
-import java.io.InputStream;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * A {@link io.micronaut.servlet.http.ServletResponseEncoder} for {@link SystemFile}.
  *
+ * <p>The file is handed to the first {@link ServletFileSender} that supports the exchange so the container
+ * can send it without copying it through the heap. When the {@link MappedFileCache} is enabled, medium-sized
+ * files are instead handed to the container as a region of a memory mapping that is shared with concurrent
+ * downloads of the same file. Otherwise the file is transferred from a {@link FileChannel}.</p>
+ *
  * @author graemerocher
  * @since 1.0.0
  */
 @Singleton
 public class SystemFileEncoder extends AbstractFileEncoder<SystemFile> {
-    private static final int BUFFER_SIZE = 1024;
-
     private final ServletConfiguration servletConfiguration;
+    private final List<ServletFileSender> fileSenders;
+    private final MappedFileCache mappedFileCache;
 
+    /**
+     * @param servletConfiguration The servlet configuration
+     * @param fileSenders          The container specific file senders
+     * @param cacheConfiguration   The cache configuration
+     * @param mappedFileCache      The cache of memory mapped files
+     * @since 4.12.0
+     */
     @Inject
-    public SystemFileEncoder(@Nullable ServletConfiguration servletConfiguration) {
+    public SystemFileEncoder(@Nullable ServletConfiguration servletConfiguration,
+                             List<ServletFileSender> fileSenders,
+                             @Nullable FileCacheConfiguration cacheConfiguration,
+                             @Nullable MappedFileCache mappedFileCache) {
+        super(cacheConfiguration);
         this.servletConfiguration = servletConfiguration != null ? servletConfiguration : ServletConfiguration.DEFAULT;
+        this.fileSenders = fileSenders;
+        this.mappedFileCache = mappedFileCache;
+    }
+
+    public SystemFileEncoder(@Nullable ServletConfiguration servletConfiguration) {
+        this(servletConfiguration, Collections.emptyList(), null, null);
     }
 
     public SystemFileEncoder() {
@@ -85,38 +116,161 @@ public class SystemFileEncoder extends AbstractFileEncoder<SystemFile> {
             );
         }
 
-        boolean asyncSupported = request.isAsyncSupported() && servletConfiguration.isAsyncFileServingEnabled();
-        if (asyncSupported) {
-            return response.stream(Flux.create(emitter -> {
-                try (InputStream in = new FileInputStream(value.getFile())) {
-                    byte[] buffer = new byte[BUFFER_SIZE];
-                    int len;
-                    while ((len = in.read(buffer)) != -1) {
-                        if (buffer.length == len) {
-                            emitter.next(buffer);
-                            buffer = new byte[BUFFER_SIZE];
-                        } else {
-                            emitter.next(Arrays.copyOf(buffer, len));
-                        }
-                    }
-                    emitter.complete();
-                } catch (Throwable e) {
-                    emitter.error(e);
+        File file = value.getFile();
+        long length = value.getLength();
+        ByteRanges ranges = resolveRanges(value, request, response);
+        if (ranges == null) {
+            return sendFile(exchange, file, 0, length);
+        }
+        if (!ranges.isSatisfiable()) {
+            ByteRanges.notSatisfiable(response, length);
+            return Publishers.just(response);
+        }
+        ranges.applyTo(response);
+        if (!ranges.isMultipart()) {
+            ByteRanges.ByteRange range = ranges.first();
+            return sendFile(exchange, file, range.start(), range.length());
+        }
+        return writeStream(exchange, () -> ranges.open(new FileInputStream(file)), isAsync(request));
+    }
+
+    /**
+     * Send a region of a file as the response body.
+     *
+     * @param exchange The exchange
+     * @param file     The file
+     * @param position The position of the first byte to send
+     * @param count    The number of bytes to send
+     * @return Emits the response once the file has been sent
+     */
+    Publisher<MutableHttpResponse<?>> sendFile(ServletExchange<?, ?> exchange, File file, long position, long count) {
+        if (mappedFileCache != null && mappedFileCache.accepts(file.length())) {
+            try {
+                Publisher<MutableHttpResponse<?>> sent = sendMapped(exchange, file, position, count);
+                if (sent != null) {
+                    return sent;
                 }
-            }, FluxSink.OverflowStrategy.BUFFER));
+            } catch (IOException e) {
+                return Mono.error(e);
+            }
+        }
+        for (ServletFileSender fileSender : fileSenders) {
+            try {
+                Publisher<MutableHttpResponse<?>> sent = fileSender.sendFile(exchange, file, position, count);
+                if (sent != null) {
+                    return sent;
+                }
+            } catch (IOException e) {
+                return Mono.error(e);
+            }
+        }
+
+        ServletHttpResponse<?, ?> response = exchange.getResponse();
+        if (isAsync(exchange.getRequest())) {
+            // the response writes each chunk before it requests the next one, so every chunk reuses one buffer
+            return response.stream(Flux.defer(() -> {
+                ByteBuffer buffer = ByteBuffer.allocate((int) Math.max(1, Math.min(BUFFER_SIZE, count)));
+                return Flux.<byte[], FileChannel>generate(
+                    () -> FileChannel.open(file.toPath(), StandardOpenOption.READ).position(position),
+                    (channel, sink) -> {
+                        try {
+                            buffer.clear();
+                            long remaining = position + count - channel.position();
+                            if (remaining < buffer.capacity()) {
+                                buffer.limit((int) Math.max(0, remaining));
+                            }
+                            // fill the buffer so that only the last chunk is short
+                            int read = 0;
+                            while (buffer.hasRemaining() && read != -1) {
+                                read = channel.read(buffer);
+                            }
+                            if (buffer.position() == 0) {
+                                sink.complete();
+                            } else {
+                                sink.next(buffer.position() == buffer.capacity() ? buffer.array() : Arrays.copyOf(buffer.array(), buffer.position()));
+                            }
+                        } catch (IOException e) {
+                            sink.error(e);
+                        }
+                        return channel;
+                    },
+                    AbstractFileEncoder::closeQuietly
+                );
+            }));
         } else {
+            // the slow path: without a container sender, transferTo copies through the heap buffers of the stream channel
             return Mono.fromCallable(() -> {
-                try (InputStream in = new FileInputStream(value.getFile())) {
-                    try (OutputStream out = response.getOutputStream()) {
-                        byte[] buffer = new byte[BUFFER_SIZE];
-                        int len;
-                        while ((len = in.read(buffer)) != -1) {
-                            out.write(buffer, 0, len);
-                        }
-                    }
+                try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+                     OutputStream out = response.getOutputStream()) {
+                    transfer(channel, position, count, Channels.newChannel(out));
                 }
                 return response;
             });
         }
     }
+
+    /**
+     * Hand a region of the shared mapping of a file to the first sender that can send buffers.
+     *
+     * @param exchange The exchange
+     * @param file     The file
+     * @param position The position of the first byte to send
+     * @param count    The number of bytes to send
+     * @return Emits the response once the region has been sent, or {@code null} if the file is not mapped
+     * or no sender can send buffers
+     * @throws IOException If the file could not be mapped
+     */
+    @Nullable
+    private Publisher<MutableHttpResponse<?>> sendMapped(ServletExchange<?, ?> exchange, File file, long position, long count) throws IOException {
+        ServletFileSender bufferSender = null;
+        for (ServletFileSender fileSender : fileSenders) {
+            if (fileSender.canSendBuffer(exchange)) {
+                bufferSender = fileSender;
+                break;
+            }
+        }
+        if (bufferSender == null) {
+            return null;
+        }
+        MappedFileCache.Mapping mapping = mappedFileCache.acquire(file);
+        if (mapping == null) {
+            return null;
+        }
+        long end = Math.min(position + count, mapping.length());
+        ByteBuffer region = mapping.slice(position, (int) Math.max(0, end - position));
+        Publisher<MutableHttpResponse<?>> sent;
+        try {
+            sent = bufferSender.sendBuffer(exchange, region);
+        } catch (IOException | RuntimeException e) {
+            mapping.release();
+            throw e;
+        }
+        if (sent == null) {
+            mapping.release();
+            return null;
+        }
+        return Mono.from(sent).doFinally(signal -> {
+            if (signal == SignalType.CANCEL) {
+                // a cancelled send may still be writing, so the mapping must not be unmapped explicitly
+                mapping.abandon();
+            } else {
+                mapping.release();
+            }
+        });
+    }
+
+    private static void transfer(FileChannel channel, long position, long count, WritableByteChannel target) throws IOException {
+        long end = Math.min(position + count, channel.size());
+        while (position < end) {
+            long transferred = channel.transferTo(position, end - position, target);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+        }
+    }
+
+    private boolean isAsync(ServletHttpRequest<?, ?> request) {
+        return request.isAsyncSupported() && servletConfiguration.isAsyncFileServingEnabled();
+    }
 }
@@ -0,0 +1,151 @@
+package io.micronaut.servlet.http
+
+import io.micronaut.context.exceptions.ConfigurationException
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import spock.lang.Specification
+import spock.lang.TempDir
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Duration
+
+class AccessLoggerSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void 'test records are written with the configured pattern'() {
+        given:
+        Path file = tempDir.resolve('access.log')
+        AccessLogger logger = new AccessLogger(configuration(
+                file: file.toString(),
+                pattern: '%m %U%q %H %s %b "%{User-Agent}i" %{X-Out}o %%',
+                flushInterval: Duration.ofMillis(10)
+        ))
+
+        when:
+        logger.log(
+                HttpRequest.GET('/books?page=2').header('User-Agent', 'spec'),
+                HttpResponse.status(HttpStatus.CREATED).header('Content-Length', '42').header('X-Out', 'yes'),
+                System.currentTimeMillis()
+        )
+        logger.log(HttpRequest.DELETE('/books/1'), null, System.currentTimeMillis())
+        logger.close()
+
+        then:
+        Files.readAllLines(file) == [
+                'GET /books?page=2 HTTP/1.1 201 42 "spec" yes %',
+                'DELETE /books/1 HTTP/1.1 - - "-" - %'
+        ]
+    }
+
+    void 'test records are written in the background'() {
+        given:
+        Path file = tempDir.resolve('background.log')
+        AccessLogger logger = new AccessLogger(configuration(file: file.toString(), pattern: '%U', flushInterval: Duration.ofMillis(10)))
+
+        when:
+        100.times { logger.log(HttpRequest.GET("/$it"), HttpResponse.ok(), System.currentTimeMillis()) }
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert Files.readAllLines(file).size() == 100
+        }
+        logger.droppedCount == 0
+
+        cleanup:
+        logger.close()
+    }
+
+    void 'test records are dropped and counted when the logger is closed'() {
+        given:
+        Path file = tempDir.resolve('closed.log')
+        AccessLogger logger = new AccessLogger(configuration(file: file.toString(), pattern: '%U'))
+        logger.close()
+
+        when:
+        logger.log(HttpRequest.GET('/late'), HttpResponse.ok(), System.currentTimeMillis())
+
+        then:
+        logger.droppedCount == 1
+        Files.readAllLines(file).isEmpty()
+    }
+
+    void 'test a record that cannot be read does not block the records after it'() {
+        given:
+        Path file = tempDir.resolve('failed.log')
+        AccessLogger logger = new AccessLogger(configuration(file: file.toString(), pattern: '%U', flushInterval: Duration.ofMillis(10)))
+        HttpRequest<?> broken = Stub(HttpRequest) {
+            getMethodName() >> 'GET'
+            getUri() >> { throw new IllegalStateException('no uri') }
+        }
+
+        when:
+        logger.log(broken, HttpResponse.ok(), System.currentTimeMillis())
+
+        then:
+        thrown(IllegalStateException)
+
+        when:
+        logger.log(HttpRequest.GET('/after'), HttpResponse.ok(), System.currentTimeMillis())
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert Files.readAllLines(file) == ['/after']
+        }
+
+        cleanup:
+        logger.close()
+    }
+
+    void 'test the file is rotated by size'() {
+        given:
+        Path file = tempDir.resolve('rotated.log')
+        AccessLogger logger = new AccessLogger(configuration(
+                file: file.toString(),
+                pattern: '%U',
+                maxFileSize: 10,
+                flushInterval: Duration.ofMillis(1)
+        ))
+
+        when:
+        5.times {
+            logger.log(HttpRequest.GET('/0123456789'), HttpResponse.ok(), System.currentTimeMillis())
+            Thread.sleep(50)
+        }
+        logger.close()
+
+        then:
+        List<Path> files = Files.list(tempDir).filter { it.fileName.toString().startsWith('rotated.log') }.toList()
+        files.size() > 1
+        files.sum { Files.readAllLines(it).size() } == 5
+    }
+
+    void 'test invalid patterns are rejected'() {
+        when:
+        new AccessLogger(configuration(file: tempDir.resolve('invalid.log').toString(), pattern: pattern))
+
+        then:
+        thrown(ConfigurationException)
+
+        where:
+        pattern << ['%x', '%{User-Agent', '%i']
+    }
+
+    void 'test predefined patterns'() {
+        expect:
+        new AccessLogPattern('common').requestHeaders.length == 0
+        new AccessLogPattern('combined').requestHeaders as List == ['Referer', 'User-Agent']
+        new AccessLogPattern('combined').remoteAddress
+    }
+
+    private static AccessLogConfiguration configuration(Map<String, Object> properties) {
+        AccessLogConfiguration configuration = new AccessLogConfiguration()
+        configuration.enabled = true
+        properties.each { key, value -> configuration[key] = value }
+        configuration
+    }
+}
@@ -0,0 +1,85 @@
+package io.micronaut.servlet.http
+
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class ConcurrencyLimiterSpec extends Specification {
+
+    void 'test requests above the limit are rejected'() {
+        given:
+        def limiter = new ConcurrencyLimiter(configuration(initialLimit: 2, minLimit: 1))
+
+        expect:
+        limiter.tryAcquire()
+        limiter.tryAcquire()
+        !limiter.tryAcquire()
+        limiter.inFlight == 2
+        limiter.rejectedCount == 1
+
+        when:
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5), false)
+
+        then:
+        limiter.inFlight == 1
+        limiter.tryAcquire()
+    }
+
+    void 'test the limit grows while it is in use and latency is stable'() {
+        given:
+        def limiter = new ConcurrencyLimiter(configuration(initialLimit: 4, minLimit: 1, maxLimit: 10))
+
+        when:
+        100.times {
+            4.times { limiter.tryAcquire() }
+            4.times { limiter.release(TimeUnit.MILLISECONDS.toNanos(5), false) }
+        }
+
+        then:
+        limiter.limit > 4
+        limiter.limit <= 10
+    }
+
+    void 'test the limit shrinks when latency rises or requests fail'() {
+        given:
+        def limiter = new ConcurrencyLimiter(configuration(initialLimit: 100, minLimit: 10))
+        limiter.tryAcquire()
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5), false)
+
+        when:
+        10.times {
+            sleep(60)
+            limiter.tryAcquire()
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(50), false)
+        }
+
+        then:
+        limiter.limit < 100
+        limiter.limit >= 10
+
+        when:
+        int before = limiter.limit
+        sleep(100)
+        limiter.tryAcquire()
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5), true)
+
+        then:
+        limiter.limit < before
+    }
+
+    void 'test exempt paths'() {
+        given:
+        def limiter = new ConcurrencyLimiter(configuration([:]))
+
+        expect:
+        limiter.isExempt('/health')
+        limiter.isExempt('/health/liveness')
+        !limiter.isExempt('/api/health')
+    }
+
+    private static ConcurrencyLimitConfiguration configuration(Map<String, Object> properties) {
+        def configuration = new ConcurrencyLimitConfiguration()
+        properties.each { k, v -> configuration[k] = v }
+        configuration
+    }
+}
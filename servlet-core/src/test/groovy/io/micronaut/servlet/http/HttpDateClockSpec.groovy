@@ -0,0 +1,35 @@
+package io.micronaut.servlet.http
+
+import spock.lang.Specification
+
+import java.time.ZonedDateTime
+import java.time.format.DateTimeFormatter
+
+class HttpDateClockSpec extends Specification {
+
+    void 'test formatting dates'() {
+        expect:
+        HttpDateClock.format(784111777000L) == 'Sun, 06 Nov 1994 08:49:37 GMT'
+        HttpDateClock.format(784111777999L) == 'Sun, 06 Nov 1994 08:49:37 GMT'
+        HttpDateClock.format(784111777000L).is(HttpDateClock.format(784111777500L))
+    }
+
+    void 'test the current date is rendered once per second'() {
+        when:
+        def before = System.currentTimeMillis().intdiv(1000)
+        def now = HttpDateClock.now()
+        def after = System.currentTimeMillis().intdiv(1000)
+        def parsed = ZonedDateTime.parse(now, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond()
+
+        then:
+        parsed >= before
+        parsed <= after
+
+        when:
+        def expires = ZonedDateTime.parse(HttpDateClock.fromNow(60), DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond()
+
+        then:
+        expires >= parsed + 60
+        expires <= after + 61
+    }
+}
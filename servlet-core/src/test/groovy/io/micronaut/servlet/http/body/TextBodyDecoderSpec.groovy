@@ -0,0 +1,38 @@
+package io.micronaut.servlet.http.body
+
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class TextBodyDecoderSpec extends Specification {
+
+    void 'test reading text with content length #contentLength'() {
+        given:
+        def input = new ByteArrayInputStream(text.getBytes(charset))
+
+        expect:
+        TextBodyDecoder.readText(input, contentLength, charset) == expected
+
+        where:
+        text           | contentLength | charset                    | expected
+        'hello world'  | 11            | StandardCharsets.UTF_8     | 'hello world'
+        'hello world'  | -1            | StandardCharsets.UTF_8     | 'hello world'
+        'hello world'  | 5             | StandardCharsets.UTF_8     | 'hello'
+        'hello world'  | 20            | StandardCharsets.UTF_8     | 'hello world'
+        'hello world'  | 0             | StandardCharsets.UTF_8     | ''
+        'grüße €'      | -1            | StandardCharsets.UTF_8     | 'grüße €'
+        'grüße'        | 5             | StandardCharsets.ISO_8859_1 | 'grüße'
+        'plain ascii'  | 11            | StandardCharsets.US_ASCII  | 'plain ascii'
+        'grüße'        | -1            | StandardCharsets.UTF_16    | 'grüße'
+        'tiny'         | Integer.MAX_VALUE - 8 | StandardCharsets.UTF_8 | 'tiny'
+    }
+
+    void 'test reading text larger than the initial buffer'() {
+        given:
+        def text = 'abcdefghij' * 20_000 + 'ü'
+        def bytes = text.getBytes(StandardCharsets.UTF_8)
+
+        expect:
+        TextBodyDecoder.readText(new ByteArrayInputStream(bytes), bytes.length, StandardCharsets.UTF_8) == text
+    }
+}
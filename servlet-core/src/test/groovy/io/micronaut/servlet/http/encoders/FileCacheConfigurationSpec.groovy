@@ -0,0 +1,58 @@
+package io.micronaut.servlet.http.encoders
+
+import io.micronaut.http.MediaType
+import spock.lang.Specification
+
+class FileCacheConfigurationSpec extends Specification {
+
+    void 'test resolving the cache control for #path and #mediaType'() {
+        given:
+        def configuration = new FileCacheConfiguration()
+        configuration.mappings = ['/assets/**': 'public, max-age=31536000, immutable']
+        configuration.mediaTypes = ['text/html': 'no-cache', 'image/*': 'public, max-age=3600']
+
+        expect:
+        configuration.resolveCacheControl(path, mediaType) == expected
+
+        where:
+        path              | mediaType                         | expected
+        '/assets/app.js'  | new MediaType('text/javascript') | 'public, max-age=31536000, immutable'
+        '/assets/a.html'  | MediaType.TEXT_HTML_TYPE          | 'public, max-age=31536000, immutable'
+        '/index.html'     | MediaType.TEXT_HTML_TYPE          | 'no-cache'
+        '/logo.png'       | MediaType.IMAGE_PNG_TYPE          | 'public, max-age=3600'
+        '/data.json'      | MediaType.APPLICATION_JSON_TYPE   | FileCacheConfiguration.DEFAULT_CACHE_CONTROL
+        '/unknown'        | null                              | FileCacheConfiguration.DEFAULT_CACHE_CONTROL
+    }
+
+    void 'test the most specific pattern wins regardless of the order of the entries'() {
+        given:
+        def configuration = new FileCacheConfiguration()
+        configuration.mappings = mappings
+        configuration.mediaTypes = ['*/*': 'no-store', 'image/*': 'public, max-age=3600', 'image/png': 'public, max-age=60']
+
+        expect:
+        configuration.resolveCacheControl('/assets/vendor/lib.js', null) == 'no-cache'
+        configuration.resolveCacheControl('/assets/app.js', null) == 'public, max-age=31536000, immutable'
+        configuration.resolveCacheControl('/logo.png', MediaType.IMAGE_PNG_TYPE) == 'public, max-age=60'
+        configuration.resolveCacheControl('/logo.gif', MediaType.IMAGE_GIF_TYPE) == 'public, max-age=3600'
+
+        where:
+        mappings << [
+                ['/assets/**': 'public, max-age=31536000, immutable', '/assets/vendor/**': 'no-cache'],
+                ['/assets/vendor/**': 'no-cache', '/assets/**': 'public, max-age=31536000, immutable']
+        ]
+    }
+
+    void 'test parsing max-age from #cacheControl'() {
+        expect:
+        FileCacheConfiguration.maxAge(cacheControl) == expected
+
+        where:
+        cacheControl                           | expected
+        'private, max-age=60'                  | 60
+        'public, max-age=31536000, immutable'  | 31536000
+        'no-cache'                             | -1
+        'public, s-maxage=100'                 | -1
+        'max-age='                             | -1
+    }
+}
@@ -0,0 +1,110 @@
+package io.micronaut.servlet.http.encoders
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.charset.StandardCharsets
+import java.nio.file.Path
+
+class MappedFileCacheSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void 'test concurrent readers share a mapping'() {
+        given:
+        def file = createFile('a.bin', 'a', 2048)
+        def cache = new MappedFileCache(configuration(1024, 4096, 16384))
+
+        when:
+        def first = cache.acquire(file)
+        def second = cache.acquire(file)
+
+        then:
+        second.is(first)
+        first.length() == 2048
+        text(first.slice(100, 10)) == 'a' * 10
+        cache.size() == 2048
+
+        cleanup:
+        first?.release()
+        second?.release()
+    }
+
+    void 'test files outside the size range are not mapped'() {
+        given:
+        def cache = new MappedFileCache(configuration(1024, 4096, 16384))
+
+        expect:
+        cache.acquire(createFile('small.bin', 's', 100)) == null
+        cache.acquire(createFile('large.bin', 'l', 8192)) == null
+        cache.size() == 0
+    }
+
+    void 'test a file is mapped again when it changes'() {
+        given:
+        def file = createFile('b.bin', 'b', 2048)
+        def cache = new MappedFileCache(configuration(1024, 4096, 16384))
+        def first = cache.acquire(file)
+        first.release()
+
+        when:
+        file.text = 'c' * 3000
+        file.lastModified = file.lastModified() + 2000
+        def second = cache.acquire(file)
+
+        then:
+        !second.is(first)
+        second.length() == 3000
+        text(second.slice(0, 5)) == 'ccccc'
+        cache.size() == 3000
+
+        cleanup:
+        second?.release()
+    }
+
+    void 'test least recently used mappings are evicted'() {
+        given:
+        def cache = new MappedFileCache(configuration(1024, 4096, 5000))
+        def one = createFile('one.bin', '1', 2048)
+        def two = createFile('two.bin', '2', 2048)
+        def three = createFile('three.bin', '3', 2048)
+
+        when:
+        def first = cache.acquire(one)
+        cache.acquire(two).release()
+        cache.acquire(three).release()
+
+        then: 'an evicted mapping stays readable while it is in use'
+        cache.size() == 4096
+        text(first.slice(0, 3)) == '111'
+
+        when:
+        first.release()
+        def again = cache.acquire(one)
+
+        then:
+        !again.is(first)
+
+        cleanup:
+        again?.release()
+    }
+
+    private File createFile(String name, String c, int length) {
+        def file = tempDir.resolve(name).toFile()
+        file.text = c * length
+        file
+    }
+
+    private static String text(java.nio.ByteBuffer buffer) {
+        StandardCharsets.US_ASCII.decode(buffer).toString()
+    }
+
+    private static MappedFileCacheConfiguration configuration(long min, long max, long total) {
+        def configuration = new MappedFileCacheConfiguration()
+        configuration.minFileSize = min
+        configuration.maxFileSize = max
+        configuration.maxSize = total
+        configuration
+    }
+}
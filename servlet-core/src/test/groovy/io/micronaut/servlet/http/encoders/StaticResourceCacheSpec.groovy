@@ -0,0 +1,147 @@
+package io.micronaut.servlet.http.encoders
+
+import io.micronaut.http.MediaType
+import io.micronaut.http.server.types.files.StreamedFile
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Path
+import java.util.jar.JarEntry
+import java.util.jar.JarOutputStream
+import java.util.zip.GZIPInputStream
+
+class StaticResourceCacheSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void 'test jar resources are cached'() {
+        given:
+        def script = 'console.log("hello");\n' * 200
+        def jar = createJar('app.js': script)
+        def configuration = new StaticResourceCacheConfiguration()
+        configuration.gzipEnabled = true
+        def cache = new StaticResourceCache(configuration)
+
+        when:
+        def first = cache.resolve(entry(jar, 'app.js'))
+        def second = cache.resolve(entry(jar, 'app.js'))
+
+        then:
+        first instanceof CachedStaticResource
+        second.is(first)
+        first.mediaType.subtype.contains('javascript')
+        new String(first.content) == script
+        first.etag.startsWith('"')
+        new GZIPInputStream(new ByteArrayInputStream(first.gzipContent)).text == script
+    }
+
+    void 'test resources are reloaded when they change'() {
+        given:
+        def resource = new MutableResource(content: 'first', lastModified: 1000)
+        def url = new URL(null, 'mem:/index.html', resource)
+        def cache = new StaticResourceCache(new StaticResourceCacheConfiguration())
+
+        when:
+        def first = cache.resolve(url)
+
+        then:
+        new String(first.content) == 'first'
+        cache.resolve(url).is(first)
+
+        when:
+        resource.content = 'second'
+        resource.lastModified = 2000
+        def second = cache.resolve(url)
+
+        then:
+        !second.is(first)
+        new String(second.content) == 'second'
+        second.lastModified == 2000
+        second.etag != first.etag
+    }
+
+    void 'test large resources are streamed'() {
+        given:
+        def configuration = new StaticResourceCacheConfiguration()
+        configuration.maxEntrySize = 10
+        def jar = createJar('big.txt': 'x' * 100)
+        def cache = new StaticResourceCache(configuration)
+
+        when:
+        def resolved = cache.resolve(entry(jar, 'big.txt'))
+
+        then:
+        resolved instanceof StreamedFile
+        resolved.length == 100
+        resolved.inputStream.text == 'x' * 100
+    }
+
+    void 'test the least recently used resources are evicted'() {
+        given:
+        def configuration = new StaticResourceCacheConfiguration()
+        configuration.maxSize = 25
+        configuration.gzipEnabled = false
+        def jar = createJar('a.txt': 'a' * 10, 'b.txt': 'b' * 10, 'c.txt': 'c' * 10)
+        def cache = new StaticResourceCache(configuration)
+
+        when:
+        def a = cache.resolve(entry(jar, 'a.txt'))
+        def b = cache.resolve(entry(jar, 'b.txt'))
+        cache.resolve(entry(jar, 'a.txt'))
+        cache.resolve(entry(jar, 'c.txt'))
+
+        then:
+        cache.resolve(entry(jar, 'a.txt')).is(a)
+        !cache.resolve(entry(jar, 'b.txt')).is(b)
+    }
+
+    private File createJar(Map<String, String> entries) {
+        def file = tempDir.resolve("resources-${System.nanoTime()}.jar").toFile()
+        new JarOutputStream(new FileOutputStream(file)).withCloseable { out ->
+            entries.each { name, content ->
+                def jarEntry = new JarEntry(name)
+                jarEntry.time = 1_700_000_000_000L
+                out.putNextEntry(jarEntry)
+                out.write(content.bytes)
+                out.closeEntry()
+            }
+        }
+        file
+    }
+
+    private static URL entry(File jar, String name) {
+        new URL("jar:${jar.toURI()}!/$name")
+    }
+
+    static class MutableResource extends URLStreamHandler {
+        String content
+        long lastModified
+
+        @Override
+        protected URLConnection openConnection(URL u) {
+            byte[] bytes = content.bytes
+            long modified = lastModified
+            new URLConnection(u) {
+                @Override
+                void connect() {
+                }
+
+                @Override
+                long getLastModified() {
+                    modified
+                }
+
+                @Override
+                long getContentLengthLong() {
+                    bytes.length
+                }
+
+                @Override
+                InputStream getInputStream() {
+                    new ByteArrayInputStream(bytes)
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.engine;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.scheduling.LoomSupport;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs request handling on virtual threads while bounding how many run at once. Tasks above the
+ * limit wait in a bounded queue and are picked up by the virtual threads that finish, and tasks that
+ * do not fit in the queue are handled according to the {@link RejectionPolicy}.
+ *
+ * <p>The counters of this executor report its saturation: {@link #getActiveCount()},
+ * {@link #getQueuedCount()} and {@link #getRejectedCount()}. When Micrometer is on the classpath they are
+ * registered as the {@code servlet.virtual.threads.*} metrics of the executor bean. Executors created for
+ * additional ports are not registered.</p>
+ *
+ * @since 4.12.0
+ */
+@Singleton
+@Requires(sdk = Requires.Sdk.JAVA, version = "21")
+@Requires(property = MicronautServletConfiguration.PREFIX + ".virtual-thread-concurrency-limit")
+public final class BoundedVirtualThreadExecutor implements Executor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BoundedVirtualThreadExecutor.class);
+
+    private final ThreadFactory threadFactory;
+    private final int concurrencyLimit;
+    private final int queueSize;
+    private final RejectionPolicy rejectionPolicy;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * @param configuration The servlet configuration
+     */
+    @Inject
+    public BoundedVirtualThreadExecutor(MicronautServletConfiguration configuration) {
+        this(
+            LoomSupport.newVirtualThreadFactory("servlet-virtual-"),
+            configuration.getVirtualThreadConcurrencyLimit(),
+            configuration.getVirtualThreadQueueSize(),
+            configuration.getVirtualThreadRejectionPolicy()
+        );
+    }
+
+    /**
+     * An executor with limits of its own, for example for the pool of an additional port.
+     *
+     * @param threadNamePrefix The prefix of the names of the virtual threads
+     * @param concurrencyLimit The maximum number of tasks that run at once
+     * @param queueSize        The maximum number of tasks that wait for a thread
+     * @param rejectionPolicy  What to do with tasks that do not fit in the queue
+     * @since 4.12.0
+     */
+    public BoundedVirtualThreadExecutor(@NonNull String threadNamePrefix, int concurrencyLimit, int queueSize, @NonNull RejectionPolicy rejectionPolicy) {
+        this(LoomSupport.newVirtualThreadFactory(threadNamePrefix), concurrencyLimit, queueSize, rejectionPolicy);
+    }
+
+    /**
+     * @param threadFactory    The factory of virtual threads
+     * @param concurrencyLimit The maximum number of tasks that run at once
+     * @param queueSize        The maximum number of tasks that wait for a thread
+     * @param rejectionPolicy  What to do with tasks that do not fit in the queue
+     */
+    BoundedVirtualThreadExecutor(ThreadFactory threadFactory, int concurrencyLimit, int queueSize, RejectionPolicy rejectionPolicy) {
+        if (concurrencyLimit < 1) {
+            throw new IllegalArgumentException("The virtual thread concurrency limit must be at least 1");
+        }
+        this.threadFactory = threadFactory;
+        this.concurrencyLimit = concurrencyLimit;
+        this.queueSize = Math.max(0, queueSize);
+        this.rejectionPolicy = rejectionPolicy;
+    }
+
+    @Override
+    public void execute(@NonNull Runnable task) {
+        if (tryAcquire()) {
+            start(task);
+            return;
+        }
+        if (queued.incrementAndGet() > queueSize) {
+            queued.decrementAndGet();
+            reject(task);
+            return;
+        }
+        queue.offer(task);
+        // a thread may have finished between the failed acquire and the offer
+        if (tryAcquire()) {
+            Runnable next = poll();
+            if (next != null) {
+                start(next);
+            } else {
+                active.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * @return The number of tasks that are running
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * @return The number of tasks waiting for a thread
+     */
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    /**
+     * @return The number of tasks that were rejected because the queue was full
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * @return The maximum number of tasks that run at once
+     */
+    public int getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * @return The maximum number of tasks that wait for a thread
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = active.get();
+            if (current >= concurrencyLimit) {
+                return false;
+            }
+        } while (!active.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private Runnable poll() {
+        Runnable task = queue.poll();
+        if (task != null) {
+            queued.decrementAndGet();
+        }
+        return task;
+    }
+
+    private void start(Runnable first) {
+        try {
+            threadFactory.newThread(() -> runAll(first)).start();
+        } catch (RuntimeException | Error e) {
+            active.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void runAll(Runnable first) {
+        Runnable task = first;
+        while (true) {
+            while (task != null) {
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    LOG.error("Uncaught error running task on virtual thread: {}", e.getMessage(), e);
+                }
+                task = poll();
+            }
+            active.decrementAndGet();
+            // a task may have been queued after the last poll, by a caller that saw this thread as active
+            if (queue.isEmpty() || !tryAcquire()) {
+                return;
+            }
+            task = poll();
+            if (task == null) {
+                active.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    private void reject(Runnable task) {
+        long count = rejected.incrementAndGet();
+        if (count == 1 && LOG.isWarnEnabled()) {
+            LOG.warn("Virtual thread executor is saturated with {} running and {} queued tasks, further tasks are handled with the {} policy",
+                concurrencyLimit, queueSize, rejectionPolicy);
+        }
+        switch (rejectionPolicy) {
+            case CALLER_RUNS -> task.run();
+            case ABORT -> throw new RejectedExecutionException("Virtual thread executor is saturated: " + concurrencyLimit + " running and " + queueSize + " queued tasks");
+            default -> throw new IllegalStateException("Unknown rejection policy: " + rejectionPolicy);
+        }
+    }
+
+    /**
+     * What to do with a task when all threads are busy and the queue is full.
+     */
+    public enum RejectionPolicy {
+        /**
+         * Throw a {@link RejectedExecutionException}. The server closes the connection of the rejected request.
+         * This is the default.
+         */
+        ABORT,
+        /**
+         * Run the task on the thread that submitted it. That thread is a Tomcat acceptor or poller, a Jetty selector
+         * or an Undertow I/O thread, so while it runs the request the server stops accepting connections or reading
+         * requests on it. Only use this policy when that back pressure is preferred over rejecting requests.
+         */
+        CALLER_RUNS
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.engine;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+
+/**
+ * Registers the saturation of the {@link BoundedVirtualThreadExecutor} as metrics when Micrometer is on the
+ * classpath: the running and queued requests as gauges and the rejected requests as a counter.
+ *
+ * @since 4.12.0
+ */
+@Singleton
+@Requires(classes = MeterBinder.class)
+@Requires(beans = BoundedVirtualThreadExecutor.class)
+@Requires(property = BoundedVirtualThreadExecutorMetrics.ENABLED, notEquals = StringUtils.FALSE)
+final class BoundedVirtualThreadExecutorMetrics implements MeterBinder {
+
+    static final String ENABLED = "micronaut.metrics.binders.servlet-virtual-threads.enabled";
+    private static final String PREFIX = "servlet.virtual.threads.";
+
+    private final BoundedVirtualThreadExecutor executor;
+
+    BoundedVirtualThreadExecutorMetrics(BoundedVirtualThreadExecutor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder(PREFIX + "active", executor, BoundedVirtualThreadExecutor::getActiveCount)
+            .description("The number of requests running on virtual threads")
+            .register(registry);
+        Gauge.builder(PREFIX + "queued", executor, BoundedVirtualThreadExecutor::getQueuedCount)
+            .description("The number of requests waiting for a virtual thread")
+            .register(registry);
+        Gauge.builder(PREFIX + "limit", executor, BoundedVirtualThreadExecutor::getConcurrencyLimit)
+            .description("The maximum number of requests that run on virtual threads at once")
+            .register(registry);
+        FunctionCounter.builder(PREFIX + "rejected", executor, BoundedVirtualThreadExecutor::getRejectedCount)
+            .description("The number of requests rejected because the virtual thread queue was full")
+            .register(registry);
+    }
+}
@@ -106,7 +106,14 @@ public class DefaultMicronautServlet extends HttpServlet {
         if (servletContext != null) {
             servletContext.setAttribute(CONTEXT_ATTRIBUTE, applicationContext);
         }
+        MicronautServletConfiguration configuration = applicationContext.findBean(MicronautServletConfiguration.class).orElse(null);
+        if (configuration != null && configuration.isParallelInit()) {
+            ParallelSingletonInitializer.initialize(applicationContext, configuration.getParallelInitThreads(), configuration.getParallelInitStereotypes());
+        }
         this.handler = applicationContext.getBean(DefaultServletHttpHandler.class);
+        if (configuration != null && configuration.isParallelInit()) {
+            handler.warmUp();
+        }
     }
 
     /**
@@ -32,6 +32,7 @@ import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.convert.value.ConvertibleMultiValues;
 import io.micronaut.core.convert.value.MutableConvertibleValues;
+import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.http.MutableHttpHeaders;
 import io.micronaut.http.MutableHttpParameters;
@@ -122,6 +123,15 @@ final class DefaultMutableServletHttpRequest<B> implements MutableServletHttpReq
         }
     }
 
+    @Override
+    public <T> Optional<T> getBody(Argument<T> type) {
+        if (body != null) {
+            return conversionService.convert(body, type);
+        } else {
+            return servletHttpRequest.getBody(type);
+        }
+    }
+
     @Override
     public Cookies getCookies() {
         return this.servletHttpRequest.getCookies();
@@ -17,6 +17,7 @@ package io.micronaut.servlet.engine;
 
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.util.SupplierUtil;
 import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.servlet.http.BodyBuilder;
 import io.micronaut.servlet.http.ServletExchange;
@@ -28,6 +29,7 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 /**
  * Default implementation of {@link ServletHttpHandler} for the Servlet API.
@@ -38,6 +40,7 @@ import java.util.concurrent.ForkJoinPool;
 @Singleton
 public class DefaultServletHttpHandler extends ServletHttpHandler<HttpServletRequest, HttpServletResponse> {
     private final Executor ioExecutor;
+    private final Supplier<BodyBuilder> bodyBuilder;
 
     /**
      * Default constructor.
@@ -49,6 +52,7 @@ public class DefaultServletHttpHandler extends ServletHttpHandler<HttpServletReq
     public DefaultServletHttpHandler(ApplicationContext applicationContext, ConversionService conversionService, @Named(TaskExecutors.BLOCKING) Executor ioExecutor) {
         super(applicationContext, conversionService);
         this.ioExecutor = ioExecutor;
+        this.bodyBuilder = SupplierUtil.memoized(() -> applicationContext.getBean(BodyBuilder.class));
     }
 
     /**
@@ -78,7 +82,13 @@ public class DefaultServletHttpHandler extends ServletHttpHandler<HttpServletReq
     protected ServletExchange<HttpServletRequest, HttpServletResponse> createExchange(
             HttpServletRequest request,
             HttpServletResponse response) {
-        return new DefaultServletHttpRequest<>(applicationContext.getConversionService(), request, response, getMediaTypeCodecRegistry(), applicationContext.getBean(BodyBuilder.class), ioExecutor);
+        return new DefaultServletHttpRequest<>(applicationContext.getConversionService(), request, response, getMediaTypeCodecRegistry(), bodyBuilder.get(), ioExecutor);
+    }
+
+    @Override
+    public void warmUp() {
+        super.warmUp();
+        bodyBuilder.get();
     }
 
     @Override
@@ -26,7 +26,6 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
-import io.micronaut.core.util.SupplierUtil;
 import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpParameters;
@@ -40,6 +39,8 @@ import io.micronaut.http.body.CloseableByteBody;
 import io.micronaut.http.body.stream.InputStreamByteBody;
 import io.micronaut.http.codec.MediaTypeCodecRegistry;
 import io.micronaut.http.cookie.Cookies;
+import io.micronaut.servlet.engine.multipart.MultipartParser;
+import io.micronaut.servlet.engine.multipart.StreamingMultipartBody;
 import io.micronaut.servlet.http.BodyBuilder;
 import io.micronaut.servlet.http.ByteArrayBufferFactory;
 import io.micronaut.servlet.http.ParsedBodyHolder;
@@ -47,6 +48,7 @@ import io.micronaut.servlet.http.ServletExchange;
 import io.micronaut.servlet.http.ServletHttpRequest;
 import io.micronaut.servlet.http.ServletHttpResponse;
 import io.micronaut.servlet.http.StreamedServletMessage;
+import io.micronaut.servlet.http.TypedBodyHolder;
 import jakarta.servlet.AsyncContext;
 import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
@@ -79,7 +81,6 @@ import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.Executor;
-import java.util.function.Supplier;
 
 /**
  * Implementation of {@link HttpRequest} ontop of the Servlet API.
@@ -109,11 +110,12 @@ public final class DefaultServletHttpRequest<B> implements
     private final MediaTypeCodecRegistry codecRegistry;
     private final MutableConvertibleValues<Object> attributes;
     private final CloseableByteBody byteBody;
+    private final TypedBodyHolder typedBody;
+    private final Executor ioExecutor;
     private DefaultServletCookies cookies;
-    private Supplier<Optional<B>> body;
 
     private boolean bodyIsReadAsync;
-    private B parsedBody;
+    private volatile StreamingMultipartBody multipartBody;
 
     /**
      * Default constructor.
@@ -135,8 +137,10 @@ public final class DefaultServletHttpRequest<B> implements
         this.conversionService = conversionService;
         this.delegate = delegate;
         this.codecRegistry = codecRegistry;
+        this.ioExecutor = ioExecutor;
         long contentLengthLong = delegate.getContentLengthLong();
         this.byteBody = InputStreamByteBody.create(new LazyDelegateInputStream(delegate), contentLengthLong < 0 ? OptionalLong.empty() : OptionalLong.of(contentLengthLong), ioExecutor, ByteArrayBufferFactory.INSTANCE);
+        this.typedBody = new TypedBodyHolder(this, byteBody, bodyBuilder);
 
         String requestURI = delegate.getRequestURI();
 
@@ -156,10 +160,6 @@ public final class DefaultServletHttpRequest<B> implements
         this.headers = new ServletRequestHeaders();
         this.parameters = new ServletParameters();
         this.response = new DefaultServletHttpResponse<>(conversionService, this, response);
-        this.body = SupplierUtil.memoizedNonEmpty(() -> {
-            B built = parsedBody != null ? parsedBody : (B) bodyBuilder.buildBody(this::getInputStream, this);
-            return Optional.ofNullable(built);
-        });
         this.attributes = new MutableConvertibleValues<>() {
 
             @Override
@@ -258,8 +258,7 @@ public final class DefaultServletHttpRequest<B> implements
         if (bodyIsReadAsync) {
             throw new IllegalStateException("Body is being read asynchronously!");
         }
-
-        return getBody().map(t -> conversionService.convertRequired(t, arg));
+        return typedBody.getBody(arg).map(t -> conversionService.convertRequired(t, arg));
     }
 
     @NonNull
@@ -405,13 +404,13 @@ public final class DefaultServletHttpRequest<B> implements
 
     @Override
     public void setParsedBody(B body) {
-        this.parsedBody = body;
+        typedBody.setParsedBody(body);
     }
 
     @NonNull
     @Override
     public Optional<B> getBody() {
-        return this.body.get();
+        return (Optional<B>) typedBody.getBody();
     }
 
     @SuppressWarnings("unchecked")
@@ -503,6 +502,43 @@ public final class DefaultServletHttpRequest<B> implements
         return byteBody;
     }
 
+    /**
+     * @return Whether the streaming multipart body of this request has been created, in which case it owns the
+     * request input and every part has to be read through it
+     * @since 4.12.0
+     */
+    public boolean isStreamingMultipart() {
+        return multipartBody != null;
+    }
+
+    /**
+     * The body of a {@code multipart/form-data} request, parsed as it is read instead of being
+     * buffered by the container. Once created it owns the request input, so the parts of the request must
+     * then be read through it rather than with {@link HttpServletRequest#getPart(String)}.
+     *
+     * @return The multipart body or {@code null} if this is not a multipart request
+     * @since 4.12.0
+     */
+    @Nullable
+    public StreamingMultipartBody getStreamingMultipartBody() {
+        StreamingMultipartBody multipartBody = this.multipartBody;
+        if (multipartBody == null) {
+            MediaType contentType = getContentType().orElse(null);
+            String boundary = MultipartParser.boundary(delegate.getContentType());
+            if (boundary != null && MediaType.MULTIPART_FORM_DATA_TYPE.equals(contentType)) {
+                synchronized (this) {
+                    multipartBody = this.multipartBody;
+                    if (multipartBody == null) {
+                        InputStream inputStream = byteBody().split(ByteBody.SplitBackpressureMode.FASTEST).toInputStream();
+                        multipartBody = new StreamingMultipartBody(inputStream, boundary, ioExecutor);
+                        this.multipartBody = multipartBody;
+                    }
+                }
+            }
+        }
+        return multipartBody;
+    }
+
     /**
      * The servlet request headers.
      */
@@ -99,6 +99,16 @@ public class DefaultServletHttpResponse<B> implements ServletHttpResponse<HttpSe
         this.headers = new ServletResponseHeaders();
     }
 
+    /**
+     * Writes the published items with non-blocking I/O. An item is only requested from the publisher
+     * once the output stream is ready to accept it, so at most one item is held in memory and
+     * nothing is ever written while {@link ServletOutputStream#isReady()} is false. An item that
+     * arrives while the stream is busy is kept until the container calls
+     * {@link WriteListener#onWritePossible()}.
+     *
+     * @param dataPublisher The data publisher
+     * @return Emits the response once all items have been written
+     */
     @Override
     public Publisher<MutableHttpResponse<?>> stream(Publisher<?> dataPublisher) {
         return Flux.create(emitter -> dataPublisher.subscribe(new Subscriber<Object>() {
@@ -111,21 +121,31 @@ public class DefaultServletHttpResponse<B> implements ServletHttpResponse<HttpSe
             boolean first = true;
             boolean raw = false;
             boolean written = false;
+            Object pending;
+            boolean requested;
+            boolean completed;
+
             @Override
             public void onSubscribe(Subscription s) {
                 subscription = s;
-                delegate.setHeader(HttpHeaders.TRANSFER_ENCODING, "chunked");
+                if (!delegate.containsHeader(HttpHeaders.CONTENT_LENGTH)) {
+                    delegate.setHeader(HttpHeaders.TRANSFER_ENCODING, "chunked");
+                }
                 try {
                     outputStream = delegate.getOutputStream();
                     outputStream.setWriteListener(new WriteListener() {
                         @Override
                         public void onWritePossible() {
-                            s.request(1);
+                            drain();
                         }
 
                         @Override
                         public void onError(Throwable t) {
-                            emitter.error(t);
+                            if (finished.compareAndSet(false, true)) {
+                                release();
+                                subscription.cancel();
+                                emitter.error(t);
+                            }
                         }
                     });
                 } catch (IOException e) {
@@ -138,20 +158,43 @@ public class DefaultServletHttpResponse<B> implements ServletHttpResponse<HttpSe
 
             @Override
             public void onNext(Object o) {
-                try {
-                    if (outputStream.isReady() && !finished.get()) {
-
-                        writeToOutputStream(o);
+                synchronized (this) {
+                    requested = false;
+                    pending = o;
+                }
+                drain();
+            }
 
-                        if (outputStream.isReady()) {
-                            subscription.request(1);
+            /**
+             * Writes the pending item and requests the next one, as long as the output stream is ready.
+             * When it is not, the container calls {@link WriteListener#onWritePossible()} once it is
+             * and the drain continues from there.
+             */
+            private synchronized void drain() {
+                if (finished.get()) {
+                    release();
+                    return;
+                }
+                try {
+                    if (pending != null) {
+                        if (!outputStream.isReady()) {
+                            return;
                         }
+                        Object o = pending;
+                        pending = null;
+                        writeToOutputStream(o);
                     }
-                } catch (IOException e) {
-                    if (finished.compareAndSet(false, true)) {
-                        onError(e);
-                        subscription.cancel();
+                    if (!outputStream.isReady()) {
+                        return;
                     }
+                    if (completed) {
+                        complete();
+                    } else if (!requested) {
+                        requested = true;
+                        subscription.request(1);
+                    }
+                } catch (IOException e) {
+                    onError(e);
                 }
             }
 
@@ -172,24 +215,22 @@ public class DefaultServletHttpResponse<B> implements ServletHttpResponse<HttpSe
                         }
                     }
                 } else if (codec != null) {
-
-                    if (isJson) {
-                        if (first) {
-                            outputStream.write('[');
-                            first = false;
-                        } else {
-                            outputStream.write(',');
-                        }
+                    byte[] bytes;
+                    if (o instanceof CharSequence) {
+                        bytes = o.toString().getBytes(getCharacterEncoding());
+                    } else {
+                        bytes = codec.encode(o);
                     }
-                    if (outputStream.isReady()) {
-                        if (o instanceof CharSequence) {
-                            outputStream.write(o.toString().getBytes(getCharacterEncoding()));
-                        } else {
-                            byte[] bytes = codec.encode(o);
-                            outputStream.write(bytes);
-                        }
-                        flushIfReady();
+                    if (isJson) {
+                        // the separator goes out with the item, a second write could find the stream busy
+                        byte[] item = new byte[bytes.length + 1];
+                        item[0] = (byte) (first ? '[' : ',');
+                        System.arraycopy(bytes, 0, item, 1, bytes.length);
+                        bytes = item;
+                        first = false;
                     }
+                    outputStream.write(bytes);
+                    flushIfReady();
                 }
             }
 
@@ -199,9 +240,18 @@ public class DefaultServletHttpResponse<B> implements ServletHttpResponse<HttpSe
                 }
             }
 
+            private void release() {
+                Object o = pending;
+                pending = null;
+                if (o instanceof ReferenceCounted referenceCounted) {
+                    referenceCounted.release();
+                }
+            }
+
             @Override
-            public void onError(Throwable t) {
+            public synchronized void onError(Throwable t) {
                 if (finished.compareAndSet(false, true)) {
+                    release();
                     if (t instanceof HttpStatusException) {
                         maybeReportErrorDownstream(t);
                     } else {
@@ -238,9 +288,16 @@ public class DefaultServletHttpResponse<B> implements ServletHttpResponse<HttpSe
 
             @Override
             public void onComplete() {
+                synchronized (this) {
+                    completed = true;
+                }
+                drain();
+            }
+
+            private void complete() {
                 if (finished.compareAndSet(false, true)) {
                     try {
-                        if (!raw && isJson && outputStream.isReady()) {
+                        if (!raw && isJson) {
                             if (first) { //empty publisher
                                 outputStream.write(EMPTY_ARRAY);
                             } else {
@@ -28,6 +28,9 @@ import io.micronaut.servlet.http.ServletConfiguration;
 
 import jakarta.servlet.MultipartConfigElement;
 import java.io.File;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -43,6 +46,11 @@ public class MicronautServletConfiguration implements Named, ServletConfiguratio
      * The prefix used for configuration.
      */
     public static final String PREFIX = "micronaut.servlet";
+
+    /**
+     * The default number of requests that wait for a virtual thread once the concurrency limit is reached.
+     */
+    public static final int DEFAULT_VIRTUAL_THREAD_QUEUE_SIZE = 1000;
     private final String mapping;
     private final MultipartConfigElement multipartConfigElement;
     private final String name;
@@ -53,6 +61,13 @@ public class MicronautServletConfiguration implements Named, ServletConfiguratio
 
     private Integer minThreads;
     private Integer maxThreads;
+    private Integer virtualThreadConcurrencyLimit;
+    private int virtualThreadQueueSize = DEFAULT_VIRTUAL_THREAD_QUEUE_SIZE;
+    private BoundedVirtualThreadExecutor.RejectionPolicy virtualThreadRejectionPolicy = BoundedVirtualThreadExecutor.RejectionPolicy.ABORT;
+    private Duration shutdownTimeout;
+    private boolean parallelInit;
+    private int parallelInitThreads = Runtime.getRuntime().availableProcessors();
+    private List<String> parallelInitStereotypes = Collections.emptyList();
 
 
     /**
@@ -182,4 +197,149 @@ public class MicronautServletConfiguration implements Named, ServletConfiguratio
     public void setMaxThreads(Integer maxThreads) {
         this.maxThreads = maxThreads;
     }
+
+    /**
+     * @return The maximum number of requests that run on virtual threads at once, or {@code null} if it is not limited
+     * @since 4.12.0
+     */
+    @Nullable
+    public Integer getVirtualThreadConcurrencyLimit() {
+        return virtualThreadConcurrencyLimit;
+    }
+
+    /**
+     * Specify the maximum number of requests that run on virtual threads at once. By default it is not limited.
+     * When set, the server runs requests on a {@link BoundedVirtualThreadExecutor}.
+     *
+     * @param virtualThreadConcurrencyLimit The concurrency limit
+     * @since 4.12.0
+     */
+    public void setVirtualThreadConcurrencyLimit(@Nullable Integer virtualThreadConcurrencyLimit) {
+        this.virtualThreadConcurrencyLimit = virtualThreadConcurrencyLimit;
+    }
+
+    /**
+     * @return The maximum number of requests that wait for a virtual thread
+     * @since 4.12.0
+     */
+    public int getVirtualThreadQueueSize() {
+        return virtualThreadQueueSize;
+    }
+
+    /**
+     * Specify the maximum number of requests that wait for a virtual thread once the concurrency limit is reached
+     * (defaults to {@value #DEFAULT_VIRTUAL_THREAD_QUEUE_SIZE}).
+     *
+     * @param virtualThreadQueueSize The queue size
+     * @since 4.12.0
+     */
+    public void setVirtualThreadQueueSize(int virtualThreadQueueSize) {
+        this.virtualThreadQueueSize = virtualThreadQueueSize;
+    }
+
+    /**
+     * @return What happens to requests that do not fit in the virtual thread queue
+     * @since 4.12.0
+     */
+    @NonNull
+    public BoundedVirtualThreadExecutor.RejectionPolicy getVirtualThreadRejectionPolicy() {
+        return virtualThreadRejectionPolicy;
+    }
+
+    /**
+     * Specify what happens to requests that do not fit in the virtual thread queue (defaults to {@code ABORT}).
+     * {@code CALLER_RUNS} runs the request on the server thread that submitted it, which stops that thread from
+     * accepting connections or reading requests until the request completes.
+     *
+     * @param virtualThreadRejectionPolicy The rejection policy
+     * @since 4.12.0
+     */
+    public void setVirtualThreadRejectionPolicy(@NonNull BoundedVirtualThreadExecutor.RejectionPolicy virtualThreadRejectionPolicy) {
+        this.virtualThreadRejectionPolicy = virtualThreadRejectionPolicy;
+    }
+
+    /**
+     * @return The time to wait for requests that are being handled when the server stops
+     * @since 4.12.0
+     */
+    public Optional<Duration> getShutdownTimeout() {
+        return Optional.ofNullable(shutdownTimeout);
+    }
+
+    /**
+     * Specify how long the server waits for requests that are being handled when it stops. During that time
+     * it no longer accepts connections and asks HTTP/1.x clients to close theirs. By default the server stops immediately.
+     * The embedded servers wait with the graceful stop of the container, which covers every request including
+     * static resources and other servlets. Tomcat does not wait for requests on unbounded virtual threads beyond
+     * those of the Micronaut servlet. When the application is deployed to a servlet container, the container
+     * decides how it stops and this setting has no effect.
+     *
+     * @param shutdownTimeout The shutdown timeout
+     * @since 4.12.0
+     */
+    public void setShutdownTimeout(@Nullable Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    /**
+     * @return Whether the servlet creates the singletons of the application context in parallel when it is initialized
+     * @since 4.12.0
+     */
+    public boolean isParallelInit() {
+        return parallelInit;
+    }
+
+    /**
+     * Specify whether {@link DefaultMicronautServlet} creates the singletons of the
+     * {@link #setParallelInitStereotypes(List) configured stereotypes} on a bounded pool of threads, and resolves the
+     * body handlers of all routes, before it reports ready. This moves the cost of lazy bean creation from the first
+     * requests to the servlet initialization. It runs once the application context has started, so it does not
+     * parallelize the creation of eager singletons. Disabled by default.
+     *
+     * @param parallelInit True to create singletons in parallel
+     * @since 4.12.0
+     */
+    public void setParallelInit(boolean parallelInit) {
+        this.parallelInit = parallelInit;
+    }
+
+    /**
+     * @return The number of threads singletons are created on
+     * @since 4.12.0
+     */
+    public int getParallelInitThreads() {
+        return parallelInitThreads;
+    }
+
+    /**
+     * Specify the number of threads singletons are created on when {@link #isParallelInit() parallel initialization}
+     * is enabled (defaults to the number of available processors).
+     *
+     * @param parallelInitThreads The number of threads
+     * @since 4.12.0
+     */
+    public void setParallelInitThreads(int parallelInitThreads) {
+        this.parallelInitThreads = parallelInitThreads;
+    }
+
+    /**
+     * @return The stereotypes of the singletons that are created when the servlet is initialized
+     * @since 4.12.0
+     */
+    public @NonNull List<String> getParallelInitStereotypes() {
+        return parallelInitStereotypes;
+    }
+
+    /**
+     * Specify the fully qualified names of the annotations, such as {@code io.micronaut.http.annotation.Controller},
+     * whose singletons are created when {@link #isParallelInit() parallel initialization} is enabled. Singletons that
+     * are not annotated with one of them are left to be created when they are first needed (defaults to none, in
+     * which case only the body handlers of the routes are resolved).
+     *
+     * @param parallelInitStereotypes The annotation names
+     * @since 4.12.0
+     */
+    public void setParallelInitStereotypes(@Nullable List<String> parallelInitStereotypes) {
+        this.parallelInitStereotypes = parallelInitStereotypes != null ? parallelInitStereotypes : Collections.emptyList();
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.engine;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.inject.BeanDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates selected lazy singletons of a running application context on a bounded pool of threads, so
+ * that the first requests do not pay for their creation. The eager singletons, such as {@code @Context}
+ * and {@code @Parallel} beans, have already been created by the context when it started, so this does
+ * not speed up the startup of the context itself.
+ *
+ * @since 4.12.0
+ */
+@Internal
+final class ParallelSingletonInitializer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelSingletonInitializer.class);
+
+    private ParallelSingletonInitializer() {
+    }
+
+    /**
+     * Create the singletons of the given context that are annotated with one of the given stereotypes, and
+     * wait for them. Other singletons are left to be created when first needed.
+     *
+     * @param applicationContext The running application context
+     * @param threads            The number of threads to create singletons on
+     * @param stereotypes        The names of the stereotypes of the singletons to create
+     */
+    static void initialize(ApplicationContext applicationContext, int threads, List<String> stereotypes) {
+        if (stereotypes.isEmpty()) {
+            return;
+        }
+        List<BeanDefinition<?>> singletons = applicationContext.getAllBeanDefinitions().stream()
+            .filter(BeanDefinition::isSingleton)
+            .filter(definition -> !definition.isAbstract())
+            .filter(definition -> hasStereotype(definition, stereotypes))
+            .toList();
+        if (singletons.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, singletons.size())), runnable -> {
+            Thread thread = new Thread(runnable, "micronaut-servlet-init-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger failures = new AtomicInteger();
+        try {
+            CompletableFuture.allOf(singletons.stream()
+                .map(definition -> CompletableFuture.runAsync(() -> initialize(applicationContext, definition, failures), executor))
+                .toArray(CompletableFuture[]::new)
+            ).join();
+        } finally {
+            executor.shutdownNow();
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Initialized {} singletons on {} threads in {}ms, {} failed and are created again when first needed",
+                singletons.size(), threadCount.get(), (System.nanoTime() - start) / 1_000_000, failures.get());
+        }
+    }
+
+    private static boolean hasStereotype(BeanDefinition<?> definition, List<String> stereotypes) {
+        for (String stereotype : stereotypes) {
+            if (definition.hasStereotype(stereotype)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void initialize(ApplicationContext applicationContext, BeanDefinition<?> definition, AtomicInteger failures) {
+        try {
+            applicationContext.getBean(definition);
+        } catch (RuntimeException e) {
+            // the bean is created again, and the error reported, when it is first needed
+            failures.incrementAndGet();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Singleton {} failed to initialize", definition.getBeanType().getName(), e);
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import io.micronaut.http.bind.binders.TypedRequestArgumentBinder;
 import io.micronaut.http.multipart.CompletedPart;
 import io.micronaut.http.server.exceptions.InternalServerException;
 import io.micronaut.servlet.engine.ServletCompletedFileUpload;
+import io.micronaut.servlet.engine.multipart.StreamingMultipartBody;
 import io.micronaut.servlet.http.ServletExchange;
 
 import jakarta.servlet.ServletException;
@@ -47,7 +48,8 @@ class CompletedPartRequestArgumentBinder implements TypedRequestArgumentBinder<C
         final Argument<?> argument = context.getArgument();
         final String partName = context.getAnnotationMetadata().stringValue(Part.class).orElse(argument.getName());
         try {
-            jakarta.servlet.http.Part part = nativeRequest.getPart(partName);
+            StreamingMultipartBody multipartBody = ServletPartBinder.streamingMultipartBody(source);
+            jakarta.servlet.http.Part part = multipartBody != null ? multipartBody.completedPart(partName) : nativeRequest.getPart(partName);
             if (part == null) {
                 return BindingResult.UNSATISFIED;
             }
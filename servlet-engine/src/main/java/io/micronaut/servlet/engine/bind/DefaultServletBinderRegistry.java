@@ -29,7 +29,9 @@ import io.micronaut.http.bind.binders.DefaultBodyAnnotationBinder;
 import io.micronaut.http.bind.binders.RequestArgumentBinder;
 import io.micronaut.http.codec.MediaTypeCodecRegistry;
 import io.micronaut.http.multipart.CompletedPart;
+import io.micronaut.http.multipart.StreamingFileUpload;
 import io.micronaut.json.codec.MapperMediaTypeCodec;
+import io.micronaut.servlet.engine.DefaultServletHttpRequest;
 import io.micronaut.servlet.http.ServletBinderRegistry;
 import io.micronaut.servlet.http.ServletBodyBinder;
 import io.micronaut.servlet.http.StreamedServletMessage;
@@ -85,7 +87,7 @@ class DefaultServletBinderRegistry<T> extends ServletBinderRegistry<T> {
         byType.put(ServletConfig.class, new ServletConfigBinder());
         byType.put(ServletContext.class, new ServletContextBinder());
         byType.put(CompletedPart.class, new CompletedPartRequestArgumentBinder());
-        byAnnotation.put(Part.class, new ServletPartBinder<>(mediaTypeCodecRegistry));
+        byAnnotation.put(Part.class, new ServletPartBinder<>(mediaTypeCodecRegistry, conversionService));
     }
 
     @SuppressWarnings("unchecked")
@@ -183,6 +185,11 @@ class DefaultServletBinderRegistry<T> extends ServletBinderRegistry<T> {
                         }
                     } else if (byte[].class.isAssignableFrom(javaArgument)) {
                         return () -> Optional.of(Flux.from(servletHttpRequest));
+                    } else if (StreamingFileUpload.class.isAssignableFrom(javaArgument)
+                        && source instanceof DefaultServletHttpRequest<?> request
+                        && request.getStreamingMultipartBody() != null) {
+                        Object converted = Publishers.convertPublisher(conversionService, request.getStreamingMultipartBody().parts(), type);
+                        return () -> Optional.of(converted);
                     } else {
                         MediaType mediaType = servletHttpRequest.getContentType().orElse(MediaType.APPLICATION_JSON_TYPE);
                         MapperMediaTypeCodec codec = (MapperMediaTypeCodec) mediaTypeCodecRegistry.findCodec(mediaType, javaArgument).orElse(null);
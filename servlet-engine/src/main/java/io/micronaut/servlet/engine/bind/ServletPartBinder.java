@@ -16,10 +16,14 @@
 package io.micronaut.servlet.engine.bind;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.convert.ArgumentConversionContext;
+import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.io.IOUtils;
 import io.micronaut.core.io.Readable;
 import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpAttributes;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
@@ -29,15 +33,26 @@ import io.micronaut.http.codec.MediaTypeCodec;
 import io.micronaut.http.codec.MediaTypeCodecRegistry;
 import io.micronaut.http.exceptions.HttpStatusException;
 import io.micronaut.http.multipart.CompletedFileUpload;
+import io.micronaut.http.multipart.CompletedPart;
+import io.micronaut.http.multipart.PartData;
+import io.micronaut.http.multipart.StreamingFileUpload;
 import io.micronaut.http.server.exceptions.InternalServerException;
+import io.micronaut.inject.ExecutionHandle;
+import io.micronaut.servlet.engine.DefaultServletHttpRequest;
 import io.micronaut.servlet.engine.ServletCompletedFileUpload;
+import io.micronaut.servlet.engine.multipart.StreamingMultipartBody;
 import io.micronaut.servlet.http.ServletExchange;
+import io.micronaut.web.router.RouteMatch;
 
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
+import reactor.core.publisher.Flux;
+
 import java.io.*;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -50,13 +65,16 @@ import java.util.Optional;
 public class ServletPartBinder<T> implements AnnotatedRequestArgumentBinder<Part, T> {
 
     private final MediaTypeCodecRegistry codecRegistry;
+    private final ConversionService conversionService;
 
     /**
      * Default constructor.
      * @param codecRegistry The codec registry.
+     * @param conversionService The conversion service
      */
-    ServletPartBinder(MediaTypeCodecRegistry codecRegistry) {
+    ServletPartBinder(MediaTypeCodecRegistry codecRegistry, ConversionService conversionService) {
         this.codecRegistry = codecRegistry;
+        this.conversionService = conversionService;
     }
 
     @Override
@@ -71,9 +89,14 @@ public class ServletPartBinder<T> implements AnnotatedRequestArgumentBinder<Part
             final HttpServletRequest nativeRequest = (HttpServletRequest) exchange.getRequest().getNativeRequest();
             final Argument<T> argument = context.getArgument();
             final String partName = context.getAnnotationMetadata().stringValue(Part.class).orElse(argument.getName());
+            final StreamingMultipartBody multipartBody = streamingMultipartBody(source);
+            if (multipartBody != null && isStreamed(argument)) {
+                return bindStreamed(argument, multipartBody.upload(partName));
+            }
             final jakarta.servlet.http.Part part;
             try {
-                part = nativeRequest.getPart(partName);
+                // the streaming parser owns the request input once it is active
+                part = multipartBody != null ? multipartBody.completedPart(partName) : nativeRequest.getPart(partName);
             } catch (IOException | ServletException e) {
                 throw new InternalServerException("Error reading part [" + partName + "]: " + e.getMessage(), e);
             }
@@ -165,6 +188,67 @@ public class ServletPartBinder<T> implements AnnotatedRequestArgumentBinder<Part
         return BindingResult.UNSATISFIED;
     }
 
+    /**
+     * The streaming multipart body of the request, if the matched route binds at least one streamed part.
+     * Every part of such a request is then bound through the streaming parser, and the parts the route
+     * binds are retained so that they can be bound in any order.
+     *
+     * @param source The request
+     * @return The streaming body or {@code null} if the parts are read with {@link HttpServletRequest#getPart(String)}
+     */
+    @Nullable
+    static StreamingMultipartBody streamingMultipartBody(HttpRequest<?> source) {
+        if (!(source instanceof ServletExchange<?, ?> exchange)
+            || !(exchange.getRequest() instanceof DefaultServletHttpRequest<?> servletRequest)) {
+            return null;
+        }
+        if (servletRequest.isStreamingMultipart()) {
+            return servletRequest.getStreamingMultipartBody();
+        }
+        RouteMatch<?> route = source.getAttribute(HttpAttributes.ROUTE_MATCH, RouteMatch.class).orElse(null);
+        if (!(route instanceof ExecutionHandle<?, ?> handle)) {
+            return null;
+        }
+        List<String> partNames = new ArrayList<>();
+        boolean streamed = false;
+        for (Argument<?> argument : handle.getArguments()) {
+            if (argument.getAnnotationMetadata().hasAnnotation(Part.class)) {
+                partNames.add(argument.getAnnotationMetadata().stringValue(Part.class).orElse(argument.getName()));
+                streamed |= isStreamed(argument);
+            } else if (CompletedPart.class.isAssignableFrom(argument.getType())) {
+                partNames.add(argument.getName());
+            }
+        }
+        if (!streamed) {
+            return null;
+        }
+        StreamingMultipartBody multipartBody = servletRequest.getStreamingMultipartBody();
+        if (multipartBody != null) {
+            multipartBody.retain(partNames);
+        }
+        return multipartBody;
+    }
+
+    private static boolean isStreamed(Argument<?> argument) {
+        Class<?> type = argument.getType();
+        if (StreamingFileUpload.class.isAssignableFrom(type)) {
+            return true;
+        }
+        return Publishers.isConvertibleToPublisher(type) && argument.getFirstTypeVariable()
+            .map(typeVariable -> PartData.class.isAssignableFrom(typeVariable.getType()))
+            .orElse(false);
+    }
+
+    private BindingResult<T> bindStreamed(Argument<T> argument, StreamingFileUpload upload) {
+        Class<T> type = argument.getType();
+        if (type.isInstance(upload)) {
+            //noinspection unchecked
+            return () -> (Optional<T>) Optional.of(upload);
+        }
+        T publisher = Publishers.convertPublisher(conversionService, Flux.from(upload), type);
+        return () -> Optional.of(publisher);
+    }
+
     private BufferedReader newReader(jakarta.servlet.http.Part part) throws IOException {
         final Charset charset = Optional.ofNullable(part.getContentType())
                 .map(MediaType::new)
@@ -19,6 +19,7 @@ import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.ApplicationContextBuilder;
 import io.micronaut.context.BeanRegistration;
 import io.micronaut.context.annotation.Prototype;
+import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.util.ArrayUtils;
@@ -32,12 +33,17 @@ import jakarta.inject.Inject;
 import jakarta.servlet.DispatcherType;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterRegistration;
+import jakarta.servlet.HttpConstraintElement;
+import jakarta.servlet.HttpMethodConstraintElement;
 import jakarta.servlet.MultipartConfigElement;
+import jakarta.servlet.Registration;
 import jakarta.servlet.Servlet;
 import jakarta.servlet.ServletContainerInitializer;
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.ServletRegistration;
 import jakarta.servlet.ServletSecurityElement;
+import jakarta.servlet.annotation.HttpConstraint;
+import jakarta.servlet.annotation.HttpMethodConstraint;
 import jakarta.servlet.annotation.MultipartConfig;
 import jakarta.servlet.annotation.ServletSecurity;
 import jakarta.servlet.annotation.WebFilter;
@@ -73,6 +79,10 @@ public class MicronautServletInitializer implements ServletContainerInitializer
     private static final String MEMBER_LOAD_ON_STARTUP = "loadOnStartup";
     private static final String MEMBER_ASYNC_SUPPORTED = "asyncSupported";
     private static final String MEMBER_INIT_PARAMS = "initParams";
+    private static final String MEMBER_SERVLET_NAMES = "servletNames";
+    private static final String MEMBER_DISPATCHER_TYPES = "dispatcherTypes";
+    private static final String MEMBER_TRANSPORT_GUARANTEE = "transportGuarantee";
+    private static final String MEMBER_ROLES_ALLOWED = "rolesAllowed";
     private static final DispatcherType[] DEFAULT_DISPATCHER_TYPES = {DispatcherType.REQUEST};
     private ApplicationContext applicationContext;
     private List<String> micronautServletMappings = new ArrayList<>();
@@ -124,8 +134,21 @@ public class MicronautServletInitializer implements ServletContainerInitializer
         BeanDefinition<Filter> beanDefinition = beanRegistration.getBeanDefinition();
         String filterName = resolveName(identifier, beanDefinition);
         FilterRegistration.Dynamic registration = ctx.addFilter(filterName, filter);
+        AnnotationValue<ServletRegistrationMetadata> metadata = beanDefinition.getAnnotation(ServletRegistrationMetadata.class);
+        if (metadata != null) {
+            DispatcherType[] dispatcherTypes = metadata.enumValues(MEMBER_DISPATCHER_TYPES, DispatcherType.class);
+            mapFilter(
+                registration,
+                ArrayUtils.isEmpty(dispatcherTypes) ? DEFAULT_DISPATCHER_TYPES : dispatcherTypes,
+                metadata.stringValues(MEMBER_URL_PATTERNS),
+                metadata.stringValues(MEMBER_SERVLET_NAMES)
+            );
+            setInitParams(metadata, registration);
+            registration.setAsyncSupported(metadata.booleanValue(MEMBER_ASYNC_SUPPORTED).orElse(false));
+            return;
+        }
         AnnotationValue<WebFilter> webFilterAnn = beanDefinition.findAnnotation(WebFilter.class).orElse(new AnnotationValue<>(WebFilter.class.getName()));
-        DispatcherType[] dispatcherTypes = webFilterAnn.enumValues("dispatcherTypes", DispatcherType.class);
+        DispatcherType[] dispatcherTypes = webFilterAnn.enumValues(MEMBER_DISPATCHER_TYPES, DispatcherType.class);
         if (ArrayUtils.isEmpty(dispatcherTypes)) {
             dispatcherTypes = DEFAULT_DISPATCHER_TYPES;
         }
@@ -134,7 +157,13 @@ public class MicronautServletInitializer implements ServletContainerInitializer
             webFilterAnn.stringValues(),
             webFilterAnn.stringValues(MEMBER_URL_PATTERNS)
         );
-        @NonNull String[] servletNames = webFilterAnn.stringValues("servletNames");
+        @NonNull String[] servletNames = webFilterAnn.stringValues(MEMBER_SERVLET_NAMES);
+        mapFilter(registration, dispatcherTypes, urlPatterns, servletNames);
+        setInitParams(webFilterAnn, registration);
+        registration.setAsyncSupported(webFilterAnn.booleanValue(MEMBER_ASYNC_SUPPORTED).orElse(false));
+    }
+
+    private static void mapFilter(FilterRegistration.Dynamic registration, DispatcherType[] dispatcherTypes, String[] urlPatterns, String[] servletNames) {
         EnumSet<DispatcherType> enumSet;
         if (dispatcherTypes.length > 1) {
             enumSet = EnumSet.of(dispatcherTypes[0], Arrays.copyOfRange(dispatcherTypes, 1, dispatcherTypes.length));
@@ -156,8 +185,6 @@ public class MicronautServletInitializer implements ServletContainerInitializer
                 servletNames
             );
         }
-        setInitParams(webFilterAnn, registration);
-        registration.setAsyncSupported(webFilterAnn.booleanValue(MEMBER_ASYNC_SUPPORTED).orElse(false));
     }
 
     private static String resolveName(BeanIdentifier identifier, BeanDefinition<?> definition) {
@@ -167,6 +194,10 @@ public class MicronautServletInitializer implements ServletContainerInitializer
 
     private int configureServletBean(BeanRegistration<Servlet> servlet, String servletName, MicronautServletConfiguration configuration, int order, ServletRegistration.Dynamic registration, ApplicationContext applicationContext) {
         BeanDefinition<Servlet> beanDefinition = servlet.getBeanDefinition();
+        AnnotationValue<ServletRegistrationMetadata> metadata = beanDefinition.getAnnotation(ServletRegistrationMetadata.class);
+        if (metadata != null) {
+            return configureServletBean(metadata, servletName, configuration, order, registration, applicationContext);
+        }
         AnnotationValue<WebServlet> webServletAnnotationValue = beanDefinition
             .findAnnotation(WebServlet.class)
             .orElse(EMPTY_WEB_SERVLET);
@@ -193,6 +224,35 @@ public class MicronautServletInitializer implements ServletContainerInitializer
         return order;
     }
 
+    private int configureServletBean(AnnotationValue<ServletRegistrationMetadata> metadata, String servletName, MicronautServletConfiguration configuration, int order, ServletRegistration.Dynamic registration, ApplicationContext applicationContext) {
+        boolean isMicronautServlet = DefaultMicronautServlet.NAME.equals(servletName);
+        @NonNull String[] urlPatterns = metadata.stringValues(MEMBER_URL_PATTERNS);
+        if (ArrayUtils.isEmpty(urlPatterns) && isMicronautServlet) {
+            urlPatterns = ArrayUtils.concat(micronautServletMappings.toArray(String[]::new), configuration.getMapping());
+        }
+        int loadOnStartup = metadata.intValue(MEMBER_LOAD_ON_STARTUP).orElse(order++);
+        boolean isAsyncSupported = metadata.booleanValue(MEMBER_ASYNC_SUPPORTED).orElse(configuration.isAsyncSupported());
+
+        registration.addMapping(urlPatterns);
+        registration.setLoadOnStartup(loadOnStartup);
+        registration.setAsyncSupported(isAsyncSupported);
+        setInitParams(metadata, registration);
+        MultipartConfigElement multipartConfigElement = metadata.getAnnotation("multipartConfig", MultipartConfig.class)
+            .map(this::toMultipartElement)
+            .orElse(isMicronautServlet ? configuration.getMultipartConfigElement().orElse(null) : null);
+        if (multipartConfigElement != null) {
+            registration.setMultipartConfig(multipartConfigElement);
+        }
+        AnnotationValue<ServletSecurity> servletSecurity = metadata.getAnnotation("servletSecurity", ServletSecurity.class).orElse(null);
+        if (servletSecurity != null) {
+            registration.setServletSecurity(toServletSecurityElement(servletSecurity));
+        } else if (isMicronautServlet) {
+            applicationContext.findBean(ServletSecurityElement.class)
+                .ifPresent(registration::setServletSecurity);
+        }
+        return order;
+    }
+
     private @NonNull String[] getUrlPatterns(AnnotationValue<WebServlet> webServletAnnotationValue, BeanDefinition<Servlet> beanDefinition, boolean isMicronautServlet, MicronautServletConfiguration configuration) {
         @NonNull String[] urlPatterns =
             ArrayUtils.concat(
@@ -225,6 +285,36 @@ public class MicronautServletInitializer implements ServletContainerInitializer
         });
     }
 
+    private static void setInitParams(AnnotationValue<ServletRegistrationMetadata> metadata, Registration registration) {
+        String[] names = metadata.stringValues("initParamNames");
+        String[] values = metadata.stringValues("initParamValues");
+        for (int i = 0; i < names.length && i < values.length; i++) {
+            registration.setInitParameter(names[i], values[i]);
+        }
+    }
+
+    private static ServletSecurityElement toServletSecurityElement(AnnotationValue<ServletSecurity> servletSecurity) {
+        HttpConstraintElement constraint = servletSecurity.getAnnotation(AnnotationMetadata.VALUE_MEMBER, HttpConstraint.class)
+            .map(httpConstraint -> new HttpConstraintElement(
+                httpConstraint.enumValue(AnnotationMetadata.VALUE_MEMBER, ServletSecurity.EmptyRoleSemantic.class).orElse(ServletSecurity.EmptyRoleSemantic.PERMIT),
+                httpConstraint.enumValue(MEMBER_TRANSPORT_GUARANTEE, ServletSecurity.TransportGuarantee.class).orElse(ServletSecurity.TransportGuarantee.NONE),
+                httpConstraint.stringValues(MEMBER_ROLES_ALLOWED)
+            ))
+            .orElseGet(HttpConstraintElement::new);
+        List<HttpMethodConstraintElement> methodConstraints = new ArrayList<>();
+        for (AnnotationValue<HttpMethodConstraint> methodConstraint : servletSecurity.getAnnotations("httpMethodConstraints", HttpMethodConstraint.class)) {
+            methodConstraints.add(new HttpMethodConstraintElement(
+                methodConstraint.stringValue().orElseThrow(),
+                new HttpConstraintElement(
+                    methodConstraint.enumValue("emptyRoleSemantic", ServletSecurity.EmptyRoleSemantic.class).orElse(ServletSecurity.EmptyRoleSemantic.PERMIT),
+                    methodConstraint.enumValue(MEMBER_TRANSPORT_GUARANTEE, ServletSecurity.TransportGuarantee.class).orElse(ServletSecurity.TransportGuarantee.NONE),
+                    methodConstraint.stringValues(MEMBER_ROLES_ALLOWED)
+                )
+            ));
+        }
+        return new ServletSecurityElement(constraint, methodConstraints);
+    }
+
     private MultipartConfigElement getMultipartConfig(BeanDefinition<Servlet> beanDefinition, boolean isMicronautServlet, MicronautServletConfiguration configuration) {
         return beanDefinition.findAnnotation(MultipartConfig.class)
                 .map(this::toMultipartElement)
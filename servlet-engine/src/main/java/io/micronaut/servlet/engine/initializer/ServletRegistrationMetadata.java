@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.engine.initializer;
+
+import io.micronaut.core.annotation.Internal;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.annotation.MultipartConfig;
+import jakarta.servlet.annotation.ServletSecurity;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The registration of a servlet or filter bean, computed at build time by the servlet annotation processor
+ * from {@code @WebServlet}, {@code @WebFilter}, {@code @MultipartConfig} and {@code @ServletSecurity}. The
+ * {@link MicronautServletInitializer} applies it as is, instead of resolving these annotations at startup.
+ *
+ * <p>Members that are not set keep the defaults of the initializer, which is why some members have no default value.</p>
+ *
+ * @since 4.12.0
+ */
+@Internal
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ServletRegistrationMetadata {
+
+    /**
+     * @return The URL patterns of the servlet or filter
+     */
+    String[] urlPatterns() default {};
+
+    /**
+     * @return The names of the servlets the filter applies to
+     */
+    String[] servletNames() default {};
+
+    /**
+     * @return The dispatcher types of the filter
+     */
+    DispatcherType[] dispatcherTypes() default {DispatcherType.REQUEST};
+
+    /**
+     * @return The load on startup order of the servlet, not set to load servlets in the order they are registered
+     */
+    int loadOnStartup();
+
+    /**
+     * @return Whether the servlet or filter supports async, not set to use the default of the initializer
+     */
+    boolean asyncSupported();
+
+    /**
+     * @return The names of the init parameters
+     */
+    String[] initParamNames() default {};
+
+    /**
+     * @return The values of the init parameters, in the order of their names
+     */
+    String[] initParamValues() default {};
+
+    /**
+     * @return The multipart configuration of the servlet
+     */
+    MultipartConfig[] multipartConfig() default {};
+
+    /**
+     * @return The security constraints of the servlet
+     */
+    ServletSecurity[] servletSecurity() default {};
+}
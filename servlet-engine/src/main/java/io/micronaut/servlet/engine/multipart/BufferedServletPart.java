@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.engine.multipart;
+
+import io.micronaut.core.annotation.Internal;
+import jakarta.servlet.http.Part;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link Part} whose content has been read from a {@link StreamingMultipartBody}, so that parts
+ * that are not streamed can be bound once the request input belongs to the streaming parser.
+ *
+ * @since 4.12.0
+ */
+@Internal
+final class BufferedServletPart implements Part {
+
+    private final MultipartParser.Part part;
+    private final byte[] content;
+
+    /**
+     * @param part    The parsed part
+     * @param content The content of the part
+     */
+    BufferedServletPart(MultipartParser.Part part, byte[] content) {
+        this.part = part;
+        this.content = content;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public String getContentType() {
+        return part.getContentType();
+    }
+
+    @Override
+    public String getName() {
+        return part.getName();
+    }
+
+    @Override
+    public String getSubmittedFileName() {
+        return part.getFilename();
+    }
+
+    @Override
+    public long getSize() {
+        return content.length;
+    }
+
+    @Override
+    public void write(String fileName) throws IOException {
+        Files.write(Paths.get(fileName), content);
+    }
+
+    @Override
+    public void delete() {
+        // nothing is stored outside the heap
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return part.getHeader(name);
+    }
+
+    @Override
+    public Collection<String> getHeaders(String name) {
+        String value = part.getHeader(name);
+        return value != null ? List.of(value) : Collections.emptyList();
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        return part.headers().keySet();
+    }
+}
@@ -0,0 +1,393 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.engine.multipart;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A streaming {@code multipart/form-data} parser that works directly on the request input stream.
+ *
+ * <p>Parts are returned one at a time by {@link #nextPart()} and their content is read through
+ * {@link Part#getInputStream()} as it arrives, so nothing is buffered beyond a single read buffer.
+ * Moving to the next part skips whatever content of the current part was not read.</p>
+ *
+ * <p>This class is not thread safe.</p>
+ *
+ * @since 4.12.0
+ */
+@Internal
+public final class MultipartParser {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final byte DASH = '-';
+
+    private final InputStream inputStream;
+    private final byte[] delimiter;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private boolean finished;
+    private PartInputStream current;
+
+    /**
+     * @param inputStream The raw request body
+     * @param boundary    The boundary from the content type
+     */
+    public MultipartParser(@NonNull InputStream inputStream, @NonNull String boundary) {
+        this(inputStream, boundary, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param inputStream The raw request body
+     * @param boundary    The boundary from the content type
+     * @param bufferSize  The read buffer size, which also limits the length of a part header line
+     */
+    public MultipartParser(@NonNull InputStream inputStream, @NonNull String boundary, int bufferSize) {
+        this.inputStream = inputStream;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.buffer = new byte[Math.max(bufferSize, delimiter.length * 2 + 4)];
+        // the first boundary is not preceded by a line break, pretend it is so the
+        // preamble can be skipped like the content of any other part
+        buffer[0] = CR;
+        buffer[1] = LF;
+        this.limit = 2;
+        this.current = new PartInputStream();
+    }
+
+    /**
+     * Resolve the boundary parameter of a multipart content type.
+     *
+     * @param contentType The raw content type header
+     * @return The boundary or {@code null} if there is none
+     */
+    @Nullable
+    public static String boundary(@Nullable String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        for (String parameter : contentType.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.regionMatches(true, 0, "boundary=", 0, 9)) {
+                String value = trimmed.substring(9).trim();
+                if (value.length() > 1 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+                    value = value.substring(1, value.length() - 1);
+                }
+                return value.isEmpty() ? null : value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Advance to the next part, skipping any unread content of the current one.
+     *
+     * @return The next part or {@code null} once the closing boundary has been read
+     * @throws IOException If the body could not be read or is malformed
+     */
+    @Nullable
+    public Part nextPart() throws IOException {
+        if (finished) {
+            return null;
+        }
+        if (current != null) {
+            current.skipRemaining();
+            current = null;
+        }
+        // the buffer now starts with the delimiter
+        require(delimiter.length + 2);
+        position += delimiter.length;
+        if (buffer[position] == DASH && buffer[position + 1] == DASH) {
+            finished = true;
+            return null;
+        }
+        // transport padding is allowed between the boundary and the line break
+        while (true) {
+            require(2);
+            byte b = buffer[position];
+            if (b == ' ' || b == '\t') {
+                position++;
+            } else if (b == CR && buffer[position + 1] == LF) {
+                position += 2;
+                break;
+            } else {
+                throw new IOException("Malformed multipart body: missing line break after boundary");
+            }
+        }
+        Map<String, String> headers = new LinkedHashMap<>();
+        String line;
+        while (!(line = readLine()).isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon <= 0) {
+                throw new IOException("Malformed multipart header: " + line);
+            }
+            headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ENGLISH), line.substring(colon + 1).trim());
+        }
+        current = new PartInputStream();
+        return new Part(Collections.unmodifiableMap(headers), current);
+    }
+
+    private String readLine() throws IOException {
+        int searchFrom = position;
+        while (true) {
+            for (int i = searchFrom; i < limit - 1; i++) {
+                if (buffer[i] == CR && buffer[i + 1] == LF) {
+                    String line = new String(buffer, position, i - position, StandardCharsets.UTF_8);
+                    position = i + 2;
+                    return line;
+                }
+            }
+            searchFrom = Math.max(position, limit - 1);
+            int before = position;
+            if (limit - position == buffer.length) {
+                throw new IOException("Multipart header line exceeds " + buffer.length + " bytes");
+            }
+            if (fill() == -1) {
+                throw new IOException("Unexpected end of multipart body while reading part headers");
+            }
+            searchFrom -= before - position;
+        }
+    }
+
+    /**
+     * Make sure at least the given number of bytes is buffered after the current position.
+     */
+    private void require(int count) throws IOException {
+        while (limit - position < count) {
+            if (fill() == -1) {
+                throw new IOException("Unexpected end of multipart body");
+            }
+        }
+    }
+
+    /**
+     * Compact the buffer and read more data into it.
+     *
+     * @return The number of bytes read or -1 at the end of the stream
+     */
+    private int fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        int read = inputStream.read(buffer, limit, buffer.length - limit);
+        if (read > 0) {
+            limit += read;
+        }
+        return read;
+    }
+
+    private int indexOfDelimiter() {
+        int last = limit - delimiter.length;
+        outer:
+        for (int i = position; i <= last; i++) {
+            for (int j = 0; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * A single part of the multipart body.
+     *
+     * @param headers     The part headers, keyed by lower case name
+     * @param inputStream The part content
+     */
+    public record Part(@NonNull Map<String, String> headers, @NonNull InputStream inputStream) {
+
+        /**
+         * @return The content of the part, only readable until the next part is requested
+         */
+        @NonNull
+        public InputStream getInputStream() {
+            return inputStream;
+        }
+
+        /**
+         * @param name The header name
+         * @return The header value
+         */
+        @Nullable
+        public String getHeader(@NonNull String name) {
+            return headers.get(name.toLowerCase(Locale.ENGLISH));
+        }
+
+        /**
+         * @return The form field name from the content disposition
+         */
+        @Nullable
+        public String getName() {
+            return dispositionParameter("name");
+        }
+
+        /**
+         * @return The submitted file name from the content disposition
+         */
+        @Nullable
+        public String getFilename() {
+            String extended = dispositionParameter("filename*");
+            if (extended != null) {
+                int quote = extended.indexOf("''");
+                if (quote > 0) {
+                    return URLDecoder.decode(extended.substring(quote + 2), StandardCharsets.UTF_8);
+                }
+            }
+            return dispositionParameter("filename");
+        }
+
+        /**
+         * @return The content type of the part
+         */
+        @Nullable
+        public String getContentType() {
+            return headers.get("content-type");
+        }
+
+        @Nullable
+        private String dispositionParameter(String parameter) {
+            String disposition = headers.get("content-disposition");
+            if (disposition == null) {
+                return null;
+            }
+            int i = disposition.indexOf(';');
+            while (i != -1 && i < disposition.length()) {
+                i++;
+                while (i < disposition.length() && disposition.charAt(i) == ' ') {
+                    i++;
+                }
+                int equals = disposition.indexOf('=', i);
+                if (equals == -1) {
+                    return null;
+                }
+                String key = disposition.substring(i, equals).trim();
+                int valueStart = equals + 1;
+                String value;
+                int next;
+                if (valueStart < disposition.length() && disposition.charAt(valueStart) == '"') {
+                    StringBuilder builder = new StringBuilder();
+                    int j = valueStart + 1;
+                    while (j < disposition.length() && disposition.charAt(j) != '"') {
+                        char c = disposition.charAt(j);
+                        if (c == '\\' && j + 1 < disposition.length()) {
+                            c = disposition.charAt(++j);
+                        }
+                        builder.append(c);
+                        j++;
+                    }
+                    value = builder.toString();
+                    next = disposition.indexOf(';', j);
+                } else {
+                    next = disposition.indexOf(';', valueStart);
+                    value = disposition.substring(valueStart, next == -1 ? disposition.length() : next).trim();
+                }
+                if (key.equalsIgnoreCase(parameter)) {
+                    return value;
+                }
+                i = next;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Reads the content of the current part up to the next delimiter.
+     */
+    private final class PartInputStream extends InputStream {
+
+        private boolean done;
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (done || current != this) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            while (true) {
+                int index = indexOfDelimiter();
+                int available;
+                if (index != -1) {
+                    available = index - position;
+                    if (available == 0) {
+                        done = true;
+                        return -1;
+                    }
+                } else {
+                    // the tail of the buffer could be the start of a delimiter, keep it
+                    available = limit - position - (delimiter.length - 1);
+                }
+                if (available > 0) {
+                    int count = Math.min(len, available);
+                    System.arraycopy(buffer, position, b, off, count);
+                    position += count;
+                    return count;
+                }
+                if (fill() == -1) {
+                    throw new IOException("Unexpected end of multipart body before closing boundary");
+                }
+            }
+        }
+
+        @Override
+        public int available() {
+            if (done || current != this) {
+                return 0;
+            }
+            int index = indexOfDelimiter();
+            return Math.max(0, index != -1 ? index - position : limit - position - (delimiter.length - 1));
+        }
+
+        void skipRemaining() throws IOException {
+            while (!done) {
+                int index = indexOfDelimiter();
+                if (index != -1) {
+                    position = index;
+                    done = true;
+                } else {
+                    position = Math.max(position, limit - (delimiter.length - 1));
+                    if (fill() == -1) {
+                        throw new IOException("Unexpected end of multipart body before closing boundary");
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.engine.multipart;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.multipart.PartData;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * A chunk of the content of a streamed multipart part.
+ *
+ * @param bytes       The chunk
+ * @param contentType The content type of the part
+ * @since 4.12.0
+ */
+@Internal
+record ServletPartData(byte[] bytes, MediaType contentType) implements PartData {
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public ByteBuffer getByteBuffer() {
+        return ByteBuffer.wrap(bytes);
+    }
+
+    @Override
+    public Optional<MediaType> getContentType() {
+        return Optional.ofNullable(contentType);
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.engine.multipart;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.multipart.PartData;
+import io.micronaut.http.multipart.StreamingFileUpload;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * A {@link StreamingFileUpload} backed by a part of a {@link StreamingMultipartBody}.
+ *
+ * @since 4.12.0
+ */
+@Internal
+final class ServletStreamingFileUpload implements StreamingFileUpload {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final StreamingMultipartBody body;
+    private final String name;
+    private final Sinks.Empty<Void> done = Sinks.empty();
+    private MultipartParser.Part part;
+    private boolean resolved;
+    private volatile Optional<MediaType> contentType;
+    private volatile long size;
+    private volatile boolean complete;
+
+    /**
+     * Upload for a part that is looked up by name on first access.
+     *
+     * @param body The multipart body
+     * @param name The part name
+     */
+    ServletStreamingFileUpload(StreamingMultipartBody body, String name) {
+        this.body = body;
+        this.name = name;
+    }
+
+    /**
+     * Upload for a part that has already been read.
+     *
+     * @param body The multipart body
+     * @param part The part
+     */
+    ServletStreamingFileUpload(StreamingMultipartBody body, MultipartParser.Part part) {
+        this.body = body;
+        this.name = part.getName();
+        this.part = part;
+        this.resolved = true;
+    }
+
+    @Override
+    public Optional<MediaType> getContentType() {
+        Optional<MediaType> contentType = this.contentType;
+        if (contentType == null) {
+            contentType = Optional.ofNullable(part()).map(MultipartParser.Part::getContentType).map(MediaType::new);
+            this.contentType = contentType;
+        }
+        return contentType;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getFilename() {
+        MultipartParser.Part p = part();
+        return p != null ? p.getFilename() : null;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public long getDefinedSize() {
+        MultipartParser.Part p = part();
+        String contentLength = p != null ? p.getHeader("content-length") : null;
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength);
+            } catch (NumberFormatException e) {
+                // fall through
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean isComplete() {
+        return complete;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super PartData> subscriber) {
+        Flux.<PartData>generate(sink -> {
+            try {
+                MultipartParser.Part p = part();
+                if (p == null) {
+                    sink.complete();
+                    return;
+                }
+                byte[] chunk = new byte[CHUNK_SIZE];
+                int read = body.read(p, chunk);
+                if (read == -1) {
+                    markComplete();
+                    sink.complete();
+                } else {
+                    size += read;
+                    sink.next(new ServletPartData(read == chunk.length ? chunk : Arrays.copyOf(chunk, read), getContentType().orElse(null)));
+                }
+            } catch (IOException e) {
+                sink.error(e);
+            }
+        }).doFinally(signal -> done.tryEmitEmpty()).subscribeOn(body.getScheduler()).subscribe(subscriber);
+    }
+
+    @Override
+    @Deprecated
+    public Publisher<Boolean> transferTo(String location) {
+        return transferTo(new File(location));
+    }
+
+    @Override
+    public Publisher<Boolean> transferTo(File destination) {
+        return Mono.fromCallable(() -> {
+            try (OutputStream outputStream = new FileOutputStream(destination)) {
+                return copyTo(outputStream);
+            }
+        }).doFinally(signal -> done.tryEmitEmpty()).subscribeOn(body.getScheduler());
+    }
+
+    @Override
+    public Publisher<Boolean> transferTo(OutputStream outputStream) {
+        return Mono.fromCallable(() -> copyTo(outputStream))
+            .doFinally(signal -> done.tryEmitEmpty())
+            .subscribeOn(body.getScheduler());
+    }
+
+    @Override
+    public Publisher<Boolean> delete() {
+        // nothing is stored, discarding the part just releases the next one
+        MultipartParser.Part p = resolvedPart();
+        if (p != null) {
+            body.discard(p);
+        }
+        done.tryEmitEmpty();
+        return Mono.just(true);
+    }
+
+    /**
+     * @return Completes once the content of this part has been consumed or discarded
+     */
+    Mono<Void> whenDone() {
+        return done.asMono();
+    }
+
+    private boolean copyTo(OutputStream outputStream) throws IOException {
+        MultipartParser.Part p = part();
+        if (p == null) {
+            return false;
+        }
+        byte[] chunk = new byte[CHUNK_SIZE];
+        int read;
+        while ((read = body.read(p, chunk)) != -1) {
+            outputStream.write(chunk, 0, read);
+            size += read;
+        }
+        markComplete();
+        return true;
+    }
+
+    private void markComplete() {
+        complete = true;
+        done.tryEmitEmpty();
+    }
+
+    private synchronized MultipartParser.Part resolvedPart() {
+        return part;
+    }
+
+    private synchronized MultipartParser.Part part() {
+        if (!resolved) {
+            try {
+                part = body.find(name);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error reading part [" + name + "]: " + e.getMessage(), e);
+            }
+            resolved = true;
+        }
+        return part;
+    }
+}
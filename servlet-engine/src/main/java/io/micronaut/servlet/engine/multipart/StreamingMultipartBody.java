@@ -0,0 +1,227 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.engine.multipart;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.multipart.StreamingFileUpload;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * A {@code multipart/form-data} request body that is parsed while it is read.
+ *
+ * <p>Parts arrive in the order the client sent them and only one of them can be read at a time.
+ * Requesting a part skips the unread content of the parts before it, except for the parts that were
+ * {@link #retain(Collection) retained}: those are buffered in memory until they are asked for. Reads
+ * happen on demand on the blocking I/O executor, so a slow subscriber slows down reading of the
+ * request body.</p>
+ *
+ * @since 4.12.0
+ */
+@Internal
+public final class StreamingMultipartBody {
+
+    private final MultipartParser parser;
+    private final Scheduler scheduler;
+    private final Set<String> retained = new HashSet<>();
+    private final Map<String, Deque<MultipartParser.Part>> pending = new HashMap<>();
+    private final Map<MultipartParser.Part, InputStream> detached = new IdentityHashMap<>();
+    private MultipartParser.Part current;
+    private boolean currentClaimed;
+    private boolean currentDiscarded;
+
+    /**
+     * @param inputStream The raw request body
+     * @param boundary    The multipart boundary
+     * @param ioExecutor  The executor used for blocking reads
+     */
+    public StreamingMultipartBody(@NonNull InputStream inputStream, @NonNull String boundary, @NonNull Executor ioExecutor) {
+        this.parser = new MultipartParser(inputStream, boundary);
+        this.scheduler = Schedulers.fromExecutor(ioExecutor);
+    }
+
+    /**
+     * Keep the parts with the given names when they are passed over while looking for another part,
+     * typically the names of all parts a route binds, so that they can be bound in any order.
+     *
+     * @param names The part names
+     */
+    public synchronized void retain(@NonNull Collection<String> names) {
+        retained.addAll(names);
+    }
+
+    /**
+     * All parts of the body in the order they arrive. The next part is only read once the content
+     * of the previous one has been consumed, or discarded with {@link StreamingFileUpload#delete()}.
+     *
+     * @return The parts
+     */
+    @NonNull
+    public Flux<StreamingFileUpload> parts() {
+        return Mono.fromCallable(this::nextUpload)
+            .subscribeOn(scheduler)
+            .flatMapMany(upload -> Flux.concat(
+                Mono.just(upload),
+                Flux.defer(() -> upload.whenDone().thenMany(parts()))
+            ));
+    }
+
+    /**
+     * A lazily resolved upload for the part with the given name. The part is looked up
+     * the first time the upload is accessed.
+     *
+     * @param name The part name
+     * @return The upload
+     */
+    @NonNull
+    public StreamingFileUpload upload(@NonNull String name) {
+        return new ServletStreamingFileUpload(this, name);
+    }
+
+    /**
+     * Read the whole content of the part with the given name, blocking until it has arrived.
+     *
+     * @param name The part name
+     * @return The part or {@code null} if there is no such part left in the body
+     * @throws IOException If the body could not be read
+     */
+    @Nullable
+    public synchronized jakarta.servlet.http.Part completedPart(@NonNull String name) throws IOException {
+        MultipartParser.Part part = find(name);
+        if (part == null) {
+            return null;
+        }
+        InputStream content = detached.remove(part);
+        byte[] bytes = (content != null ? content : part.getInputStream()).readAllBytes();
+        return new BufferedServletPart(part, bytes);
+    }
+
+    /**
+     * @return The scheduler used for blocking reads
+     */
+    Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Advance to the part with the given name, or take it from the parts that were retained on the way.
+     *
+     * @param name The part name
+     * @return The part or {@code null} if there is no such part left in the body
+     * @throws IOException If the body could not be read
+     */
+    @Nullable
+    synchronized MultipartParser.Part find(String name) throws IOException {
+        Deque<MultipartParser.Part> buffered = pending.get(name);
+        if (buffered != null) {
+            MultipartParser.Part part = buffered.poll();
+            if (buffered.isEmpty()) {
+                pending.remove(name);
+            }
+            return part;
+        }
+        if (current != null && !currentClaimed && name.equals(current.getName())) {
+            currentClaimed = true;
+            return current;
+        }
+        MultipartParser.Part part;
+        while ((part = nextPart()) != null) {
+            if (name.equals(part.getName())) {
+                currentClaimed = true;
+                return part;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Read the next chunk of the content of the given part.
+     *
+     * @param part   The part
+     * @param buffer The buffer to read into
+     * @return The number of bytes read or -1 if the part has been fully read or skipped
+     * @throws IOException If the body could not be read
+     */
+    synchronized int read(MultipartParser.Part part, byte[] buffer) throws IOException {
+        InputStream content = detached.get(part);
+        if (content == null) {
+            return part.getInputStream().read(buffer, 0, buffer.length);
+        }
+        int read = content.read(buffer, 0, buffer.length);
+        if (read == -1) {
+            detached.remove(part);
+        }
+        return read;
+    }
+
+    /**
+     * Discard the unread content of a part instead of retaining it.
+     *
+     * @param part The part
+     */
+    synchronized void discard(MultipartParser.Part part) {
+        detached.remove(part);
+        if (part == current) {
+            currentDiscarded = true;
+        }
+    }
+
+    @Nullable
+    private ServletStreamingFileUpload nextUpload() throws IOException {
+        MultipartParser.Part part;
+        synchronized (this) {
+            part = nextPart();
+            currentClaimed = part != null;
+        }
+        return part != null ? new ServletStreamingFileUpload(this, part) : null;
+    }
+
+    private synchronized MultipartParser.Part nextPart() throws IOException {
+        if (current != null && !currentDiscarded && retained.contains(current.getName())) {
+            byte[] remaining = current.getInputStream().readAllBytes();
+            if (currentClaimed) {
+                // the upload that holds the part keeps reading from the buffered remainder
+                if (remaining.length > 0) {
+                    detached.put(current, new ByteArrayInputStream(remaining));
+                }
+            } else {
+                pending.computeIfAbsent(current.getName(), n -> new ArrayDeque<>())
+                    .add(new MultipartParser.Part(current.headers(), new ByteArrayInputStream(remaining)));
+            }
+        }
+        current = parser.nextPart();
+        currentClaimed = false;
+        currentDiscarded = false;
+        return current;
+    }
+}
@@ -23,6 +23,12 @@ import io.micronaut.runtime.ApplicationConfiguration;
 import io.micronaut.runtime.server.EmbeddedServer;
 import io.micronaut.runtime.server.event.ServerShutdownEvent;
 import io.micronaut.runtime.server.event.ServerStartupEvent;
+import io.micronaut.servlet.engine.MicronautServletConfiguration;
+import io.micronaut.servlet.http.ServletHttpHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
 
 /**
  * Abstract base class for servlet embedded servers.
@@ -33,6 +39,8 @@ import io.micronaut.runtime.server.event.ServerStartupEvent;
  */
 public abstract class AbstractServletServer<T> implements EmbeddedServer {
 
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractServletServer.class);
+
     private final ApplicationContext applicationContext;
     private final ApplicationConfiguration applicationConfiguration;
     private final T server;
@@ -99,6 +107,7 @@ public abstract class AbstractServletServer<T> implements EmbeddedServer {
     public final EmbeddedServer stop() {
         if (isRunning()) {
             try {
+                drain();
                 stopServer();
                 applicationContext.publishEvent(new ServerShutdownEvent(this));
                 if (applicationContext.isRunning()) {
@@ -114,6 +123,58 @@ public abstract class AbstractServletServer<T> implements EmbeddedServer {
         return this;
     }
 
+    /**
+     * Stops accepting connections and waits for the requests that are being handled, if a
+     * {@link MicronautServletConfiguration#getShutdownTimeout() shutdown timeout} is configured.
+     *
+     * @throws Exception when an error occurred draining the server
+     */
+    private void drain() throws Exception {
+        Duration timeout = applicationContext.findBean(MicronautServletConfiguration.class)
+            .flatMap(MicronautServletConfiguration::getShutdownTimeout)
+            .orElse(null);
+        if (timeout == null || timeout.isZero() || timeout.isNegative()) {
+            return;
+        }
+        for (ServletHttpHandler<?, ?> handler : applicationContext.getBeansOfType(ServletHttpHandler.class)) {
+            handler.startDraining();
+        }
+        stopAccepting();
+        if (!awaitRequests(timeout) && LOG.isWarnEnabled()) {
+            LOG.warn("Stopping HTTP server with requests still in flight after waiting {}", timeout);
+        }
+    }
+
+    /**
+     * Stop accepting new connections, leaving the open connections to complete their requests. Called
+     * before {@link #stopServer()} when a shutdown timeout is configured.
+     *
+     * @throws Exception when an error occurred
+     * @since 4.12.0
+     */
+    protected void stopAccepting() throws Exception {
+    }
+
+    /**
+     * Wait for the requests that are being handled, after {@link #stopAccepting()}. Servers override this with
+     * the graceful stop of the container, which also covers requests to other servlets and static resources.
+     * The default only waits for the requests handled by the {@link ServletHttpHandler} beans.
+     *
+     * @param timeout The maximum time to wait
+     * @return Whether all requests completed in time
+     * @throws Exception when an error occurred
+     * @since 4.12.0
+     */
+    protected boolean awaitRequests(Duration timeout) throws Exception {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        boolean completed = true;
+        for (ServletHttpHandler<?, ?> handler : applicationContext.getBeansOfType(ServletHttpHandler.class)) {
+            Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+            completed &= handler.awaitInFlight(remaining);
+        }
+        return completed;
+    }
+
     /**
      * Start the server.
      *
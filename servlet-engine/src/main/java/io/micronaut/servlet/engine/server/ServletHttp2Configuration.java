@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.engine.server;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.server.HttpServerConfiguration;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * HTTP/2 settings shared by the servlet-based servers. They apply to HTTP/2 over TLS and to h2c when
+ * {@code micronaut.server.http-version} is {@code 2.0}. Settings that are not set keep the default of the server.
+ *
+ * <p>Not every server supports every setting: Tomcat has no setting for the connection window, the frame size
+ * and the header table size, Undertow has none for the connection window and the stream idle timeout and applies
+ * the idle timeout to HTTP/1.1 connections too, and Jetty uses the connector idle timeout for HTTP/2 connections.</p>
+ *
+ * @since 4.12.0
+ */
+@ConfigurationProperties(ServletHttp2Configuration.PREFIX)
+public class ServletHttp2Configuration {
+
+    /**
+     * The prefix of the HTTP/2 configuration.
+     */
+    public static final String PREFIX = HttpServerConfiguration.PREFIX + ".http2";
+
+    private Integer maxConcurrentStreams;
+    private Integer initialStreamWindowSize;
+    private Integer initialConnectionWindowSize;
+    private Integer maxFrameSize;
+    private Integer headerTableSize;
+    private Duration idleTimeout;
+    private Duration streamIdleTimeout;
+
+    /**
+     * @return The maximum number of concurrent streams per connection
+     */
+    public OptionalInt getMaxConcurrentStreams() {
+        return maxConcurrentStreams != null ? OptionalInt.of(maxConcurrentStreams) : OptionalInt.empty();
+    }
+
+    /**
+     * The maximum number of concurrent streams a client may open on a connection.
+     *
+     * @param maxConcurrentStreams The maximum number of concurrent streams
+     */
+    public void setMaxConcurrentStreams(@Nullable Integer maxConcurrentStreams) {
+        this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+
+    /**
+     * @return The initial flow-control window of a stream, in bytes
+     */
+    public OptionalInt getInitialStreamWindowSize() {
+        return initialStreamWindowSize != null ? OptionalInt.of(initialStreamWindowSize) : OptionalInt.empty();
+    }
+
+    /**
+     * The initial flow-control window of a stream, that is how many bytes of a request body a client may send
+     * before the server acknowledges them.
+     *
+     * @param initialStreamWindowSize The window size in bytes
+     */
+    public void setInitialStreamWindowSize(@Nullable Integer initialStreamWindowSize) {
+        this.initialStreamWindowSize = initialStreamWindowSize;
+    }
+
+    /**
+     * @return The initial flow-control window of a connection, in bytes
+     */
+    public OptionalInt getInitialConnectionWindowSize() {
+        return initialConnectionWindowSize != null ? OptionalInt.of(initialConnectionWindowSize) : OptionalInt.empty();
+    }
+
+    /**
+     * The initial flow-control window of a connection, shared by all of its streams.
+     *
+     * @param initialConnectionWindowSize The window size in bytes
+     */
+    public void setInitialConnectionWindowSize(@Nullable Integer initialConnectionWindowSize) {
+        this.initialConnectionWindowSize = initialConnectionWindowSize;
+    }
+
+    /**
+     * @return The largest frame payload the server accepts, in bytes
+     */
+    public OptionalInt getMaxFrameSize() {
+        return maxFrameSize != null ? OptionalInt.of(maxFrameSize) : OptionalInt.empty();
+    }
+
+    /**
+     * The largest frame payload the server accepts, between {@code 16384} and {@code 16777215} bytes.
+     *
+     * @param maxFrameSize The maximum frame size in bytes
+     */
+    public void setMaxFrameSize(@Nullable Integer maxFrameSize) {
+        this.maxFrameSize = maxFrameSize;
+    }
+
+    /**
+     * @return The size of the HPACK table used to decode request headers, in bytes
+     */
+    public OptionalInt getHeaderTableSize() {
+        return headerTableSize != null ? OptionalInt.of(headerTableSize) : OptionalInt.empty();
+    }
+
+    /**
+     * The size of the HPACK dynamic table used to decode request headers.
+     *
+     * @param headerTableSize The table size in bytes
+     */
+    public void setHeaderTableSize(@Nullable Integer headerTableSize) {
+        this.headerTableSize = headerTableSize;
+    }
+
+    /**
+     * @return How long a connection without active streams stays open
+     */
+    public Optional<Duration> getIdleTimeout() {
+        return Optional.ofNullable(idleTimeout);
+    }
+
+    /**
+     * How long a connection without active streams stays open.
+     *
+     * @param idleTimeout The idle timeout
+     */
+    public void setIdleTimeout(@Nullable Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * @return How long a stream may wait for data
+     */
+    public Optional<Duration> getStreamIdleTimeout() {
+        return Optional.ofNullable(streamIdleTimeout);
+    }
+
+    /**
+     * How long a stream may wait for data from the client, or for the client to accept data, before it is reset.
+     *
+     * @param streamIdleTimeout The stream idle timeout
+     */
+    public void setStreamIdleTimeout(@Nullable Duration streamIdleTimeout) {
+        this.streamIdleTimeout = streamIdleTimeout;
+    }
+}
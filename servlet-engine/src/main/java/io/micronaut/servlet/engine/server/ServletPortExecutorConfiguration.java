@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.engine.server;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.http.server.HttpServerConfiguration;
+import jakarta.inject.Inject;
+
+/**
+ * The thread pool of a port that a servlet-based server listens on in addition to its main port, such as
+ * a management port exposed with {@code endpoints.all.port}. Each additional port gets a pool of its own, so
+ * that requests to it are served when the pool of the main port is saturated. Ports without configuration
+ * get a pool with the default settings.
+ *
+ * <p>The name of the configuration is the port, for example {@code micronaut.server.port-executors.8081.max-threads}.</p>
+ *
+ * @since 4.12.0
+ */
+@EachProperty(ServletPortExecutorConfiguration.PREFIX)
+public class ServletPortExecutorConfiguration {
+
+    /**
+     * The prefix of the port executor configuration.
+     */
+    public static final String PREFIX = HttpServerConfiguration.PREFIX + ".port-executors";
+
+    /**
+     * The default minimum number of threads.
+     */
+    public static final int DEFAULT_MIN_THREADS = 1;
+
+    /**
+     * The default maximum number of threads.
+     */
+    public static final int DEFAULT_MAX_THREADS = 8;
+
+    /**
+     * The default number of requests that wait for a thread.
+     */
+    public static final int DEFAULT_QUEUE_SIZE = 64;
+
+    private final int port;
+    private int minThreads = DEFAULT_MIN_THREADS;
+    private int maxThreads = DEFAULT_MAX_THREADS;
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+    private boolean virtualThreads;
+
+    /**
+     * @param name The name of the configuration, which is the port
+     */
+    @Inject
+    public ServletPortExecutorConfiguration(@Parameter String name) {
+        this(parsePort(name));
+    }
+
+    /**
+     * Configuration with the default settings.
+     *
+     * @param port The port
+     */
+    public ServletPortExecutorConfiguration(int port) {
+        this.port = port;
+    }
+
+    /**
+     * @return The port
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * @return The minimum number of threads
+     */
+    public int getMinThreads() {
+        return minThreads;
+    }
+
+    /**
+     * The minimum number of threads that are kept when idle. Default value ({@value #DEFAULT_MIN_THREADS}).
+     *
+     * @param minThreads The minimum number of threads
+     */
+    public void setMinThreads(int minThreads) {
+        this.minThreads = Math.max(0, minThreads);
+    }
+
+    /**
+     * @return The maximum number of threads
+     */
+    public int getMaxThreads() {
+        return Math.max(maxThreads, Math.max(1, minThreads));
+    }
+
+    /**
+     * The maximum number of threads. With virtual threads, the maximum number of requests that are handled
+     * at once. Default value ({@value #DEFAULT_MAX_THREADS}).
+     *
+     * @param maxThreads The maximum number of threads
+     */
+    public void setMaxThreads(int maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+    /**
+     * @return The number of requests that wait for a thread
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * The number of requests that wait for a thread when all threads are busy. Requests that do not fit are
+     * rejected. Default value ({@value #DEFAULT_QUEUE_SIZE}).
+     *
+     * @param queueSize The queue size
+     */
+    public void setQueueSize(int queueSize) {
+        this.queueSize = Math.max(0, queueSize);
+    }
+
+    /**
+     * @return Whether requests are handled on virtual threads
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Whether requests are handled on virtual threads, at most {@code max-threads} at once. Ignored before Java 21.
+     * Default value (false).
+     *
+     * @param virtualThreads Whether to use virtual threads
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    private static int parsePort(String name) {
+        try {
+            return Integer.parseInt(name);
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException("The name of a [" + PREFIX + "] entry must be a port, but was [" + name + "]");
+        }
+    }
+}
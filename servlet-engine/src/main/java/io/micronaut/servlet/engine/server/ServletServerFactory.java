@@ -18,6 +18,8 @@ package io.micronaut.servlet.engine.server;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.env.Environment;
 import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.io.ResourceResolver;
 import io.micronaut.core.io.socket.SocketUtils;
 import io.micronaut.http.HttpVersion;
@@ -26,11 +28,15 @@ import io.micronaut.http.server.exceptions.HttpServerException;
 import io.micronaut.http.server.exceptions.ServerStartupException;
 import io.micronaut.http.ssl.SslBuilder;
 import io.micronaut.http.ssl.SslConfiguration;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.scheduling.LoomSupport;
+import io.micronaut.servlet.engine.BoundedVirtualThreadExecutor;
 
 import javax.net.ssl.*;
 import java.security.SecureRandom;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -112,6 +118,87 @@ public abstract class ServletServerFactory extends SslBuilder<SSLContext> {
         return serverConfiguration;
     }
 
+    /**
+     * @return The Unix domain socket configuration, if a socket path is configured
+     * @since 4.12.0
+     */
+    protected Optional<ServletUnixSocketConfiguration> getUnixSocketConfiguration() {
+        return applicationContext.findBean(ServletUnixSocketConfiguration.class);
+    }
+
+    /**
+     * @return The HTTP/2 configuration
+     * @since 4.12.0
+     */
+    protected ServletHttp2Configuration getHttp2Configuration() {
+        return applicationContext.findBean(ServletHttp2Configuration.class).orElseGet(ServletHttp2Configuration::new);
+    }
+
+    /**
+     * The thread pool configuration of an additional port. Ports without configuration get the defaults.
+     *
+     * @param port The port
+     * @return The thread pool configuration
+     * @since 4.12.0
+     */
+    protected @NonNull ServletPortExecutorConfiguration getPortExecutorConfiguration(int port) {
+        return applicationContext.findBean(ServletPortExecutorConfiguration.class, Qualifiers.byName(String.valueOf(port)))
+            .orElseGet(() -> new ServletPortExecutorConfiguration(port));
+    }
+
+    /**
+     * Create the virtual thread executor of an additional port, which handles at most {@code max-threads}
+     * requests at once and rejects requests that do not fit in the queue.
+     *
+     * @param configuration The thread pool configuration of the port
+     * @return The executor, or {@code null} if the port does not use virtual threads or they are not supported
+     * @since 4.12.0
+     */
+    protected @Nullable Executor newPortVirtualThreadExecutor(@NonNull ServletPortExecutorConfiguration configuration) {
+        if (!configuration.isVirtualThreads() || !LoomSupport.isSupported()) {
+            return null;
+        }
+        return new BoundedVirtualThreadExecutor(
+            "port-" + configuration.getPort() + "-virtual-",
+            configuration.getMaxThreads(),
+            configuration.getQueueSize(),
+            BoundedVirtualThreadExecutor.RejectionPolicy.ABORT
+        );
+    }
+
+    /**
+     * @return The TLS session and reload configuration
+     * @since 4.12.0
+     */
+    protected @NonNull ServletTlsConfiguration getTlsConfiguration() {
+        return applicationContext.findBean(ServletTlsConfiguration.class).orElseGet(ServletTlsConfiguration::new);
+    }
+
+    /**
+     * Run the given reload when the key or trust store file changes, if
+     * {@value ServletTlsConfiguration#RELOAD_INTERVAL_PROPERTY} is set.
+     *
+     * @param reload Replaces the TLS context of the server
+     * @since 4.12.0
+     */
+    protected void watchKeyStores(@NonNull SslKeyStoreWatcher.Reload reload) {
+        applicationContext.findBean(SslKeyStoreWatcher.class).ifPresent(watcher -> watcher.watch(sslConfiguration, reload));
+    }
+
+    /**
+     * Enable or disable TLS session tickets if configured. This must run before TLS is first used, since the JDK
+     * reads the setting once, and keeps a value that was set on the command line.
+     *
+     * @since 4.12.0
+     */
+    protected void configureSessionTickets() {
+        getTlsConfiguration().getSessionTickets().ifPresent(enabled -> {
+            if (System.getProperty(ServletTlsConfiguration.SESSION_TICKETS_PROPERTY) == null) {
+                System.setProperty(ServletTlsConfiguration.SESSION_TICKETS_PROPERTY, enabled.toString());
+            }
+        });
+    }
+
     /**
      * @return The SSL config
      */
@@ -133,6 +220,7 @@ public abstract class ServletServerFactory extends SslBuilder<SSLContext> {
 
             try {
 
+                configureSessionTickets();
                 final SSLContext sslContext = SSLContext.getInstance(protocol);
                 final KeyManagerFactory keyManagerFactory = getKeyManagerFactory(ssl);
                 final KeyManager[] keyManagers = keyManagerFactory.getKeyManagers();
@@ -144,6 +232,10 @@ public abstract class ServletServerFactory extends SslBuilder<SSLContext> {
                         trustManagers,
                         new SecureRandom()
                 );
+                ServletTlsConfiguration tls = getTlsConfiguration();
+                SSLSessionContext sessionContext = sslContext.getServerSessionContext();
+                tls.getSessionCacheSize().ifPresent(sessionContext::setSessionCacheSize);
+                tls.getSessionTimeout().ifPresent(timeout -> sessionContext.setSessionTimeout((int) timeout.toSeconds()));
                 return Optional.of(sslContext);
             } catch (Throwable e) {
                 throw new HttpServerException("HTTPS configuration error: " + e.getMessage(), e);
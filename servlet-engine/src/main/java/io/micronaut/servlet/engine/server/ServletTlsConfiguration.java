@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.engine.server;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.server.HttpServerConfiguration;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * TLS settings of the servlet-based servers that complement {@code micronaut.ssl}: the session cache, which lets
+ * clients that reconnect resume their session instead of doing a full handshake, and the reload of the key
+ * and trust stores when their files change.
+ *
+ * @since 4.12.0
+ */
+@ConfigurationProperties(ServletTlsConfiguration.PREFIX)
+public class ServletTlsConfiguration {
+
+    /**
+     * The prefix of the TLS configuration.
+     */
+    public static final String PREFIX = HttpServerConfiguration.PREFIX + ".tls";
+
+    /**
+     * The property for the reload interval.
+     */
+    public static final String RELOAD_INTERVAL_PROPERTY = PREFIX + ".reload-interval";
+
+    /**
+     * The JDK system property that enables stateless session resumption with session tickets.
+     */
+    public static final String SESSION_TICKETS_PROPERTY = "jdk.tls.server.enableSessionTicketExtension";
+
+    private Integer sessionCacheSize;
+    private Duration sessionTimeout;
+    private Boolean sessionTickets;
+    private Duration reloadInterval;
+
+    /**
+     * @return The maximum number of sessions in the server session cache
+     */
+    public OptionalInt getSessionCacheSize() {
+        return sessionCacheSize != null ? OptionalInt.of(sessionCacheSize) : OptionalInt.empty();
+    }
+
+    /**
+     * The maximum number of sessions in the server session cache, 0 for no limit. Defaults to the setting of the JDK.
+     *
+     * @param sessionCacheSize The cache size
+     */
+    public void setSessionCacheSize(@Nullable Integer sessionCacheSize) {
+        this.sessionCacheSize = sessionCacheSize;
+    }
+
+    /**
+     * @return How long a session can be resumed
+     */
+    public Optional<Duration> getSessionTimeout() {
+        return Optional.ofNullable(sessionTimeout);
+    }
+
+    /**
+     * How long a session can be resumed after it was created. Defaults to the setting of the JDK.
+     *
+     * @param sessionTimeout The session timeout
+     */
+    public void setSessionTimeout(@Nullable Duration sessionTimeout) {
+        this.sessionTimeout = sessionTimeout;
+    }
+
+    /**
+     * @return Whether sessions are resumed with session tickets
+     */
+    public Optional<Boolean> getSessionTickets() {
+        return Optional.ofNullable(sessionTickets);
+    }
+
+    /**
+     * Whether sessions are resumed with session tickets, which keep the session state on the client instead of the
+     * server cache. Sets the {@value #SESSION_TICKETS_PROPERTY} system property, which the JDK reads once when TLS is first
+     * used, so it has no effect if TLS was used before the server starts or the property is already set.
+     *
+     * @param sessionTickets Whether to enable session tickets
+     */
+    public void setSessionTickets(@Nullable Boolean sessionTickets) {
+        this.sessionTickets = sessionTickets;
+    }
+
+    /**
+     * @return How often the key and trust store files are checked for changes
+     */
+    public Optional<Duration> getReloadInterval() {
+        return Optional.ofNullable(reloadInterval);
+    }
+
+    /**
+     * How often the key and trust store files are checked for changes. When a file changes, the server replaces its
+     * TLS context without closing connections: new handshakes use the new certificates. Stores on the classpath are not
+     * checked. Not set by default, which disables the reload.
+     *
+     * @param reloadInterval The interval
+     */
+    public void setReloadInterval(@Nullable Duration reloadInterval) {
+        this.reloadInterval = reloadInterval;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.engine.server;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.http.server.HttpServerConfiguration;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration of a Unix domain socket listener that servlet-based servers open in addition to their TCP
+ * listeners, for clients such as a sidecar proxy on the same host.
+ *
+ * @since 4.12.0
+ */
+@ConfigurationProperties(ServletUnixSocketConfiguration.PREFIX)
+@Requires(property = ServletUnixSocketConfiguration.PATH_PROPERTY)
+public class ServletUnixSocketConfiguration {
+
+    /**
+     * The prefix of the Unix domain socket configuration.
+     */
+    public static final String PREFIX = HttpServerConfiguration.PREFIX + ".unix-socket";
+
+    /**
+     * The property for the socket path.
+     */
+    public static final String PATH_PROPERTY = PREFIX + ".path";
+
+    private String path;
+
+    /**
+     * @return The path of the socket file
+     */
+    public @NonNull Path getPath() {
+        return Path.of(path);
+    }
+
+    /**
+     * The path of the socket file. The file is created when the server starts and must not exist already.
+     *
+     * @param path The path of the socket file
+     */
+    public void setPath(@NonNull String path) {
+        this.path = path;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.engine.server;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.ssl.SslConfiguration;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Checks the key and trust store files of the SSL configuration for changes at the interval set with
+ * {@value ServletTlsConfiguration#RELOAD_INTERVAL_PROPERTY}, and tells the server to reload its TLS context when
+ * they change. Modification times are polled rather than watched, since a watch service misses files that are
+ * replaced through a symbolic link, as mounted Kubernetes secrets are.
+ *
+ * <p>A reload that fails, for example because a file was read while it was being written, is retried at the next
+ * check and the server keeps its current TLS context until then.</p>
+ *
+ * @since 4.12.0
+ */
+@Singleton
+@Requires(property = ServletTlsConfiguration.RELOAD_INTERVAL_PROPERTY)
+public final class SslKeyStoreWatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SslKeyStoreWatcher.class);
+    private static final String FILE_PREFIX = "file:";
+
+    private final TaskScheduler taskScheduler;
+    private final Duration interval;
+    private final List<ScheduledFuture<?>> tasks = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param configuration The TLS configuration
+     * @param taskScheduler The scheduler of the checks
+     */
+    public SslKeyStoreWatcher(ServletTlsConfiguration configuration,
+                              @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler) {
+        this.taskScheduler = taskScheduler;
+        this.interval = configuration.getReloadInterval().orElseThrow();
+    }
+
+    /**
+     * Run the reload whenever the key or trust store file of the given configuration changes.
+     *
+     * @param sslConfiguration The SSL configuration
+     * @param reload           Replaces the TLS context of the server
+     */
+    public void watch(@NonNull SslConfiguration sslConfiguration, @NonNull Reload reload) {
+        List<Path> files = new ArrayList<>(2);
+        sslConfiguration.getKeyStore().getPath().map(SslKeyStoreWatcher::toFile).ifPresent(files::add);
+        sslConfiguration.getTrustStore().getPath().map(SslKeyStoreWatcher::toFile).ifPresent(files::add);
+        if (files.isEmpty()) {
+            LOG.debug("No key or trust store file to watch, the TLS context is not reloaded");
+            return;
+        }
+        Check check = new Check(files, reload);
+        tasks.add(taskScheduler.scheduleWithFixedDelay(interval, interval, check));
+    }
+
+    /**
+     * Stop checking the files.
+     */
+    @PreDestroy
+    void close() {
+        for (ScheduledFuture<?> task : tasks) {
+            task.cancel(false);
+        }
+        tasks.clear();
+    }
+
+    @Nullable
+    private static Path toFile(String path) {
+        if (path.startsWith(ServletStaticResourceConfiguration.CLASSPATH_PREFIX)) {
+            return null;
+        }
+        if (path.startsWith(FILE_PREFIX + "//")) {
+            return Path.of(URI.create(path));
+        }
+        if (path.startsWith(FILE_PREFIX)) {
+            return Path.of(path.substring(FILE_PREFIX.length()));
+        }
+        return Path.of(path);
+    }
+
+    /**
+     * Replaces the TLS context of a server.
+     */
+    @FunctionalInterface
+    public interface Reload {
+
+        /**
+         * Reload the key and trust stores and replace the TLS context. Connections that are open keep their session.
+         *
+         * @throws Exception If the stores could not be loaded
+         */
+        void reload() throws Exception;
+    }
+
+    /**
+     * Compares the modification time and size of the files with those of the last successful reload.
+     */
+    private static final class Check implements Runnable {
+
+        private final List<Path> files;
+        private final Reload reload;
+        private List<Object> lastStamp;
+
+        Check(List<Path> files, Reload reload) {
+            this.files = files;
+            this.reload = reload;
+            this.lastStamp = stamp();
+        }
+
+        @Override
+        public void run() {
+            List<Object> stamp = stamp();
+            if (stamp == null || stamp.equals(lastStamp)) {
+                return;
+            }
+            try {
+                reload.reload();
+                lastStamp = stamp;
+                if (LOG.isInfoEnabled()) {
+                    LOG.info("Reloaded the TLS context after a change of {}", files);
+                }
+            } catch (Exception e) {
+                LOG.error("Error reloading the TLS context after a change of {}, retrying at the next check: {}", files, e.getMessage(), e);
+            }
+        }
+
+        @Nullable
+        private List<Object> stamp() {
+            List<Object> stamp = new ArrayList<>(files.size() * 2);
+            for (Path file : files) {
+                try {
+                    stamp.add(Files.getLastModifiedTime(file));
+                    stamp.add(Files.size(file));
+                } catch (IOException e) {
+                    // the file is being replaced
+                    return null;
+                }
+            }
+            return stamp;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.micronaut.servlet.engine
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.scheduling.LoomSupport
+import spock.lang.Requires
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+
+@Requires({ jvm.java21 })
+class BoundedVirtualThreadExecutorSpec extends Specification {
+
+    void "test tasks above the limit are queued and then rejected"() {
+        given:
+        def bounded = new BoundedVirtualThreadExecutor(LoomSupport.newVirtualThreadFactory("test-"), 1, 1, BoundedVirtualThreadExecutor.RejectionPolicy.ABORT)
+        def release = new CountDownLatch(1)
+        def done = new CountDownLatch(2)
+
+        when:
+        bounded.execute { release.await(); done.countDown() }
+        bounded.execute { done.countDown() }
+
+        then:
+        bounded.activeCount == 1
+        bounded.queuedCount == 1
+
+        when:
+        bounded.execute { }
+
+        then:
+        thrown(RejectedExecutionException)
+        bounded.rejectedCount == 1
+
+        when:
+        release.countDown()
+
+        then:
+        done.await(10, TimeUnit.SECONDS)
+        bounded.queuedCount == 0
+    }
+
+    void "test rejected tasks run on the caller with the caller runs policy"() {
+        given:
+        def bounded = new BoundedVirtualThreadExecutor(LoomSupport.newVirtualThreadFactory("test-"), 1, 0, BoundedVirtualThreadExecutor.RejectionPolicy.CALLER_RUNS)
+        def release = new CountDownLatch(1)
+        String ranOn = null
+
+        when:
+        bounded.execute { release.await() }
+        bounded.execute { ranOn = Thread.currentThread().name }
+
+        then:
+        ranOn == Thread.currentThread().name
+        bounded.rejectedCount == 1
+
+        cleanup:
+        release.countDown()
+    }
+
+    void "test the counters are registered as metrics"() {
+        given:
+        def bounded = new BoundedVirtualThreadExecutor(LoomSupport.newVirtualThreadFactory("test-"), 1, 0, BoundedVirtualThreadExecutor.RejectionPolicy.ABORT)
+        def registry = new SimpleMeterRegistry()
+        new BoundedVirtualThreadExecutorMetrics(bounded).bindTo(registry)
+        def release = new CountDownLatch(1)
+
+        when:
+        bounded.execute { release.await() }
+        bounded.execute { }
+
+        then:
+        thrown(RejectedExecutionException)
+        registry.get("servlet.virtual.threads.active").gauge().value() == 1
+        registry.get("servlet.virtual.threads.queued").gauge().value() == 0
+        registry.get("servlet.virtual.threads.limit").gauge().value() == 1
+        registry.get("servlet.virtual.threads.rejected").functionCounter().count() == 1
+
+        cleanup:
+        release.countDown()
+    }
+
+    void "test the concurrency limit must be positive"() {
+        when:
+        new BoundedVirtualThreadExecutor(LoomSupport.newVirtualThreadFactory("test-"), 0, 1, BoundedVirtualThreadExecutor.RejectionPolicy.ABORT)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
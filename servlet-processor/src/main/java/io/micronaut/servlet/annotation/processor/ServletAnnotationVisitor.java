@@ -17,20 +17,36 @@ package io.micronaut.servlet.annotation.processor;
 
 import static io.micronaut.core.util.ArrayUtils.concat;
 
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.AnnotationValueBuilder;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.Element;
 import io.micronaut.inject.ast.MethodElement;
 import io.micronaut.inject.processing.ProcessingException;
 import io.micronaut.inject.visitor.TypeElementVisitor;
 import io.micronaut.inject.visitor.VisitorContext;
 import jakarta.servlet.Filter;
 import jakarta.servlet.Servlet;
+import jakarta.servlet.annotation.MultipartConfig;
+import jakarta.servlet.annotation.ServletSecurity;
 import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.annotation.WebInitParam;
 import jakarta.servlet.annotation.WebListener;
 import jakarta.servlet.annotation.WebServlet;
+import java.util.List;
 import java.util.Set;
 
 public class ServletAnnotationVisitor implements TypeElementVisitor<Object, Object> {
+
+    private static final String REGISTRATION_METADATA = "io.micronaut.servlet.engine.initializer.ServletRegistrationMetadata";
+    private static final String MEMBER_URL_PATTERNS = "urlPatterns";
+    private static final String MEMBER_SERVLET_NAMES = "servletNames";
+    private static final String MEMBER_DISPATCHER_TYPES = "dispatcherTypes";
+    private static final String MEMBER_LOAD_ON_STARTUP = "loadOnStartup";
+    private static final String MEMBER_ASYNC_SUPPORTED = "asyncSupported";
+    private static final String MEMBER_INIT_PARAMS = "initParams";
+
     @Override
     public VisitorKind getVisitorKind() {
         return VisitorKind.ISOLATING;
@@ -66,6 +82,7 @@ public class ServletAnnotationVisitor implements TypeElementVisitor<Object, Obje
                 throw new ProcessingException(element, "Servlet Spec 12.2 violation: glob '*' can only exist at end of prefix based matches: bad spec \"" + pattern + "\"");
             }
         }
+        annotateRegistration(element);
     }
 
     @Override
@@ -76,5 +93,54 @@ public class ServletAnnotationVisitor implements TypeElementVisitor<Object, Obje
         if (element.hasDeclaredAnnotation(WebServlet.class) && !element.getGenericReturnType().isAssignable(Servlet.class)) {
             throw new ProcessingException(element, "Methods annotated with @ServletBean must implement jakarta.servlet.Servlet");
         }
+        annotateRegistration(element);
+    }
+
+    /**
+     * Add the registration of a servlet or filter, so that the servlet initializer does not need to resolve
+     * the servlet annotations at startup.
+     *
+     * @param element The servlet or filter type, or the factory method
+     */
+    private static void annotateRegistration(Element element) {
+        AnnotationValue<WebServlet> webServlet = element.getAnnotation(WebServlet.class);
+        AnnotationValue<WebFilter> webFilter = element.getAnnotation(WebFilter.class);
+        if (webServlet != null) {
+            AnnotationValue<MultipartConfig> multipartConfig = element.getAnnotation(MultipartConfig.class);
+            AnnotationValue<ServletSecurity> servletSecurity = element.getDeclaredAnnotation(ServletSecurity.class);
+            element.annotate(REGISTRATION_METADATA, builder -> {
+                builder.member(MEMBER_URL_PATTERNS, concat(webServlet.stringValues(), webServlet.stringValues(MEMBER_URL_PATTERNS)));
+                webServlet.intValue(MEMBER_LOAD_ON_STARTUP).ifPresent(loadOnStartup -> builder.member(MEMBER_LOAD_ON_STARTUP, loadOnStartup));
+                webServlet.booleanValue(MEMBER_ASYNC_SUPPORTED).ifPresent(async -> builder.member(MEMBER_ASYNC_SUPPORTED, async));
+                initParams(webServlet.getAnnotations(MEMBER_INIT_PARAMS, WebInitParam.class), builder);
+                if (multipartConfig != null) {
+                    builder.member("multipartConfig", new AnnotationValue<?>[] {multipartConfig});
+                }
+                if (servletSecurity != null) {
+                    builder.member("servletSecurity", new AnnotationValue<?>[] {servletSecurity});
+                }
+            });
+        } else if (webFilter != null) {
+            element.annotate(REGISTRATION_METADATA, builder -> {
+                builder.member(MEMBER_URL_PATTERNS, concat(webFilter.stringValues(), webFilter.stringValues(MEMBER_URL_PATTERNS)));
+                builder.member(MEMBER_SERVLET_NAMES, webFilter.stringValues(MEMBER_SERVLET_NAMES));
+                String[] dispatcherTypes = webFilter.stringValues(MEMBER_DISPATCHER_TYPES);
+                if (dispatcherTypes.length > 0) {
+                    builder.member(MEMBER_DISPATCHER_TYPES, dispatcherTypes);
+                }
+                webFilter.booleanValue(MEMBER_ASYNC_SUPPORTED).ifPresent(async -> builder.member(MEMBER_ASYNC_SUPPORTED, async));
+                initParams(webFilter.getAnnotations(MEMBER_INIT_PARAMS, WebInitParam.class), builder);
+            });
+        }
+    }
+
+    private static void initParams(List<AnnotationValue<WebInitParam>> initParams, AnnotationValueBuilder<?> builder) {
+        List<AnnotationValue<WebInitParam>> complete = initParams.stream()
+            .filter(param -> param.stringValue("name").isPresent() && param.stringValue().isPresent())
+            .toList();
+        if (!complete.isEmpty()) {
+            builder.member("initParamNames", complete.stream().map(param -> param.stringValue("name").orElseThrow()).toArray(String[]::new));
+            builder.member("initParamValues", complete.stream().map(param -> param.stringValue().orElseThrow()).toArray(String[]::new));
+        }
     }
 }
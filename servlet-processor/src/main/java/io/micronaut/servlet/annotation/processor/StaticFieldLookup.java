@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.annotation.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a lookup table of the public static final fields of the given classes, so that constants can be
+ * found by name without reflection. The table is generated next to the annotated type, in a class named after
+ * it with the {@value StaticFieldLookupVisitor#TABLE_SUFFIX} suffix, whose {@code fields(String className)} method
+ * returns the constants of a class by field name.
+ *
+ * @since 4.12.0
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface StaticFieldLookup {
+
+    /**
+     * @return The classes whose constants are included
+     */
+    Class<?>[] value();
+
+    /**
+     * @return The type of the constants that are included
+     */
+    Class<?> type() default Object.class;
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.servlet.annotation.processor;
+
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.ElementModifier;
+import io.micronaut.inject.ast.ElementQuery;
+import io.micronaut.inject.ast.FieldElement;
+import io.micronaut.inject.processing.ProcessingException;
+import io.micronaut.inject.visitor.TypeElementVisitor;
+import io.micronaut.inject.visitor.VisitorContext;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the lookup table of a type annotated with {@link StaticFieldLookup}.
+ *
+ * @since 4.12.0
+ */
+@Internal
+public class StaticFieldLookupVisitor implements TypeElementVisitor<StaticFieldLookup, Object> {
+
+    /**
+     * The suffix of the name of the generated table.
+     */
+    public static final String TABLE_SUFFIX = "Table";
+
+    private static final Set<ElementModifier> CONSTANT_MODIFIERS = Set.of(ElementModifier.PUBLIC, ElementModifier.STATIC, ElementModifier.FINAL);
+
+    @Override
+    public VisitorKind getVisitorKind() {
+        return VisitorKind.ISOLATING;
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationNames() {
+        return Set.of(StaticFieldLookup.class.getName());
+    }
+
+    @Override
+    public void visitClass(ClassElement element, VisitorContext context) {
+        AnnotationValue<StaticFieldLookup> lookup = element.getAnnotation(StaticFieldLookup.class);
+        if (lookup == null) {
+            return;
+        }
+        String type = lookup.stringValue("type").orElse(Object.class.getName());
+        Map<ClassElement, List<FieldElement>> constants = new LinkedHashMap<>();
+        for (String className : lookup.stringValues()) {
+            ClassElement owner = context.getClassElement(className)
+                .orElseThrow(() -> new ProcessingException(element, "Class [" + className + "] of @StaticFieldLookup is not on the classpath"));
+            List<FieldElement> fields = owner.getEnclosedElements(
+                    ElementQuery.ALL_FIELDS.onlyDeclared().modifiers(modifiers -> modifiers.containsAll(CONSTANT_MODIFIERS))
+                ).stream()
+                .filter(field -> field.getType().isAssignable(type))
+                .toList();
+            constants.put(owner, fields);
+        }
+
+        String tableName = element.getSimpleName() + TABLE_SUFFIX;
+        context.visitGeneratedSourceFile(element.getPackageName(), tableName, element).ifPresent(file -> {
+            try (Writer writer = file.openWriter()) {
+                writer.write(tableSource(element.getPackageName(), tableName, constants));
+            } catch (IOException e) {
+                throw new ProcessingException(element, "Error writing the lookup table " + tableName + ": " + e.getMessage());
+            }
+        });
+    }
+
+    private static String tableSource(String packageName, String tableName, Map<ClassElement, List<FieldElement>> constants) {
+        StringBuilder source = new StringBuilder(4096);
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import java.util.Map;\n\n")
+            .append("@io.micronaut.core.annotation.Generated\n")
+            .append("@SuppressWarnings({\"deprecation\", \"removal\"})\n")
+            .append("final class ").append(tableName).append(" {\n\n");
+        int index = 0;
+        for (Map.Entry<ClassElement, List<FieldElement>> entry : constants.entrySet()) {
+            String owner = entry.getKey().getCanonicalName();
+            source.append("    private static final Map<String, Object> FIELDS_").append(index++).append(" = Map.ofEntries(");
+            List<FieldElement> fields = entry.getValue();
+            for (int i = 0; i < fields.size(); i++) {
+                String name = fields.get(i).getName();
+                source.append(i == 0 ? "\n" : ",\n")
+                    .append("        Map.entry(\"").append(name).append("\", ").append(owner).append('.').append(name).append(')');
+            }
+            source.append("\n    );\n\n");
+        }
+        source.append("    private ").append(tableName).append("() {\n    }\n\n")
+            .append("    /**\n")
+            .append("     * @param className The name of a class\n")
+            .append("     * @return The constants of the class by field name\n")
+            .append("     */\n")
+            .append("    static Map<String, Object> fields(String className) {\n")
+            .append("        return switch (className) {\n");
+        index = 0;
+        for (ClassElement owner : constants.keySet()) {
+            source.append("            case \"").append(owner.getName()).append("\" -> FIELDS_").append(index++).append(";\n");
+        }
+        source.append("            default -> Map.of();\n")
+            .append("        };\n")
+            .append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+}
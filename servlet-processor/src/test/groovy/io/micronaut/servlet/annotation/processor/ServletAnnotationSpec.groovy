@@ -8,6 +8,8 @@ import jakarta.servlet.Servlet
 class ServletAnnotationSpec
         extends AbstractTypeElementSpec {
 
+    private static final String REGISTRATION_METADATA = 'io.micronaut.servlet.engine.initializer.ServletRegistrationMetadata'
+
     void "test servlet annotated is bean"() {
         given:
         def context = buildContext('''
@@ -70,4 +72,69 @@ class Listener implements ServletContextListener {
         getBean(context, 'test.Filter1')
         getBean(context, 'test.Filter2')
     }
+
+    void "test registration metadata is computed at build time"() {
+        given:
+        def servlet = buildBeanDefinition('test.SecureServlet', '''
+package test;
+
+import jakarta.servlet.GenericServlet;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.annotation.HttpConstraint;
+import jakarta.servlet.annotation.MultipartConfig;
+import jakarta.servlet.annotation.ServletSecurity;
+import jakarta.servlet.annotation.WebInitParam;
+import jakarta.servlet.annotation.WebServlet;
+import java.io.*;
+
+@WebServlet(value = "/one", urlPatterns = "/two", loadOnStartup = 3, initParams = @WebInitParam(name = "foo", value = "bar"))
+@MultipartConfig(maxFileSize = 1024)
+@ServletSecurity(@HttpConstraint(rolesAllowed = "admin"))
+class SecureServlet extends GenericServlet {
+    @Override
+    public void service(ServletRequest req, ServletResponse res)
+        throws ServletException, IOException {
+    }
+}
+''')
+        def filter = buildBeanDefinition('test.DispatchFilter', '''
+package test;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.GenericFilter;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.annotation.WebFilter;
+import java.io.*;
+
+@WebFilter(value = "/filtered/*", dispatcherTypes = {DispatcherType.REQUEST, DispatcherType.ASYNC}, asyncSupported = true)
+class DispatchFilter extends GenericFilter {
+    @Override public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+        throws IOException, ServletException {
+    }
+}
+''')
+
+        when:
+        def servletMetadata = servlet.getAnnotation(REGISTRATION_METADATA)
+        def filterMetadata = filter.getAnnotation(REGISTRATION_METADATA)
+
+        then:
+        servletMetadata.stringValues('urlPatterns') == ['/one', '/two'] as String[]
+        servletMetadata.intValue('loadOnStartup').asInt == 3
+        !servletMetadata.booleanValue('asyncSupported').present
+        servletMetadata.stringValues('initParamNames') == ['foo'] as String[]
+        servletMetadata.stringValues('initParamValues') == ['bar'] as String[]
+        servletMetadata.getAnnotations('multipartConfig')[0].longValue('maxFileSize').asLong == 1024
+        servletMetadata.getAnnotations('servletSecurity')[0].getAnnotation('value').get().stringValues('rolesAllowed') == ['admin'] as String[]
+
+        filterMetadata.stringValues('urlPatterns') == ['/filtered/*'] as String[]
+        filterMetadata.stringValues('dispatcherTypes') == ['REQUEST', 'ASYNC'] as String[]
+        filterMetadata.booleanValue('asyncSupported').get()
+        !filterMetadata.intValue('loadOnStartup').present
+    }
 }
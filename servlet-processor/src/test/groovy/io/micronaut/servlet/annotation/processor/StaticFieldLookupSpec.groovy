@@ -0,0 +1,42 @@
+package io.micronaut.servlet.annotation.processor
+
+import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
+
+import java.lang.reflect.Method
+import java.nio.charset.Charset
+import java.nio.charset.StandardCharsets
+
+class StaticFieldLookupSpec extends AbstractTypeElementSpec {
+
+    void "test lookup table is generated for the constants of the given type"() {
+        given:
+        def classLoader = buildClassLoader('test.Charsets', '''
+package test;
+
+import io.micronaut.servlet.annotation.processor.StaticFieldLookup;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@StaticFieldLookup(value = {StandardCharsets.class, TimeUnit.class}, type = Charset.class)
+class Charsets {
+}
+''')
+        Method fields = classLoader.loadClass('test.CharsetsTable').getDeclaredMethod('fields', String)
+        fields.accessible = true
+
+        when:
+        Map<String, Object> charsets = fields.invoke(null, StandardCharsets.name) as Map<String, Object>
+
+        then:
+        charsets['UTF_8'] == StandardCharsets.UTF_8
+        charsets['ISO_8859_1'] == StandardCharsets.ISO_8859_1
+        charsets.values().every { it instanceof Charset }
+
+        and: 'constants of other types are left out'
+        (fields.invoke(null, 'java.util.concurrent.TimeUnit') as Map).isEmpty()
+
+        and: 'classes that are not in the table have no constants'
+        (fields.invoke(null, 'java.lang.String') as Map).isEmpty()
+    }
+}
@@ -0,0 +1,118 @@
+package io.micronaut.http.server.tck.tomcat.tests;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.server.types.files.StreamedFile;
+import io.micronaut.http.server.types.files.SystemFile;
+import io.micronaut.http.tck.AssertionUtils;
+import io.micronaut.http.tck.BodyAssertion;
+import io.micronaut.http.tck.HttpResponseAssertion;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static io.micronaut.http.tck.TestScenario.asserts;
+
+/**
+ * Streamed files are written with non-blocking I/O on Tomcat, these are large enough to fill the socket
+ * buffers so that the output stream stops being ready part way through the transfer.
+ */
+class FileStreamingTest {
+
+    public static final String SPEC_NAME = "FileStreamingTest";
+
+    private static final String CONTENT = "0123456789abcdef".repeat(256 * 1024);
+
+    @Test
+    void testStreamedFile() throws IOException {
+        asserts(SPEC_NAME,
+            HttpRequest.GET("/file-streaming/streamed"),
+            (server, request) -> AssertionUtils.assertDoesNotThrow(server, request,
+                HttpResponseAssertion.builder()
+                    .status(HttpStatus.OK)
+                    .body(CONTENT)
+                    .build()));
+    }
+
+    @Test
+    void testStreamedFileWithLength() throws IOException {
+        asserts(SPEC_NAME,
+            HttpRequest.GET("/file-streaming/sized"),
+            (server, request) -> AssertionUtils.assertDoesNotThrow(server, request,
+                HttpResponseAssertion.builder()
+                    .status(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(CONTENT.length()))
+                    .body(CONTENT)
+                    .build()));
+    }
+
+    /**
+     * System files are handed to the sendfile support of the connector, so unlike the streamed files
+     * they do not go through the non-blocking writer.
+     */
+    @Test
+    void testSystemFile() throws IOException {
+        asserts(SPEC_NAME,
+            HttpRequest.GET("/file-streaming/system"),
+            (server, request) -> AssertionUtils.assertDoesNotThrow(server, request,
+                HttpResponseAssertion.builder()
+                    .status(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(CONTENT.length()))
+                    .body(CONTENT)
+                    .build()));
+    }
+
+    @Test
+    void testMultipleRanges() throws IOException {
+        asserts(SPEC_NAME,
+            HttpRequest.GET("/file-streaming/system").header(HttpHeaders.RANGE, "bytes=0-9,1048576-"),
+            (server, request) -> AssertionUtils.assertDoesNotThrow(server, request,
+                HttpResponseAssertion.builder()
+                    .status(HttpStatus.PARTIAL_CONTENT)
+                    .body(BodyAssertion.builder().body(CONTENT.substring(1048576)).contains())
+                    .build()));
+    }
+
+    @Controller("/file-streaming")
+    @Requires(property = "spec.name", value = SPEC_NAME)
+    static class FileController {
+
+        private final File file;
+
+        FileController() {
+            try {
+                file = File.createTempFile("file-streaming", ".txt");
+                file.deleteOnExit();
+                Files.writeString(file.toPath(), CONTENT);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Get("/streamed")
+        StreamedFile streamed() {
+            return new StreamedFile(new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.US_ASCII)), MediaType.TEXT_PLAIN_TYPE);
+        }
+
+        @Get("/sized")
+        StreamedFile sized() {
+            byte[] bytes = CONTENT.getBytes(StandardCharsets.US_ASCII);
+            return new StreamedFile(new ByteArrayInputStream(bytes), MediaType.TEXT_PLAIN_TYPE, file.lastModified(), bytes.length);
+        }
+
+        @Get("/system")
+        SystemFile system() {
+            return new SystemFile(file, MediaType.TEXT_PLAIN_TYPE);
+        }
+    }
+}
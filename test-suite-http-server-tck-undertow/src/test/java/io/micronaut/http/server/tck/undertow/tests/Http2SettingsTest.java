@@ -0,0 +1,96 @@
+package io.micronaut.http.server.tck.undertow.tests;
+
+import io.micronaut.http.tck.ServerUnderTest;
+import io.micronaut.http.tck.ServerUnderTestProviderUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Connects with h2c prior knowledge and checks that the SETTINGS frame sent by the server reflects
+ * the {@code micronaut.server.http2} configuration.
+ */
+class Http2SettingsTest {
+
+    public static final String SPEC_NAME = "Http2SettingsTest";
+
+    private static final int SETTINGS = 0x4;
+    private static final int WINDOW_UPDATE = 0x8;
+    private static final int ACK = 0x1;
+    private static final int HEADER_TABLE_SIZE = 0x1;
+    private static final int MAX_CONCURRENT_STREAMS = 0x3;
+    private static final int INITIAL_WINDOW_SIZE = 0x4;
+    private static final int MAX_FRAME_SIZE = 0x5;
+
+    @Test
+    void testSettingsAreAdvertised() throws Exception {
+        Map<String, Object> configuration = Map.of(
+            "micronaut.server.http-version", "2.0",
+            "micronaut.server.http2.max-concurrent-streams", 250,
+            "micronaut.server.http2.initial-stream-window-size", 1048576,
+            "micronaut.server.http2.max-frame-size", 32768,
+            "micronaut.server.http2.header-table-size", 8192
+        );
+        try (ServerUnderTest server = ServerUnderTestProviderUtils.getServerUnderTestProvider().getServer(SPEC_NAME, configuration)) {
+            Map<Integer, Long> settings = new HashMap<>();
+            readPreface(server.getPort().orElseThrow(), settings);
+
+            assertEquals(250L, settings.get(MAX_CONCURRENT_STREAMS));
+            assertEquals(1048576L, settings.get(INITIAL_WINDOW_SIZE));
+            assertEquals(32768L, settings.get(MAX_FRAME_SIZE));
+            assertEquals(8192L, settings.get(HEADER_TABLE_SIZE));
+        }
+    }
+
+    /**
+     * Reads the frames the server sends after the connection preface, up to the first frame that is neither
+     * a SETTINGS frame nor a connection level WINDOW_UPDATE frame.
+     *
+     * @return The connection window increment, or 0
+     */
+    private static long readPreface(int port, Map<Integer, Long> settings) throws IOException {
+        try (Socket socket = new Socket("localhost", port)) {
+            socket.setSoTimeout(5000);
+            OutputStream out = socket.getOutputStream();
+            out.write("PRI * HTTP/2.0\r\n\r\nSM\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            // an empty SETTINGS frame
+            out.write(new byte[] {0, 0, 0, SETTINGS, 0, 0, 0, 0, 0});
+            out.flush();
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            long connectionWindowIncrement = 0;
+            boolean settingsRead = false;
+            while (true) {
+                int length = (in.readUnsignedByte() << 16) | in.readUnsignedShort();
+                int type = in.readUnsignedByte();
+                int flags = in.readUnsignedByte();
+                int streamId = in.readInt() & 0x7FFFFFFF;
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                if (type == SETTINGS && (flags & ACK) == 0) {
+                    DataInputStream entries = new DataInputStream(new ByteArrayInputStream(payload));
+                    for (int i = 0; i < length / 6; i++) {
+                        settings.put(entries.readUnsignedShort(), entries.readInt() & 0xFFFFFFFFL);
+                    }
+                    settingsRead = true;
+                } else if (type == WINDOW_UPDATE && streamId == 0) {
+                    connectionWindowIncrement += ((payload[0] & 0x7F) << 24) | ((payload[1] & 0xFF) << 16) | ((payload[2] & 0xFF) << 8) | (payload[3] & 0xFF);
+                } else if (type != SETTINGS) {
+                    return connectionWindowIncrement;
+                }
+                if (settingsRead && type == SETTINGS && (flags & ACK) != 0) {
+                    // the server has acknowledged our settings, its own preface has been sent
+                    return connectionWindowIncrement;
+                }
+            }
+        }
+    }
+}